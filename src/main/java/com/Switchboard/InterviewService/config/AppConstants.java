@@ -3,7 +3,22 @@ package com.Switchboard.InterviewService.config;
 public class AppConstants {
     public static final String PAGE_NUMBER = "0";
     public static final String PAGE_SIZE = "10";
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int EXCERPT_LENGTH = 200;
     public static final String SORT_BY = "updatedAt";
     public static  final String SORT_DIR = "asc";
     public static final String PATH_VARIABLE = "interview-experience";
+    public static final String CACHE_INTERVIEW_BY_ID = "interviewById";
+    public static final String CACHE_COMPANY_FEED = "companyFeed";
+    public static final String SEARCH_CONFIG = "english";
+    public static final String SEARCH_ENGINE = "postgres";
+    public static final String SEARCH_ENGINE_LUCENE = "lucene";
+    public static final String AUTOCOMPLETE_LIMIT = "10";
+    public static final int MAX_BULK_DELETE = 1000;
+    public static final String EXPORT_FETCH_SIZE = "500";
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    public static final String PAGINATION_MODE = "offset";
+    public static final String PAGINATION_MODE_CURSOR = "cursor";
+    public static final String PAGINATION_MODE_SLICE = "slice";
+    public static final String PAGINATION_MODE_ESTIMATE = "estimate";
 }
@@ -0,0 +1,17 @@
+package com.Switchboard.InterviewService.config;
+
+import lombok.*;
+
+/**
+ * Cached value plus the metadata needed for probabilistic early refresh:
+ * when it was written and how long it took to compute.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope<T> {
+    private T value;
+    private long storedAtMillis;
+    private long computeMillis;
+}
@@ -0,0 +1,118 @@
+package com.Switchboard.InterviewService.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cache decorator implementing probabilistic early expiration (XFetch).
+ * A reader treats an entry as expired slightly before its TTL, with a probability that
+ * grows as expiry approaches and with the entry's recompute cost, so a hot key is
+ * refreshed by one caller instead of every caller stampeding the database at expiry.
+ * Only the sync read path (@Cacheable(sync = true)) measures recompute cost. That path is also
+ * single-flight per instance: concurrent misses share one load, and while an early refresh is
+ * running other readers keep getting the current value. Loaded values are stored with putLocal
+ * when the delegate is a TwoTierCache, so read-through fills never broadcast invalidations.
+ */
+public class EarlyRefreshCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration ttl;
+    private final double beta;
+    private final SingleFlight loads = new SingleFlight();
+
+    public EarlyRefreshCache(Cache delegate, Duration ttl, double beta) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.beta = beta;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheEnvelope<?> envelope = envelope(key);
+        return envelope == null ? null : new SimpleValueWrapper(envelope.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        return wrapper == null ? null : (T) wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEnvelope<?> envelope = envelope(key);
+        if (envelope != null && (!shouldRefreshEarly(envelope, System.currentTimeMillis()) || loads.isLoading(key))) {
+            return (T) envelope.getValue();
+        }
+
+        try {
+            return loads.load(key, () -> {
+                // A load that finished while this caller was deciding already filled the entry
+                CacheEnvelope<?> current = envelope == null ? envelope(key) : null;
+                if (current != null) {
+                    return (T) current.getValue();
+                }
+                long start = System.currentTimeMillis();
+                T value = valueLoader.call();
+                long now = System.currentTimeMillis();
+                fill(key, new CacheEnvelope<>(value, now, now - start));
+                return value;
+            });
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, new CacheEnvelope<>(value, System.currentTimeMillis(), 0));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private void fill(Object key, CacheEnvelope<?> envelope) {
+        if (delegate instanceof TwoTierCache twoTier) {
+            twoTier.putLocal(key, envelope);
+        } else {
+            delegate.put(key, envelope);
+        }
+    }
+
+    boolean shouldRefreshEarly(CacheEnvelope<?> envelope, long nowMillis) {
+        // XFetch: now - delta * beta * ln(rand) >= expiry, with ln(rand) <= 0
+        double jitter = envelope.getComputeMillis() * beta * Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return nowMillis - jitter >= envelope.getStoredAtMillis() + ttl.toMillis();
+    }
+
+    private CacheEnvelope<?> envelope(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null || !(wrapper.get() instanceof CacheEnvelope<?> envelope)) {
+            return null;
+        }
+        return envelope;
+    }
+}
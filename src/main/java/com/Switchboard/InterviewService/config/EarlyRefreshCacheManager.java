@@ -0,0 +1,41 @@
+package com.Switchboard.InterviewService.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the delegate manager in an {@link EarlyRefreshCache}.
+ */
+public class EarlyRefreshCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Duration> ttls;
+    private final Duration defaultTtl;
+    private final double beta;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public EarlyRefreshCacheManager(CacheManager delegate, Map<String, Duration> ttls, Duration defaultTtl, double beta) {
+        this.delegate = delegate;
+        this.ttls = ttls;
+        this.defaultTtl = defaultTtl;
+        this.beta = beta;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache cache = delegate.getCache(n);
+            return cache == null ? null : new EarlyRefreshCache(cache, ttls.getOrDefault(n, defaultTtl), beta);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,29 @@
+package com.Switchboard.InterviewService.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for the NDJSON export. Exports run on their own small bounded pool, so concurrent
+ * exports cannot take every database connection, while the MVC async defaults used by the other
+ * streamed and deferred endpoints stay untouched. The export request applies interview.export.timeout-ms
+ * itself, long enough to stream the whole table.
+ */
+@Configuration
+public class ExportAsyncConfig {
+
+    @Value("${interview.export.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Bean
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(maxConcurrent);
+        executor.setThreadNamePrefix("export-");
+        return executor;
+    }
+}
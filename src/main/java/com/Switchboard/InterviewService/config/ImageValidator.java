@@ -17,7 +17,10 @@ public class ImageValidator implements ConstraintValidator<ValidImage, Multipart
             return true;
         }
 
-        String contentType = file.getContentType();
+        return isAllowedType(file.getContentType());
+    }
+
+    public static boolean isAllowedType(String contentType) {
         return contentType != null && ALLOWED_TYPES.contains(contentType.toLowerCase());
     }
 }
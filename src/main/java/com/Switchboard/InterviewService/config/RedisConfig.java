@@ -1,9 +1,101 @@
 package com.Switchboard.InterviewService.config;
 
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Two-tier Spring Cache: Caffeine L1 per instance, shared Redis L2, early refresh on top.
+ * Active unless spring.cache.type is set to something else (e.g. "simple" for an
+ * in-process stand-in, "none" in tests).
+ */
 @EnableCaching
 @Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
 public class RedisConfig {
+
+    @Value("${interview.cache.by-id.ttl:10m}")
+    private Duration byIdTtl;
+
+    @Value("${interview.cache.company-feed.ttl:5m}")
+    private Duration companyFeedTtl;
+
+    @Value("${interview.cache.early-refresh.beta:1.0}")
+    private double earlyRefreshBeta;
+
+    @Value("${interview.cache.l1.max-size:10000}")
+    private long l1MaxSize;
+
+    // Upper bound on L1 staleness if an invalidation message is lost
+    @Value("${interview.cache.l1.ttl:1m}")
+    private Duration l1Ttl;
+
+    @Value("${interview.cache.invalidation-channel:interview-cache-invalidation}")
+    private String invalidationChannel;
+
+    @Bean
+    public TwoTierCacheManager twoTierCacheManager(RedisConnectionFactory connectionFactory,
+                                                   StringRedisTemplate redisTemplate,
+                                                   ObjectMapper objectMapper) {
+        // Typed serializer: no embedded class names, so entries stay compact
+        JavaType byIdType = objectMapper.getTypeFactory()
+                .constructParametricType(CacheEnvelope.class, InterviewExperienceResponse.class);
+        RedisCacheConfiguration byIdConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(byIdTtl)
+                .disableCachingNullValues()
+                .serializeValuesWith(SerializationPair.fromSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, byIdType)));
+
+        JavaType companyFeedType = objectMapper.getTypeFactory()
+                .constructParametricType(CacheEnvelope.class, PageResponseDTO.class);
+        RedisCacheConfiguration companyFeedConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(companyFeedTtl)
+                .disableCachingNullValues()
+                .serializeValuesWith(SerializationPair.fromSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, companyFeedType)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .withCacheConfiguration(AppConstants.CACHE_INTERVIEW_BY_ID, byIdConfig)
+                .withCacheConfiguration(AppConstants.CACHE_COMPANY_FEED, companyFeedConfig)
+                .disableCreateOnMissingCache()
+                .build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoTierCacheManager(redisCacheManager, redisTemplate, invalidationChannel, l1MaxSize, l1Ttl);
+    }
+
+    @Bean
+    @Primary
+    public CacheManager cacheManager(TwoTierCacheManager twoTierCacheManager) {
+        return new EarlyRefreshCacheManager(twoTierCacheManager,
+                Map.of(AppConstants.CACHE_INTERVIEW_BY_ID, byIdTtl, AppConstants.CACHE_COMPANY_FEED, companyFeedTtl),
+                byIdTtl, earlyRefreshBeta);
+    }
+
+    // Delivers other instances' invalidations to the local L1 caches
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoTierCacheManager twoTierCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(twoTierCacheManager, new ChannelTopic(invalidationChannel));
+        return container;
+    }
 }
@@ -1,14 +1,28 @@
 package com.Switchboard.InterviewService.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Only the S3 storage backend needs clients and credentials
 @Configuration
+@ConditionalOnProperty(name = "interview.storage.backend", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${aws.region}")
@@ -20,12 +34,78 @@ public class S3Config {
     @Value("${aws.secretKey}")
     private String secretKey;
 
+    // Optional S3-compatible endpoint (MinIO, LocalStack) for local runs; addressed path-style
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${interview.s3.multipart-threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    @Value("${interview.s3.multipart-part-size-bytes:8388608}")
+    private long multipartPartSizeBytes;
+
+    @Value("${interview.s3.upload-read-threads:8}")
+    private int uploadReadThreads;
+
+    @Value("${interview.s3.delete-concurrency:4}")
+    private int deleteConcurrency;
+
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials creds = AwsBasicCredentials.create(accessKey, secretKey);
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(creds));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Non-blocking client for image uploads. Objects above the multipart threshold are split
+     * into parts that are uploaded in parallel; smaller ones go up as a single PutObject.
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials creds = AwsBasicCredentials.create(accessKey, secretKey);
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(creds))
-                .build();
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(multipartPartSizeBytes)
+                        .build());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    // Reads upload streams (memory or the multipart spool file) for the async client, which never blocks its own threads
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3UploadExecutor() {
+        return Executors.newFixedThreadPool(uploadReadThreads, new CustomizableThreadFactory("s3-upload-"));
+    }
+
+    // Sends the DeleteObjects requests of large deletions in parallel; shared, so concurrent deletions together stay bounded
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3DeleteExecutor() {
+        return Executors.newFixedThreadPool(deleteConcurrency, new CustomizableThreadFactory("s3-delete-"));
+    }
+
+    // Signs short-lived direct-upload URLs locally; no request is made to S3
+    @Bean
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials creds = AwsBasicCredentials.create(accessKey, secretKey);
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(creds));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,49 @@
+package com.Switchboard.InterviewService.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the full-text search column and its GIN index on PostgreSQL. The column is a stored
+ * generated tsvector (title weighted A, content weighted B), so Postgres keeps it in sync on
+ * every insert and update; it is not mapped on the entity so other databases (H2 in tests)
+ * keep working with the Hibernate-generated schema. Both statements are idempotent.
+ */
+@Component
+public class SearchIndexInitializer implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    static final String ADD_SEARCH_VECTOR =
+            "ALTER TABLE interview_experience ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+            "GENERATED ALWAYS AS (" +
+            "setweight(to_tsvector('" + AppConstants.SEARCH_CONFIG + "', coalesce(title, '')), 'A') || " +
+            "setweight(to_tsvector('" + AppConstants.SEARCH_CONFIG + "', coalesce(content, '')), 'B')) STORED";
+
+    static final String CREATE_SEARCH_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_search_vector ON interview_experience USING GIN (search_vector)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            log.info("SearchIndexInitializer :: run :: skipping :: full-text search requires PostgreSQL, found {}", product);
+            return;
+        }
+
+        log.info("SearchIndexInitializer :: run :: ensuring :: search_vector column and GIN index");
+        jdbcTemplate.execute(ADD_SEARCH_VECTOR);
+        jdbcTemplate.execute(CREATE_SEARCH_INDEX);
+    }
+}
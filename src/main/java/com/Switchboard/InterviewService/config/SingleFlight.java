@@ -0,0 +1,46 @@
+package com.Switchboard.InterviewService.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs at most one load per key at a time in this instance. Callers that arrive while a load for
+ * their key is running wait for it and share its value or exception, so a cold or just-evicted
+ * hot key costs the database one query instead of one per concurrent request.
+ */
+final class SingleFlight {
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    boolean isLoading(Object key) {
+        return inFlight.containsKey(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T load(Object key, Callable<T> loader) throws Exception {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            T value = loader.call();
+            own.complete(value);
+            return value;
+        } catch (Throwable e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.Switchboard.InterviewService.config;
+
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * Near cache: an in-process Caffeine L1 in front of a shared L2 (Redis).
+ * Reads try L1, then L2, and promote L2 hits into L1. Writes and evictions go to both
+ * tiers and are broadcast so other instances drop their now-stale L1 entry. Read-through
+ * fills go through putLocal instead: they store what the database already holds, so there is
+ * nothing for other instances to drop. L1 keys are the string form of the cache key so remote
+ * invalidations can address them. Loads are made single-flight by EarlyRefreshCache in front.
+ */
+public class TwoTierCache implements Cache {
+
+    static final String TIER_L1 = "l1";
+    static final String TIER_L2 = "l2";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Cache l2;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                        Cache l2,
+                        BiConsumer<String, String> invalidationPublisher) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String l1Key = String.valueOf(key);
+        Object local = l1.getIfPresent(l1Key);
+        if (local != null) {
+            record(TIER_L1, "hit");
+            return new SimpleValueWrapper(local);
+        }
+        record(TIER_L1, "miss");
+
+        ValueWrapper remote = l2.get(key);
+        if (remote == null || remote.get() == null) {
+            record(TIER_L2, "miss");
+            return null;
+        }
+        record(TIER_L2, "hit");
+        l1.put(l1Key, remote.get());
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        return wrapper == null ? null : (T) wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        putLocal(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        putLocal(key, value);
+        invalidationPublisher.accept(name, String.valueOf(key));
+    }
+
+    /**
+     * Stores a value loaded from the database in both tiers without broadcasting an invalidation.
+     */
+    public void putLocal(Object key, Object value) {
+        l2.put(key, value);
+        if (value != null) {
+            l1.put(String.valueOf(key), value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(String.valueOf(key));
+        Metrics.counter("interview.cache.evictions", "cache", name, "tier", TIER_L2).increment();
+        invalidationPublisher.accept(name, String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    /**
+     * Drops the L1 entry after another instance changed it; a null key clears the whole L1.
+     */
+    public void invalidateLocal(String key) {
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    private void record(String tier, String result) {
+        Metrics.counter("interview.cache.requests", "cache", name, "tier", tier, "result", result).increment();
+    }
+}
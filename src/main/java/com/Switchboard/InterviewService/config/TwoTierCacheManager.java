@@ -0,0 +1,94 @@
+package com.Switchboard.InterviewService.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Puts a Caffeine L1 in front of every cache of the L2 manager and keeps the L1s of all
+ * instances coherent through Redis pub/sub invalidation messages.
+ * Message format: {@code instanceId \n cacheName \n key}, with an empty key meaning "clear".
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private static final String SEPARATOR = "\n";
+
+    private final CacheManager l2Manager;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final long l1MaxSize;
+    private final Duration l1Ttl;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager l2Manager, StringRedisTemplate redisTemplate, String channel,
+                               long l1MaxSize, Duration l1Ttl) {
+        this.l2Manager = l2Manager;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.l1MaxSize = l1MaxSize;
+        this.l1Ttl = l1Ttl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache l2 = l2Manager.getCache(n);
+            return l2 == null ? null : new TwoTierCache(n, buildL1(n), l2, this::publishInvalidation);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return l2Manager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            log.debug("TwoTierCacheManager :: onMessage :: invalidating L1 {} key {}", parts[1], parts[2]);
+            cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(channel, instanceId + SEPARATOR + cacheName + SEPARATOR + (key == null ? "" : key));
+        } catch (RuntimeException e) {
+            // Other L1s fall back to their TTL; the write itself already reached L2
+            log.error("TwoTierCacheManager :: publishInvalidation :: failed to publish for {} key {}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> buildL1(String name) {
+        return Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .removalListener((String key, Object value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        Metrics.counter("interview.cache.evictions", "cache", name, "tier", TwoTierCache.TIER_L1).increment();
+                    }
+                })
+                .build();
+    }
+}
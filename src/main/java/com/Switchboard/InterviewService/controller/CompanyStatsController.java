@@ -0,0 +1,57 @@
+package com.Switchboard.InterviewService.controller;
+
+import com.Switchboard.InterviewService.dto.CompanyStatsDTO;
+import com.Switchboard.InterviewService.dto.CompanyWeeklyStatsDTO;
+import com.Switchboard.InterviewService.service.CompanyStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/interview/stats")
+@RequiredArgsConstructor
+@Tag(name = "Interview Statistics", description = "Post counts per company, served from materialized counters")
+public class CompanyStatsController {
+    private static final Logger log = LoggerFactory.getLogger(CompanyStatsController.class);
+
+    private static final int DEFAULT_WEEKS = 12;
+
+    private final CompanyStatsService statsService;
+
+    @Operation(summary = "Posts per company", description = "All-time number of interview experiences per company, most posted first")
+    @GetMapping("/companies")
+    public ResponseEntity<List<CompanyStatsDTO>> getPostsPerCompany() {
+        log.info("CompanyStatsController :: getPostsPerCompany :: fetching :: company totals");
+        return ResponseEntity.ok(statsService.getPostsPerCompany());
+    }
+
+    @Operation(summary = "Posts per company per week", description = "Weekly (Monday-based) post counts per company in a date range, defaulting to the last 12 weeks")
+    @GetMapping("/companies/weekly")
+    public ResponseEntity<List<CompanyWeeklyStatsDTO>> getWeeklyPostsPerCompany(
+            @Parameter(description = "Optional company to restrict the statistics to")
+            @RequestParam(value = "company", required = false) String company,
+            @Parameter(description = "First day of the range (ISO date, inclusive)")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the range (ISO date, inclusive)")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusWeeks(DEFAULT_WEEKS);
+        log.info("CompanyStatsController :: getWeeklyPostsPerCompany :: fetching :: weekly counts from {} to {}", start, end);
+        return ResponseEntity.ok(statsService.getWeeklyPostsPerCompany(company, start, end));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.error("CompanyStatsController :: handleIllegalArgumentException :: bad request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,43 @@
+package com.Switchboard.InterviewService.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Strong ETags and Cache-Control policy for the read endpoints. Items are versioned by
+ * id and updatedAt (millisecond precision, so a value that went through the database or
+ * the JSON cache yields the same tag); lists by the feed version counter plus every query
+ * parameter that shapes the page.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static String itemETag(UUID id, LocalDateTime updatedAt) {
+        long millis = updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"" + id + "-" + Long.toString(millis, 36) + "\"";
+    }
+
+    static String listETag(long version, Object... queryParts) {
+        StringBuilder key = new StringBuilder().append(version);
+        for (Object part : queryParts) {
+            key.append('|').append(part);
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Browsers always revalidate; a shared cache (CDN) may serve the response for sharedMaxAge
+    static CacheControl cacheControl(long sharedMaxAgeSeconds) {
+        return CacheControl.maxAge(Duration.ZERO)
+                .cachePublic()
+                .sMaxAge(Duration.ofSeconds(sharedMaxAgeSeconds))
+                .mustRevalidate();
+    }
+}
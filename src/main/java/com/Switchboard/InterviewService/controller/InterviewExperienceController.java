@@ -1,11 +1,18 @@
 package com.Switchboard.InterviewService.controller;
 
 import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.BulkDeleteResultDTO;
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.dto.PresignedUploadDTO;
+import com.Switchboard.InterviewService.dto.SearchResponseDTO;
+import com.Switchboard.InterviewService.service.BulkImportService;
 import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.ImageResource;
 import com.Switchboard.InterviewService.service.InterviewExperienceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,14 +24,35 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/interview")
@@ -35,26 +63,64 @@ public class InterviewExperienceController {
 
     private final InterviewExperienceService interviewService;
     private final FileService fileService;
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
+    @Qualifier("exportExecutor")
+    private final ThreadPoolTaskExecutor exportExecutor;
 
+    @Value("${interview.export.timeout-ms:1800000}")
+    private long exportTimeoutMs;
+
+    @Value("${interview.http.cache.shared-max-age-seconds:60}")
+    private long sharedMaxAgeSeconds;
+
+    // Image keys never change content (content hashes, random presigned names), so clients may keep them long
+    @Value("${interview.images.max-age:P365D}")
+    private Duration imageMaxAge;
 
     @Operation(summary = "Create a new interview experience", description = "Creates a new interview experience with optional image upload")
     @PostMapping(value = "/", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<InterviewExperienceResponse> createInterviewExperience(
+    public CompletableFuture<ResponseEntity<InterviewExperienceResponse>> createInterviewExperience(
             @Valid @ModelAttribute InterviewExperienceRequest request,@RequestHeader("X-User-Email") String userEmailHeader) throws IOException {
         log.info("InterviewExperienceController :: createInterviewExperience :: starting request processing");
 
         try {
-            String imageUrl = null;
-            if (request.getImage() != null && !request.getImage().isEmpty()) {
-                log.info("InterviewExperienceController :: createInterviewExperience :: processing image: {} of type: {}",
-                        request.getImage().getOriginalFilename(), request.getImage().getContentType());
+            request.setUserEmail(userEmailHeader);
+            if (request.getImage() == null || request.getImage().isEmpty()) {
+                // A presigned upload is attached by the service once S3 confirms the object is there
+                InterviewExperienceResponse response = interviewService.createInterviewExperience(request, null);
+                if (response.getImageName() != null) {
+                    interviewService.generateImageRenditions(response);
+                }
+                log.info("InterviewExperienceController :: createInterviewExperience :: completed successfully");
+                return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+            }
 
-                imageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, request.getImage());
+            if (request.getUploadedImageUrl() != null && !request.getUploadedImageUrl().isBlank()) {
+                throw new IllegalArgumentException("Send either an image or an uploadedImageUrl, not both");
             }
-            request.setUserEmail(userEmailHeader);
-            InterviewExperienceResponse response = interviewService.createInterviewExperience(request, imageUrl);
-            log.info("InterviewExperienceController :: createInterviewExperience :: completed successfully");
-            return ResponseEntity.ok(response);
+            log.info("InterviewExperienceController :: createInterviewExperience :: processing image: {} of type: {}",
+                    request.getImage().getOriginalFilename(), request.getImage().getContentType());
+            // The record is written in the upload's continuation, so it only becomes visible once its image is
+            // stored, and the request thread is not held for the S3 round trip meanwhile
+            String imageUrl = fileService.newImageUrl(AppConstants.PATH_VARIABLE, request.getImage());
+            return uploadRetained(imageUrl, request.getImage()).handle((url, uploadError) -> {
+                if (uploadError != null) {
+                    log.error("InterviewExperienceController :: createInterviewExperience :: image upload failed: {}", uploadError.getMessage());
+                    interviewService.releaseImage(imageUrl);
+                    throw new RuntimeException("Error uploading image: " + uploadError.getMessage(), uploadError);
+                }
+                InterviewExperienceResponse response;
+                try {
+                    response = interviewService.createInterviewExperience(request, imageUrl);
+                } catch (RuntimeException e) {
+                    interviewService.releaseImage(imageUrl);
+                    throw e;
+                }
+                interviewService.generateImageRenditions(response);
+                log.info("InterviewExperienceController :: createInterviewExperience :: completed successfully");
+                return ResponseEntity.ok(response);
+            });
 
         } catch (MultipartException e) {
             log.error("InterviewExperienceController :: createInterviewExperience :: multipart error: {}", e.getMessage());
@@ -65,47 +131,221 @@ public class InterviewExperienceController {
         }
     }
 
+    @Operation(summary = "Presign an image upload", description = "Issues a short-lived URL for uploading an image straight to S3; pass the returned imageUrl as uploadedImageUrl when creating or updating an experience. Answers 501 when images are not stored in S3")
+    @PostMapping("/image/presign")
+    public ResponseEntity<PresignedUploadDTO> presignImageUpload(
+            @Parameter(description = "Original file name of the image", required = true)
+            @RequestParam String fileName,
+            @Parameter(description = "Image content type, e.g. image/png", required = true)
+            @RequestParam String contentType,
+            @Parameter(description = "Exact image size in bytes", required = true)
+            @RequestParam long contentLength) {
+        log.info("InterviewExperienceController :: presignImageUpload :: presigning :: {} ({}, {} bytes)", fileName, contentType, contentLength);
+        return ResponseEntity.ok(fileService.presignUpload(fileName, contentType, contentLength));
+    }
+
+    @Operation(summary = "Get an image", description = "Streams a stored image or rendition through the service, for buckets that are not publicly readable. Supports single-range Range requests and If-None-Match / If-Modified-Since / If-Match / If-Range")
+    @GetMapping("/image/{fileName}")
+    public ResponseEntity<StreamingResponseBody> getImage(
+            @Parameter(description = "Object name under the image path, as in the image URL", required = true)
+            @PathVariable String fileName,
+            WebRequest webRequest) throws IOException {
+        log.info("InterviewExperienceController :: getImage :: serving :: {}", fileName);
+        ImageResource image;
+        try {
+            image = fileService.getResource(AppConstants.PATH_VARIABLE, fileName);
+        } catch (FileNotFoundException e) {
+            log.info("InterviewExperienceController :: getImage :: not found :: {}", fileName);
+            return ResponseEntity.notFound().build();
+        }
+        long lastModified = image.lastModified() == null ? -1 : image.lastModified().toEpochMilli();
+        // Sets 304 (or 412 for a failed If-Match) together with the validators; nothing is read from storage
+        if (webRequest.checkNotModified(image.eTag(), lastModified)) {
+            log.info("InterviewExperienceController :: getImage :: not modified :: {}", fileName);
+            return null;
+        }
+
+        long length = image.contentLength();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        long start = 0;
+        long count = length;
+        HttpRange range = requestedRange(webRequest, image.eTag());
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                count = range.getRangeEnd(length) - start + 1;
+            } catch (IllegalArgumentException e) {
+                count = 0;
+            }
+            // getRangeStart does not reject a start past the end, e.g. bytes=20-30 on a 10-byte image
+            if (start >= length || count <= 0) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                        .build();
+            }
+            builder = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + count - 1) + "/" + length);
+        }
+        if (image.contentType() != null) {
+            builder.contentType(MediaType.parseMediaType(image.contentType()));
+        }
+        if (image.eTag() != null) {
+            builder.eTag(image.eTag());
+        }
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        long offset = start;
+        long bytes = count;
+        return builder
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentLength(bytes)
+                .cacheControl(CacheControl.maxAge(imageMaxAge).cachePublic())
+                .body(out -> image.transferTo(offset, bytes, out));
+    }
+
+    // The single range to serve, or null for the whole image: multiple ranges and a stale If-Range get the full body
+    private static HttpRange requestedRange(WebRequest webRequest, String eTag) {
+        String header = webRequest.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = webRequest.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            // A malformed Range header is ignored, as RFC 9110 allows
+            return null;
+        }
+    }
+
+    @Operation(summary = "Bulk import interviews", description = "Imports a JSON array or NDJSON stream of interview experiences, posted as the X-User-Email user, in JDBC batches and streams one NDJSON progress line, with per-record results, after every batch")
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, AppConstants.MEDIA_TYPE_NDJSON},
+            produces = AppConstants.MEDIA_TYPE_NDJSON)
+    public ResponseEntity<StreamingResponseBody> importInterviews(InputStream body, @RequestHeader("X-User-Email") String userEmailHeader) {
+        log.info("InterviewExperienceController :: importInterviews :: starting bulk import");
+        StreamingResponseBody response = out -> bulkImportService.importInterviews(body, userEmailHeader, progress -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(progress));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(AppConstants.MEDIA_TYPE_NDJSON))
+                .body(response);
+    }
+
     @ExceptionHandler(MultipartException.class)
     public ResponseEntity<String> handleMultipartException(MultipartException e) {
         log.error("InterviewExperienceController :: handleMultipartException :: error handling multipart request: {}", e.getMessage());
         return ResponseEntity.badRequest().body("Error processing multipart request: Please ensure the request is properly formatted");
     }
 
-    @Operation(summary = "Search interviews by email", description = "Retrieves all interview experiences for a specific user email")
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.error("InterviewExperienceController :: handleIllegalArgumentException :: bad request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    // Features the configured storage backend lacks, e.g. presigned uploads on the local backends
+    @ExceptionHandler(UnsupportedOperationException.class)
+    public ResponseEntity<String> handleUnsupportedOperationException(UnsupportedOperationException e) {
+        log.warn("InterviewExperienceController :: handleUnsupportedOperationException :: not implemented: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(e.getMessage());
+    }
+
+    @Operation(summary = "Search interviews by email", description = "Retrieves a page of interview experiences for a specific user email, newest first")
     @GetMapping("/email")
-    public ResponseEntity<List<InterviewExperienceResponse>> searchByEmail(
+    public ResponseEntity<PageResponseDTO> searchByEmail(
             @Parameter(description = "User email to search for", required = true)
-            @RequestParam String email) {
+            @RequestParam String email,
+            @Parameter(description = "Page number (0-indexed)")
+            @RequestParam(value = "pageNumber", defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
+            @Parameter(description = "Number of items per page (capped server-side)")
+            @RequestParam(value = "pageSize", defaultValue = AppConstants.PAGE_SIZE, required = false) Integer pageSize) {
         log.info("InterviewExperienceController :: searchByEmail :: searching :: interviews for email: {}", email);
-        List<InterviewExperienceResponse> response = interviewService.searchByEmail(email);
-        log.info("InterviewExperienceController :: searchByEmail :: found :: {} interviews", response.size());
+        PageResponseDTO response = interviewService.searchByEmail(email, pageNumber, pageSize);
+        log.info("InterviewExperienceController :: searchByEmail :: found :: {} interviews", response.getContent().size());
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Search interviews by email header", description = "Retrieves all interview experiences for a specific user email received from header")
+    @Operation(summary = "Search interviews by email header", description = "Retrieves a page of interview experiences for a specific user email received from header, newest first")
     @GetMapping("/user")
-    public ResponseEntity<List<InterviewExperienceResponse>> searchByEmailHeader(
+    public ResponseEntity<PageResponseDTO> searchByEmailHeader(
             @Parameter(description = "User email to search for", required = true)
-            @RequestHeader("X-User-Email") String userEmailHeader) {
+            @RequestHeader("X-User-Email") String userEmailHeader,
+            @Parameter(description = "Page number (0-indexed)")
+            @RequestParam(value = "pageNumber", defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
+            @Parameter(description = "Number of items per page (capped server-side)")
+            @RequestParam(value = "pageSize", defaultValue = AppConstants.PAGE_SIZE, required = false) Integer pageSize) {
         log.info("InterviewExperienceController :: searchByEmail :: searching :: interviews for email: {}", userEmailHeader);
-        List<InterviewExperienceResponse> response = interviewService.searchByEmail(userEmailHeader);
-        log.info("InterviewExperienceController :: searchByEmail :: found :: {} interviews", response.size());
+        PageResponseDTO response = interviewService.searchByEmail(userEmailHeader, pageNumber, pageSize);
+        log.info("InterviewExperienceController :: searchByEmail :: found :: {} interviews", response.getContent().size());
         return ResponseEntity.ok(response);
     }
 
 
-    @Operation(summary = "Search interviews by company", description = "Retrieves all interview experiences for a specific company")
+    @Operation(summary = "Search interviews by company", description = "Retrieves a page of interview experiences for a specific company, newest first")
     @GetMapping("/company")
-    public ResponseEntity<List<InterviewExperienceResponse>> searchByCompany(
+    public ResponseEntity<PageResponseDTO> searchByCompany(
             @Parameter(description = "Company name to search for", required = true)
-            @RequestParam String company) {
+            @RequestParam String company,
+            @Parameter(description = "Page number (0-indexed)")
+            @RequestParam(value = "pageNumber", defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
+            @Parameter(description = "Number of items per page (capped server-side)")
+            @RequestParam(value = "pageSize", defaultValue = AppConstants.PAGE_SIZE, required = false) Integer pageSize,
+            WebRequest webRequest) {
         log.info("InterviewExperienceController :: searchByCompany :: searching :: interviews for company: {}", company);
-        List<InterviewExperienceResponse> response = interviewService.searchByCompany(company);
-        log.info("InterviewExperienceController :: searchByCompany :: found :: {} interviews", response.size());
-        return ResponseEntity.ok(interviewService.searchByCompany(company));
+        long version = interviewService.getCompanyFeedVersion(company);
+        String etag = version < 0 ? null : ConditionalResponses.listETag(version, "company", company, pageNumber, pageSize);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            log.info("InterviewExperienceController :: searchByCompany :: not modified :: company {} at version {}", company, version);
+            return notModified(etag);
+        }
+        PageResponseDTO response = interviewService.searchByCompany(company, pageNumber, pageSize);
+        log.info("InterviewExperienceController :: searchByCompany :: found :: {} interviews", response.getContent().size());
+        return cacheable(response, etag);
     }
 
-    @Operation(summary = "Get all interviews", description = "Retrieves all interview experiences with pagination and sorting")
+    @Operation(summary = "Autocomplete company tags", description = "Suggests company tags starting with the prefix, most posted first. Case and whitespace variants are merged")
+    @GetMapping("/company/autocomplete")
+    public ResponseEntity<List<CompanyTagSuggestion>> autocompleteCompanies(
+            @Parameter(description = "Typed prefix; empty returns the most posted companies")
+            @RequestParam(value = "prefix", defaultValue = "", required = false) String prefix,
+            @Parameter(description = "Maximum number of suggestions (capped server-side)")
+            @RequestParam(value = "limit", defaultValue = AppConstants.AUTOCOMPLETE_LIMIT, required = false) Integer limit) {
+        return ResponseEntity.ok(interviewService.autocompleteCompanies(prefix, limit));
+    }
+
+    @Operation(summary = "Full-text search", description = "Ranked full-text search over title and content, optionally limited to one company. The postgres engine returns highlighted snippets; the lucene engine answers from the in-process index without touching the database")
+    @GetMapping("/search")
+    public ResponseEntity<SearchResponseDTO> searchInterviews(
+            @Parameter(description = "Search text; supports quoted phrases, OR and -exclusions", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Optional company to restrict the search to")
+            @RequestParam(value = "company", required = false) String company,
+            @Parameter(description = "Page number (0-indexed)")
+            @RequestParam(value = "pageNumber", defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
+            @Parameter(description = "Number of items per page (capped server-side)")
+            @RequestParam(value = "pageSize", defaultValue = AppConstants.PAGE_SIZE, required = false) Integer pageSize,
+            @Parameter(description = "Search engine: postgres or lucene")
+            @RequestParam(value = "engine", defaultValue = AppConstants.SEARCH_ENGINE, required = false) String engine) {
+        log.info("InterviewExperienceController :: searchInterviews :: searching :: interviews matching: {} with {}", query, engine);
+        SearchResponseDTO response = AppConstants.SEARCH_ENGINE_LUCENE.equalsIgnoreCase(engine)
+                ? interviewService.searchInterviewsInIndex(query, company, pageNumber, pageSize)
+                : interviewService.searchInterviews(query, company, pageNumber, pageSize);
+        log.info("InterviewExperienceController :: searchInterviews :: found :: {} interviews", response.getResults().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get all interviews", description = "Retrieves all interview experiences with offset, slice, estimated-total or cursor (keyset) pagination")
     @GetMapping("/")
     public ResponseEntity<PageResponseDTO> getAllInterviews(
             @Parameter(description = "Page number (0-indexed)")
@@ -115,38 +355,161 @@ public class InterviewExperienceController {
             @Parameter(description = "Field to sort by")
             @RequestParam(value = "sortBy" , defaultValue = AppConstants.SORT_BY, required = false) String sortBy,
             @Parameter(description = "Sort direction (asc/desc)")
-            @RequestParam(value = "sortDir", defaultValue = AppConstants.SORT_DIR, required = false) String sortDir
+            @RequestParam(value = "sortDir", defaultValue = AppConstants.SORT_DIR, required = false) String sortDir,
+            @Parameter(description = "Pagination mode: offset (exact totals), slice (no totals, only lastPage), estimate (approximate totals) or cursor. Cursor mode always orders by createdAt desc and ignores pageNumber, sortBy and sortDir")
+            @RequestParam(value = "mode", defaultValue = AppConstants.PAGINATION_MODE, required = false) String mode,
+            @Parameter(description = "Continuation token from the previous page's nextCursor (cursor mode only)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            WebRequest webRequest
     ) {
-        log.info("InterviewExperienceController :: getAllInterviews :: fetching :: all interviews");
-        PageResponseDTO response = interviewService.getAllInterviews(pageNumber, pageSize, sortBy, sortDir);
+        log.info("InterviewExperienceController :: getAllInterviews :: fetching :: all interviews in {} mode", mode);
+        long version = interviewService.getListVersion();
+        String etag = version < 0 ? null
+                : ConditionalResponses.listETag(version, mode.toLowerCase(), pageNumber, pageSize, sortBy, sortDir, cursor);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            log.info("InterviewExperienceController :: getAllInterviews :: not modified :: list at version {}", version);
+            return notModified(etag);
+        }
+        PageResponseDTO response = switch (mode.toLowerCase()) {
+            case AppConstants.PAGINATION_MODE_CURSOR -> interviewService.getInterviewsByCursor(cursor, pageSize);
+            case AppConstants.PAGINATION_MODE_SLICE -> interviewService.getInterviewsSlice(pageNumber, pageSize, sortBy, sortDir);
+            case AppConstants.PAGINATION_MODE_ESTIMATE -> interviewService.getInterviewsWithEstimatedTotal(pageNumber, pageSize, sortBy, sortDir);
+            default -> interviewService.getAllInterviews(pageNumber, pageSize, sortBy, sortDir);
+        };
         log.info("InterviewExperienceController :: getAllInterviews :: fetched :: {} interviews", response.getContent().size());
-        return ResponseEntity.ok(response);
+        return cacheable(response, etag);
+    }
+
+    @Operation(summary = "Export interviews", description = "Streams all interview experiences, oldest first, as newline-delimited JSON (one full experience per line), optionally gzip-compressed")
+    @GetMapping(value = "/export", produces = AppConstants.MEDIA_TYPE_NDJSON)
+    public WebAsyncTask<Void> exportInterviews(
+            @Parameter(description = "Optional company to export")
+            @RequestParam(value = "company", required = false) String company,
+            @Parameter(description = "First creation day to include (ISO date)")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last creation day to include (ISO date)")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Compress the stream with gzip")
+            @RequestParam(value = "gzip", defaultValue = "false", required = false) boolean gzip,
+            HttpServletResponse response) {
+        log.info("InterviewExperienceController :: exportInterviews :: exporting :: company: {} from {} to {} gzip {}", company, from, to, gzip);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        response.setContentType(AppConstants.MEDIA_TYPE_NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"interviews.ndjson" + (gzip ? ".gz" : "") + "\"");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        // Streams on the export pool with the export timeout, as a StreamingResponseBody would on the shared MVC executor
+        return new WebAsyncTask<>(exportTimeoutMs, exportExecutor, () -> {
+            ServletOutputStream out = response.getOutputStream();
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                interviewService.exportInterviews(company, from, to, compressed);
+                compressed.finish();
+            } else {
+                interviewService.exportInterviews(company, from, to, out);
+            }
+            out.flush();
+            return null;
+        });
+    }
+
+    @Operation(summary = "Delete interviews in bulk", description = "Deletes up to " + AppConstants.MAX_BULK_DELETE + " interview experiences and their images, reporting ids that were not found and images that could not be removed")
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResultDTO> deleteInterviewExperiences(@RequestBody List<UUID> ids) {
+        log.info("InterviewExperienceController :: deleteInterviewExperiences :: deleting :: {} interview experiences", ids.size());
+        BulkDeleteResultDTO result = interviewService.deleteInterviewExperiences(ids);
+        log.info("InterviewExperienceController :: deleteInterviewExperiences :: deleted :: {} interview experiences", result.getDeleted());
+        return ResponseEntity.ok(result);
     }
 
     @Operation(summary = "Get interview by ID", description = "Retrieves a specific interview experience by its UUID")
     @GetMapping("/{id}")
     public ResponseEntity<InterviewExperienceResponse> getInterviewById(
             @Parameter(description = "Interview UUID", required = true)
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            WebRequest webRequest) {
         log.info("InterviewExperienceController :: getInterviewById :: fetching :: interview with id: {}", id);
+        // Conditional request: compare against the stored version before loading or mapping the body
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = ConditionalResponses.itemETag(id, interviewService.getInterviewUpdatedAt(id));
+            if (webRequest.checkNotModified(etag)) {
+                log.info("InterviewExperienceController :: getInterviewById :: not modified :: interview with id: {}", id);
+                return notModified(etag);
+            }
+        }
         InterviewExperienceResponse response = interviewService.getInterviewById(id);
         log.info("InterviewExperienceController :: getInterviewById :: fetched :: interview with id: {}", id);
-        return ResponseEntity.ok(response);
+        String etag = response.getUpdatedAt() == null ? null : ConditionalResponses.itemETag(id, response.getUpdatedAt());
+        return cacheable(response, etag);
+    }
+
+    private <T> ResponseEntity<T> cacheable(T body, String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(ConditionalResponses.cacheControl(sharedMaxAgeSeconds));
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder.body(body);
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(ConditionalResponses.cacheControl(sharedMaxAgeSeconds))
+                .build();
+    }
+
+    // The image counts as referenced before the upload checks whether S3 already has it, so the deletion dispatcher
+    // cannot remove a stored copy that the upload then skips; the caller releases it again if anything fails
+    private CompletableFuture<String> uploadRetained(String imageUrl, MultipartFile image) {
+        interviewService.retainImage(imageUrl);
+        try {
+            return fileService.uploadImageAsync(imageUrl, image);
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     @Operation(summary = "Update an interview experience", description = "Updates an existing interview experience with optional new image")
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<InterviewExperienceResponse> updateInterviewExperience(
+    public CompletableFuture<ResponseEntity<InterviewExperienceResponse>> updateInterviewExperience(
             @Parameter(description = "Interview UUID", required = true)
             @PathVariable UUID id,
             @Valid @ModelAttribute InterviewExperienceRequest request) throws IOException {
         log.info("InterviewExperienceController :: updateInterviewExperience :: updating :: interview experience with id: {}", id);
 
         try {
-            InterviewExperienceResponse response = interviewService.updateInterviewExperience(
-                    id, request, request.getImage());
-            log.info("InterviewExperienceController :: updateInterviewExperience :: updated :: interview experience with id: {}", id);
-            return ResponseEntity.ok(response);
+            if (request.getImage() == null || request.getImage().isEmpty()) {
+                InterviewExperienceResponse response = interviewService.updateInterviewExperience(id, request, null);
+                log.info("InterviewExperienceController :: updateInterviewExperience :: updated :: interview experience with id: {}", id);
+                return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+            }
+
+            if (request.getUploadedImageUrl() != null && !request.getUploadedImageUrl().isBlank()) {
+                throw new IllegalArgumentException("Send either an image or an uploadedImageUrl, not both");
+            }
+            // The update runs in the upload's continuation: no thread or database connection waits on S3,
+            // and a failed upload never touches the record or its old image
+            String imageUrl = fileService.newImageUrl(AppConstants.PATH_VARIABLE, request.getImage());
+            return uploadRetained(imageUrl, request.getImage()).handle((url, uploadError) -> {
+                if (uploadError != null) {
+                    log.error("InterviewExperienceController :: updateInterviewExperience :: image upload failed: {}", uploadError.getMessage());
+                    interviewService.releaseImage(imageUrl);
+                    throw new RuntimeException("Error uploading image: " + uploadError.getMessage(), uploadError);
+                }
+                InterviewExperienceResponse response;
+                try {
+                    response = interviewService.updateInterviewExperience(id, request, imageUrl);
+                } catch (RuntimeException e) {
+                    interviewService.releaseImage(imageUrl);
+                    throw e;
+                }
+                log.info("InterviewExperienceController :: updateInterviewExperience :: updated :: interview experience with id: {}", id);
+                return ResponseEntity.ok(response);
+            });
         } catch (Exception e) {
             log.error("InterviewExperienceController :: updateInterviewExperience :: error :: {}", e.getMessage());
             throw e;
@@ -0,0 +1,19 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkDeleteResultDTO {
+    private int deleted;
+    private List<UUID> notFound;
+    // Images are deleted in the background and retried until they succeed, so this is always empty
+    private Map<String, String> failedImages;
+}
@@ -0,0 +1,18 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportProgressDTO {
+    private long processed;
+    private long created;
+    private long rejected;
+    private boolean done;
+    private List<BulkImportRecordResult> results;
+}
@@ -0,0 +1,17 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportRecordResult {
+    private long index;
+    private UUID id;
+    private List<String> errors;
+}
@@ -0,0 +1,20 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Posts of one company on one day, as aggregated from interview_experience by the
+ * statistics reconciliation job.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyDayCount {
+    private String companyTag;
+    private LocalDate bucketDate;
+    private Long postCount;
+}
@@ -0,0 +1,13 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyStatsDTO {
+    private String companyTag;
+    private long postCount;
+}
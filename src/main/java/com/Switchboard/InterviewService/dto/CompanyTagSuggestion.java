@@ -0,0 +1,17 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+/**
+ * Autocomplete entry: a company tag and how many experiences are posted under it.
+ * Also the target of the per-tag count query used to seed the autocomplete index.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyTagSuggestion {
+    private String companyTag;
+    private Long postCount;
+}
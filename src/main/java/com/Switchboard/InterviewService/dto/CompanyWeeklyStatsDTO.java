@@ -0,0 +1,19 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Posts of one company in the ISO week (Monday to Sunday) starting on weekStart.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyWeeklyStatsDTO {
+    private String companyTag;
+    private LocalDate weekStart;
+    private long postCount;
+}
@@ -28,4 +28,7 @@ public class InterviewExperienceRequest {
     
     @ValidImage
     private MultipartFile image;
+
+    // Public URL of an image the client already PUT through a presigned upload; used instead of image
+    private String uploadedImageUrl;
 }
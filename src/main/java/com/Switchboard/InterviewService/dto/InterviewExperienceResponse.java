@@ -3,6 +3,7 @@ package com.Switchboard.InterviewService.dto;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @Getter
@@ -20,4 +21,6 @@ public class InterviewExperienceResponse {
     private String companyTag;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Variant name (thumbnail, medium, ...) -> URL; null until the renditions are generated
+    private Map<String, String> imageRenditions;
 }
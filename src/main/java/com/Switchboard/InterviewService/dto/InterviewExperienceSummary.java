@@ -0,0 +1,30 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * List-view projection of an interview experience. Carries a fixed-length excerpt
+ * instead of the full content; the full body is only served by GET /{id}.
+ * Field order matches the constructor expression in InterviewExperienceRepository.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewExperienceSummary {
+    private UUID id;
+    private String userName;
+    private String title;
+    private String imageName;
+    private String excerpt;
+    private String companyTag;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    // Variant name (thumbnail, medium, ...) -> URL; null until the renditions are generated
+    private Map<String, String> imageRenditions;
+}
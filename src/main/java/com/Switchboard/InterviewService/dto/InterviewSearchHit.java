@@ -0,0 +1,28 @@
+package com.Switchboard.InterviewService.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row shape of the native full-text search query in InterviewExperienceRepository.
+ * Getter names match the quoted column aliases of that query.
+ */
+public interface InterviewSearchHit {
+    UUID getId();
+
+    String getUserName();
+
+    String getTitle();
+
+    String getImageName();
+
+    String getCompanyTag();
+
+    String getSnippet();
+
+    Double getRank();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
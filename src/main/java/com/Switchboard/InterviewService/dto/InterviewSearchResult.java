@@ -0,0 +1,27 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One full-text search match. The snippet holds the best matching fragments of the
+ * content, HTML-escaped, with the matched terms wrapped in &lt;mark&gt; tags.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewSearchResult {
+    private UUID id;
+    private String userName;
+    private String title;
+    private String imageName;
+    private String companyTag;
+    private String snippet;
+    private Double rank;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
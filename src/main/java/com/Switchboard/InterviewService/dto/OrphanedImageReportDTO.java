@@ -0,0 +1,19 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrphanedImageReportDTO {
+    private long scanned;
+    // Objects past the grace period that no experience references
+    private long orphaned;
+    private long deleted;
+    private long reclaimedBytes;
+    private long failed;
+    // Orphans were only counted, not deleted
+    private boolean dryRun;
+}
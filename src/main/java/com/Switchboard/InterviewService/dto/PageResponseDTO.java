@@ -12,11 +12,13 @@ import java.util.List;
 @Builder
 public class PageResponseDTO {
 
-    private List<InterviewExperienceResponse> content;
+    private List<InterviewExperienceSummary> content;
     private int pageNumber;
     private int pageSize;
     private long totalElements ;
     private int totalPages;
     private boolean lastPage;
+    private String nextCursor;
+    private boolean approximate;
 
 }
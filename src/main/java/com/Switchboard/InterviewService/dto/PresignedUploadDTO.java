@@ -0,0 +1,20 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresignedUploadDTO {
+    // PUT the image here with exactly these headers before the URL expires
+    private String uploadUrl;
+    private Map<String, String> requiredHeaders;
+    private Instant expiresAt;
+    // Pass back as uploadedImageUrl when creating or updating the experience
+    private String imageUrl;
+}
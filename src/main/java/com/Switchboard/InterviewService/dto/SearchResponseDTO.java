@@ -0,0 +1,21 @@
+package com.Switchboard.InterviewService.dto;
+
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponseDTO {
+
+    private String query;
+    private List<InterviewSearchResult> results;
+    private int pageNumber;
+    private int pageSize;
+    private boolean lastPage;
+
+}
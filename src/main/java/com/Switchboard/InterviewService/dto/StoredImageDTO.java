@@ -0,0 +1,16 @@
+package com.Switchboard.InterviewService.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredImageDTO {
+    private String imageUrl;
+    private long size;
+    private Instant lastModified;
+}
@@ -0,0 +1,29 @@
+package com.Switchboard.InterviewService.mapper;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.InterviewSearchHit;
+import com.Switchboard.InterviewService.dto.InterviewSearchResult;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Request/entity/response mappings, generated at compile time by MapStruct.
+ * Plain getter/setter calls, no reflection or type-map lookup per object.
+ */
+@Mapper(componentModel = "spring")
+public interface InterviewExperienceMapper {
+
+    // imageName is set from the uploaded S3 URL and imageRenditions by the rendition pipeline; id and timestamps are owned by JPA
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "imageName", ignore = true)
+    @Mapping(target = "imageRenditions", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    InterviewExperience toEntity(InterviewExperienceRequest request);
+
+    InterviewExperienceResponse toResponse(InterviewExperience experience);
+
+    InterviewSearchResult toSearchResult(InterviewSearchHit hit);
+}
@@ -0,0 +1,44 @@
+package com.Switchboard.InterviewService.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Materialized post count per company tag and creation day. Weekly and ranged statistics
+ * are summed from these buckets instead of scanning interview_experience.
+ */
+@Entity
+@Table(name = "company_daily_count", indexes = {
+        @Index(name = "idx_company_daily_count_bucket_date", columnList = "bucketDate")
+})
+@IdClass(CompanyDailyCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyDailyCount {
+
+    @Id
+    @Column(length = 200)
+    private String companyTag;
+
+    @Id
+    private LocalDate bucketDate;
+
+    @Column(nullable = false)
+    private long postCount;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String companyTag;
+        private LocalDate bucketDate;
+    }
+}
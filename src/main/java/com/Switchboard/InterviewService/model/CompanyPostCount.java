@@ -0,0 +1,25 @@
+package com.Switchboard.InterviewService.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Materialized all-time post count per company tag, maintained in the same transaction
+ * as the interview_experience write and rebuilt by CompanyStatsReconciler.
+ */
+@Entity
+@Table(name = "company_post_count")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyPostCount {
+
+    @Id
+    @Column(length = 200)
+    private String companyTag;
+
+    @Column(nullable = false)
+    private long postCount;
+}
@@ -0,0 +1,55 @@
+package com.Switchboard.InterviewService.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A pending S3 deletion, written in the same transaction as the experience change that released
+ * the image. ImageDeletionDispatcher removes the row once the image and its renditions are gone,
+ * or once the image turns out to be referenced again.
+ */
+@Entity
+@Table(name = "image_deletion_outbox", indexes = {
+        @Index(name = "idx_image_deletion_outbox_next_attempt_at", columnList = "nextAttemptAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageDeletionOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String imageUrl;
+
+    @Convert(converter = ImageRenditionsConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private Map<String, String> renditions;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+}
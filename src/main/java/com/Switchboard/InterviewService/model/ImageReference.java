@@ -0,0 +1,27 @@
+package com.Switchboard.InterviewService.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Reference count of one stored image: the experiences that point at it plus the uploads still on
+ * their way to one. Images are content-addressed, so several experiences can share an object and
+ * an upload can skip a PUT because the object is already there. Objects are only deleted while
+ * this row is locked at zero, see ImageReferences.
+ */
+@Entity
+@Table(name = "image_reference")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageReference {
+
+    @Id
+    @Column(length = 1024)
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private long referenceCount;
+}
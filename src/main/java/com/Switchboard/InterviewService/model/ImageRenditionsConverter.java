@@ -0,0 +1,44 @@
+package com.Switchboard.InterviewService.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stores the rendition URLs of an experience image as one JSON object column, keyed by
+ * variant name, so new variants need no schema change.
+ */
+@Converter
+public class ImageRenditionsConverter implements AttributeConverter<Map<String, String>, String> {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, String> renditions) {
+        if (renditions == null || renditions.isEmpty()) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(renditions);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize image renditions", e);
+        }
+    }
+
+    @Override
+    public Map<String, String> convertToEntityAttribute(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot read image renditions", e);
+        }
+    }
+}
@@ -4,13 +4,15 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
 @Table(name = "interview_experience", indexes = {
-        @Index(name = "idx_user_email", columnList = "userEmail"),
-        @Index(name = "idx_company_tag", columnList = "companyTag"),
-        @Index(name = "idx_created_at", columnList = "createdAt DESC")
+        @Index(name = "idx_user_email_created_at", columnList = "userEmail, createdAt DESC"),
+        @Index(name = "idx_company_tag_created_at", columnList = "companyTag, createdAt DESC"),
+        @Index(name = "idx_created_at_id", columnList = "createdAt DESC, id DESC"),
+        @Index(name = "idx_image_name", columnList = "imageName")
 })
 @Getter
 @Setter
@@ -40,6 +42,10 @@ public class InterviewExperience {
 
     private String imageName;
 
+    // Variant name -> URL of the resized copies of imageName, filled in by ImageRenditionPipeline
+    @Convert(converter = ImageRenditionsConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private Map<String, String> imageRenditions;
 
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,40 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.CompanyDailyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface CompanyDailyCountRepository extends JpaRepository<CompanyDailyCount, CompanyDailyCount.Key> {
+
+    // Atomic in-place increment; returns 0 when the bucket does not exist yet
+    @Modifying
+    @Query("UPDATE CompanyDailyCount c SET c.postCount = c.postCount + :delta " +
+            "WHERE c.companyTag = :companyTag AND c.bucketDate = :bucketDate")
+    int addToCount(@Param("companyTag") String companyTag,
+                   @Param("bucketDate") LocalDate bucketDate,
+                   @Param("delta") long delta);
+
+    // Atomic increment that creates the bucket if it is missing; one statement, so concurrent
+    // first posts of a day cannot both insert. PostgreSQL only.
+    @Modifying
+    @Query(value = "INSERT INTO company_daily_count (company_tag, bucket_date, post_count) VALUES (:companyTag, :bucketDate, :delta) " +
+            "ON CONFLICT (company_tag, bucket_date) DO UPDATE SET post_count = company_daily_count.post_count + EXCLUDED.post_count",
+            nativeQuery = true)
+    int upsertCount(@Param("companyTag") String companyTag,
+                    @Param("bucketDate") LocalDate bucketDate,
+                    @Param("delta") long delta);
+
+    List<CompanyDailyCount> findByBucketDateBetween(LocalDate from, LocalDate to);
+
+    List<CompanyDailyCount> findByCompanyTagAndBucketDateBetween(String companyTag, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM CompanyDailyCount c WHERE c.companyTag IN :companyTags")
+    int deleteByCompanyTags(@Param("companyTags") Collection<String> companyTags);
+}
@@ -0,0 +1,41 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.CompanyPostCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CompanyPostCountRepository extends JpaRepository<CompanyPostCount, String> {
+
+    // Atomic in-place increment; returns 0 when the company has no counter row yet
+    @Modifying
+    @Query("UPDATE CompanyPostCount c SET c.postCount = c.postCount + :delta WHERE c.companyTag = :companyTag")
+    int addToCount(@Param("companyTag") String companyTag, @Param("delta") long delta);
+
+    // Atomic increment that creates the counter row if it is missing; one statement, so concurrent
+    // first posts of a company cannot both insert. PostgreSQL only.
+    @Modifying
+    @Query(value = "INSERT INTO company_post_count (company_tag, post_count) VALUES (:companyTag, :delta) " +
+            "ON CONFLICT (company_tag) DO UPDATE SET post_count = company_post_count.post_count + EXCLUDED.post_count",
+            nativeQuery = true)
+    int upsertCount(@Param("companyTag") String companyTag, @Param("delta") long delta);
+
+    // Transaction-scoped advisory lock shared by every instance; false when another session holds it.
+    // PostgreSQL only.
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryLock(@Param("key") long key);
+
+    @Query("SELECT c FROM CompanyPostCount c WHERE c.postCount > 0 ORDER BY c.postCount DESC, c.companyTag")
+    List<CompanyPostCount> findAllWithPosts();
+
+    @Query("SELECT c.companyTag FROM CompanyPostCount c")
+    List<String> findAllCompanyTags();
+
+    @Modifying
+    @Query("DELETE FROM CompanyPostCount c WHERE c.companyTag IN :companyTags")
+    int deleteByCompanyTags(@Param("companyTags") Collection<String> companyTags);
+}
@@ -0,0 +1,37 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.ImageReference;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageReferenceRepository extends JpaRepository<ImageReference, String> {
+
+    // Adds delta, creating the row if it is missing. One statement that takes the row lock, so it
+    // waits while a deleter holds the row. PostgreSQL only.
+    @Modifying
+    @Query(value = "INSERT INTO image_reference (image_url, reference_count) VALUES (:imageUrl, :delta) " +
+            "ON CONFLICT (image_url) DO UPDATE SET reference_count = image_reference.reference_count + EXCLUDED.reference_count",
+            nativeQuery = true)
+    int upsertCount(@Param("imageUrl") String imageUrl, @Param("delta") long delta);
+
+    // Never goes below zero; images stored before reference counting have no row to decrement
+    @Modifying
+    @Query("UPDATE ImageReference r SET r.referenceCount = r.referenceCount - 1 " +
+            "WHERE r.imageUrl = :imageUrl AND r.referenceCount > 0")
+    int decrement(@Param("imageUrl") String imageUrl);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ImageReference r WHERE r.imageUrl IN :imageUrls")
+    List<ImageReference> findAllForUpdate(@Param("imageUrls") Collection<String> imageUrls);
+
+    @Modifying
+    @Query("DELETE FROM ImageReference r WHERE r.imageUrl IN :imageUrls AND r.referenceCount = 0")
+    int deleteUnreferenced(@Param("imageUrls") Collection<String> imageUrls);
+}
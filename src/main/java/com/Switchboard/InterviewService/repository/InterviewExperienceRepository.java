@@ -1,14 +1,152 @@
 package com.Switchboard.InterviewService.repository;
 
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.CompanyDayCount;
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.InterviewExperienceSummary;
+import com.Switchboard.InterviewService.dto.InterviewSearchHit;
 import com.Switchboard.InterviewService.model.InterviewExperience;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface InterviewExperienceRepository extends JpaRepository<InterviewExperience, UUID> {
 
-    List<InterviewExperience> findByUserEmailOrderByCreatedAtDesc(String userEmail);
+    // Summary projection: only the first EXCERPT_LENGTH characters of content are read, so Postgres
+    // fetches a slice of the TOASTed body instead of de-TOASTing all of it.
+    String SUMMARY_SELECT = "SELECT new com.Switchboard.InterviewService.dto.InterviewExperienceSummary(" +
+            "e.id, e.userName, e.title, e.imageName, SUBSTRING(e.content, 1, " + AppConstants.EXCERPT_LENGTH + "), " +
+            "e.companyTag, e.createdAt, e.updatedAt, e.imageRenditions) FROM InterviewExperience e ";
 
-    List<InterviewExperience> findByCompanyTagOrderByCreatedAtDesc(String companyTag);
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(e) FROM InterviewExperience e")
+    Page<InterviewExperienceSummary> findSummaryPage(Pageable pageable);
+
+    // Slice listing: fetches pageSize + 1 rows to detect a next page, never issues COUNT(*).
+    @Query(SUMMARY_SELECT)
+    Slice<InterviewExperienceSummary> findSummarySlice(Pageable pageable);
+
+    // Served by idx_user_email_created_at: one index range scan per page, no sort
+    @Query(SUMMARY_SELECT + "WHERE e.userEmail = :userEmail ORDER BY e.createdAt DESC")
+    Slice<InterviewExperienceSummary> findSummariesByUserEmail(@Param("userEmail") String userEmail, Pageable pageable);
+
+    // Served by idx_company_tag_created_at: one index range scan per page, no sort
+    @Query(SUMMARY_SELECT + "WHERE e.companyTag = :companyTag ORDER BY e.createdAt DESC")
+    Slice<InterviewExperienceSummary> findSummariesByCompanyTag(@Param("companyTag") String companyTag, Pageable pageable);
+
+    // Forward-only export read. Rows are DTOs, so the persistence context stays empty, and the
+    // driver fetches EXPORT_FETCH_SIZE rows per round trip (Postgres honours this inside a transaction).
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = AppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.Switchboard.InterviewService.dto.InterviewExperienceResponse(" +
+            "e.id, e.userName, e.userEmail, e.title, e.imageName, e.content, e.companyTag, e.createdAt, e.updatedAt, " +
+            "e.imageRenditions) " +
+            "FROM InterviewExperience e " +
+            "WHERE (:companyTag IS NULL OR e.companyTag = :companyTag) " +
+            "AND (:from IS NULL OR e.createdAt >= :from) " +
+            "AND (:to IS NULL OR e.createdAt < :to) " +
+            "ORDER BY e.createdAt, e.id")
+    Stream<InterviewExperienceResponse> streamForExport(@Param("companyTag") String companyTag,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+
+    // Version probe for conditional GETs: a primary-key lookup that never reads the content body
+    @Query("SELECT e.updatedAt FROM InterviewExperience e WHERE e.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    // Attaches renditions only while imageName is still the image they were generated from;
+    // returns 0 when the experience was deleted or its image replaced in the meantime
+    @Modifying
+    @Query("UPDATE InterviewExperience e SET e.imageRenditions = :renditions, e.updatedAt = :updatedAt " +
+            "WHERE e.id = :id AND e.imageName = :imageName")
+    int updateImageRenditions(@Param("id") UUID id,
+                              @Param("imageName") String imageName,
+                              @Param("renditions") Map<String, String> renditions,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    // The subset of imageNames still referenced by some experience, served by idx_image_name
+    @Query("SELECT DISTINCT e.imageName FROM InterviewExperience e WHERE e.imageName IN :imageNames")
+    List<String> findReferencedImageNames(@Param("imageNames") Collection<String> imageNames);
+
+    // Keyset walk of the whole table in id order, for batch jobs: each batch is a primary-key range
+    // scan after the last id seen, so the cost per batch does not grow with the position in the table
+    @Query("SELECT e FROM InterviewExperience e ORDER BY e.id")
+    List<InterviewExperience> findFirstBatch(Pageable pageable);
+
+    @Query("SELECT e FROM InterviewExperience e WHERE e.id > :id ORDER BY e.id")
+    List<InterviewExperience> findBatchAfter(@Param("id") UUID id, Pageable pageable);
+
+    // Posts per raw company tag; an index-only scan of idx_company_tag_created_at on Postgres
+    @Query("SELECT new com.Switchboard.InterviewService.dto.CompanyTagSuggestion(e.companyTag, COUNT(e)) " +
+            "FROM InterviewExperience e GROUP BY e.companyTag")
+    List<CompanyTagSuggestion> countPostsPerCompanyTag();
+
+    @Query("SELECT DISTINCT e.companyTag FROM InterviewExperience e")
+    List<String> findDistinctCompanyTags();
+
+    // Daily post counts for a batch of companies, used to rebuild the statistics counters
+    @Query("SELECT new com.Switchboard.InterviewService.dto.CompanyDayCount(e.companyTag, CAST(e.createdAt AS LocalDate), COUNT(e)) " +
+            "FROM InterviewExperience e WHERE e.companyTag IN :companyTags " +
+            "GROUP BY e.companyTag, CAST(e.createdAt AS LocalDate)")
+    List<CompanyDayCount> countPostsPerCompanyAndDay(@Param("companyTags") Collection<String> companyTags);
+
+    // Planner row estimate from the last ANALYZE; -1 if the table was never analyzed.
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE relname = 'interview_experience'", nativeQuery = true)
+    Long estimateRowCount();
+
+    // Keyset pagination: first page, newest first, served by idx_created_at_id. Pageable only carries the
+    // limit, no count query is issued.
+    @Query(SUMMARY_SELECT + "ORDER BY e.createdAt DESC, e.id DESC")
+    List<InterviewExperienceSummary> findFirstSummaryPage(Pageable pageable);
+
+    // Keyset pagination: rows strictly after (createdAt, id) in (createdAt DESC, id DESC) order. The tuple
+    // renders as a row-value comparison, which Postgres serves as one range scan of idx_created_at_id.
+    @Query(SUMMARY_SELECT +
+            "WHERE (e.createdAt, e.id) < (:createdAt, :id) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<InterviewExperienceSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") UUID id,
+                                                          Pageable pageable);
+
+    // Ranked full-text search over the search_vector column (see SearchIndexInitializer), served by the
+    // GIN index. The inner query ranks and pages the matches; ts_headline re-parses the content, so it
+    // only runs on the rows of the returned page. The content is HTML-escaped before highlighting, so the
+    // <mark> tags are the only markup in the snippet and user content cannot inject any. PostgreSQL only.
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('" + AppConstants.SEARCH_CONFIG + "', :query) AS query) " +
+            "SELECT hit.id AS \"id\", hit.user_name AS \"userName\", hit.title AS \"title\", " +
+            "hit.image_name AS \"imageName\", hit.company_tag AS \"companyTag\", hit.rank AS \"rank\", " +
+            "hit.created_at AS \"createdAt\", hit.updated_at AS \"updatedAt\", " +
+            "ts_headline('" + AppConstants.SEARCH_CONFIG + "', " +
+            "replace(replace(replace(replace(hit.content, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '\"', '&quot;'), " +
+            "q.query, " +
+            "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS \"snippet\" " +
+            "FROM (SELECT e.id, e.user_name, e.title, e.image_name, e.company_tag, e.content, e.created_at, e.updated_at, " +
+            "ts_rank_cd(e.search_vector, q.query) AS rank " +
+            "FROM interview_experience e, q " +
+            "WHERE e.search_vector @@ q.query " +
+            "AND (CAST(:companyTag AS VARCHAR) IS NULL OR e.company_tag = :companyTag) " +
+            "ORDER BY rank DESC, e.created_at DESC LIMIT :limit OFFSET :offset) hit, q " +
+            "ORDER BY hit.rank DESC, hit.created_at DESC",
+            nativeQuery = true)
+    List<InterviewSearchHit> searchRanked(@Param("query") String query,
+                                          @Param("companyTag") String companyTag,
+                                          @Param("limit") int limit,
+                                          @Param("offset") long offset);
 }
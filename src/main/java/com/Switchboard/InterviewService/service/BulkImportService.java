@@ -0,0 +1,14 @@
+package com.Switchboard.InterviewService.service;
+
+import com.Switchboard.InterviewService.dto.BulkImportProgressDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface BulkImportService {
+
+    // Every imported record is attributed to userEmail, whatever email the record itself carries
+    BulkImportProgressDTO importInterviews(InputStream body, String userEmail, Consumer<BulkImportProgressDTO> progress) throws IOException;
+
+}
@@ -0,0 +1,17 @@
+package com.Switchboard.InterviewService.service;
+
+import com.Switchboard.InterviewService.dto.CompanyStatsDTO;
+import com.Switchboard.InterviewService.dto.CompanyWeeklyStatsDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CompanyStatsService {
+
+    void recordPost(String companyTag, LocalDateTime createdAt, long delta);
+
+    List<CompanyStatsDTO> getPostsPerCompany();
+
+    List<CompanyWeeklyStatsDTO> getWeeklyPostsPerCompany(String companyTag, LocalDate from, LocalDate to);
+}
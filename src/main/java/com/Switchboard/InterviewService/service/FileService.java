@@ -1,16 +1,54 @@
 package com.Switchboard.InterviewService.service;
 
+import com.Switchboard.InterviewService.dto.PresignedUploadDTO;
+import com.Switchboard.InterviewService.dto.StoredImageDTO;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+/**
+ * Image storage. The backend is chosen with interview.storage.backend: "s3" (the default,
+ * FileServiceImpl), "local" for a directory on this host (DiskFileServiceImpl) or "memory" for
+ * benchmarks and load tests (InMemoryFileServiceImpl). All of them issue content-addressed public
+ * URLs and are interchangeable behind this interface; only presignUpload needs S3.
+ */
 public interface FileService {
 
         String uploadImage(String path , MultipartFile file) throws IOException;
 
-        InputStream getResource(String path , String fileName) throws FileNotFoundException;
+        // Content-addressed public URL of the file: identical bytes map to the same object. Nothing is uploaded yet
+        String newImageUrl(String path , MultipartFile file) throws IOException;
+
+        // Starts uploading file to the object behind imageUrl, skipped if it is already stored; completes with imageUrl once it is stored
+        CompletableFuture<String> uploadImageAsync(String imageUrl , MultipartFile file) throws IOException;
+
+        // Opens path/fileName for streaming to a client; throws FileNotFoundException when nothing is stored there
+        ImageResource getResource(String path , String fileName) throws IOException;
 
          void deleteImage(String fileUrl);
+
+         // Opens the stored image behind imageUrl for reading; the caller closes the stream
+         InputStream openImage(String imageUrl) throws IOException;
+
+         // Stores a derived copy of the image next to the original and returns its public URL
+         String storeRendition(String imageUrl, String variant, String contentType, byte[] content);
+
+         // Issues a short-lived URL the client PUTs the image to directly, bound to the given type and size.
+         // Backends without direct uploads throw UnsupportedOperationException
+         PresignedUploadDTO presignUpload(String originalFilename, String contentType, long contentLength);
+
+         // Checks a presigned upload and throws IllegalArgumentException unless it is a stored, acceptable image
+         void verifyUploadedImage(String imageUrl);
+
+         // Returns the URLs that could not be deleted, mapped to the reason; empty when all were removed
+         Map<String, String> deleteImages(Collection<String> fileUrls);
+
+         // Lists every object under path, handing them to pageConsumer one page of at most pageSize at a time
+         void listImages(String path, int pageSize, Consumer<List<StoredImageDTO>> pageConsumer);
 }
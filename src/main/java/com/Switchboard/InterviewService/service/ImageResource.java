@@ -0,0 +1,24 @@
+package com.Switchboard.InterviewService.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * A stored image opened for serving. The metadata is known up front, so conditional and Range
+ * requests can be answered before any content is read.
+ */
+public interface ImageResource {
+
+    long contentLength();
+
+    String contentType();
+
+    // Strong validator, quoted as in the ETag header
+    String eTag();
+
+    Instant lastModified();
+
+    // Writes length bytes starting at offset to out without holding the image in memory
+    void transferTo(long offset, long length, OutputStream out) throws IOException;
+}
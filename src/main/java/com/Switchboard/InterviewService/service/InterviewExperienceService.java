@@ -1,28 +1,69 @@
 package com.Switchboard.InterviewService.service;
 
+import com.Switchboard.InterviewService.dto.BulkDeleteResultDTO;
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
-import org.springframework.web.multipart.MultipartFile;
+import com.Switchboard.InterviewService.dto.SearchResponseDTO;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface InterviewExperienceService {
 
+    // imageUrl is an image this service has already stored and the caller retained, or null
     InterviewExperienceResponse createInterviewExperience(InterviewExperienceRequest request, String imageUrl);
 
+    // Queues thumbnail and medium renditions of the stored image; returns without waiting for them
+    void generateImageRenditions(InterviewExperienceResponse experience);
+
     PageResponseDTO getAllInterviews(Integer pageNumber, Integer pageSize, String sortBy, String sortDir);
 
+    PageResponseDTO getInterviewsByCursor(String cursor, Integer pageSize);
+
+    PageResponseDTO getInterviewsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDir);
+
+    PageResponseDTO getInterviewsWithEstimatedTotal(Integer pageNumber, Integer pageSize, String sortBy, String sortDir);
+
     InterviewExperienceResponse  getInterviewById(UUID id);
 
-   List<InterviewExperienceResponse> searchByEmail(String userEmail);
+    LocalDateTime getInterviewUpdatedAt(UUID id);
+
+    long getListVersion();
+
+    long getCompanyFeedVersion(String companyTag);
+
+   PageResponseDTO searchByEmail(String userEmail, Integer pageNumber, Integer pageSize);
 
-   List<InterviewExperienceResponse> searchByCompany(String companyTag);
+   PageResponseDTO searchByCompany(String companyTag, Integer pageNumber, Integer pageSize);
 
-   InterviewExperienceResponse updateInterviewExperience(UUID id, InterviewExperienceRequest request, MultipartFile newImage)  throws IOException;
+   SearchResponseDTO searchInterviews(String query, String companyTag, Integer pageNumber, Integer pageSize);
+
+   SearchResponseDTO searchInterviewsInIndex(String query, String companyTag, Integer pageNumber, Integer pageSize);
+
+   List<CompanyTagSuggestion> autocompleteCompanies(String prefix, Integer limit);
+
+   // storedImageUrl is a new image this service has already stored, or null; the caller retains and uploads it before
+   // the update runs
+   InterviewExperienceResponse updateInterviewExperience(UUID id, InterviewExperienceRequest request, String storedImageUrl);
 
    void deleteInterviewExperience(UUID id);
 
+   // Counts a stored image as referenced before an upload checks whether it already exists; the reference passes to
+   // the experience it is then created or updated with, or is given back with releaseImage
+   void retainImage(String imageUrl);
+
+   // Drops one reference and queues the image for deletion; it is removed from storage once nothing references it
+   void releaseImage(String imageUrl);
+
+   BulkDeleteResultDTO deleteInterviewExperiences(Collection<UUID> ids);
+
+   long exportInterviews(String companyTag, LocalDate from, LocalDate to, OutputStream out) throws IOException;
+
 }
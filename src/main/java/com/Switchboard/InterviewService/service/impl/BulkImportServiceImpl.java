@@ -0,0 +1,243 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.BulkImportProgressDTO;
+import com.Switchboard.InterviewService.dto.BulkImportRecordResult;
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.service.BulkImportService;
+import com.Switchboard.InterviewService.service.CompanyStatsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports a JSON array or NDJSON stream of InterviewExperienceRequests. Records are parsed and
+ * validated one at a time and inserted with JDBC batches of interview.import.batch-size rows,
+ * each batch in its own transaction together with its company counter updates, so memory stays
+ * bounded by one batch and a failing batch never rolls back earlier ones. After every batch a
+ * progress line with the per-record results is handed to the caller. Records are posted as the
+ * calling user, as a single create is; a userEmail inside a record is ignored.
+ */
+@Service
+public class BulkImportServiceImpl implements BulkImportService {
+    private static final Logger log = LoggerFactory.getLogger(BulkImportServiceImpl.class);
+
+    static final String INSERT_SQL =
+            "INSERT INTO interview_experience " +
+            "(id, user_name, user_email, title, content, company_tag, image_name, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Column limits of interview_experience that the request annotations do not cover
+    private static final int MAX_USER_NAME = 100;
+    private static final int MAX_USER_EMAIL = 150;
+    private static final int MAX_COMPANY_TAG = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final InterviewExperienceMapper mapper;
+    private final CompanyStatsService companyStats;
+    private final CompanyFeedVersions companyFeedVersions;
+    private final CompanyTagIndex companyTagIndex;
+    private final LuceneSearchIndex searchIndex;
+
+    @Value("${interview.import.batch-size:1000}")
+    private int batchSize;
+
+    public BulkImportServiceImpl(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 InterviewExperienceMapper mapper,
+                                 CompanyStatsService companyStats,
+                                 CompanyFeedVersions companyFeedVersions,
+                                 CompanyTagIndex companyTagIndex,
+                                 LuceneSearchIndex searchIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.mapper = mapper;
+        this.companyStats = companyStats;
+        this.companyFeedVersions = companyFeedVersions;
+        this.companyTagIndex = companyTagIndex;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public BulkImportProgressDTO importInterviews(InputStream body, String userEmail, Consumer<BulkImportProgressDTO> progress) throws IOException {
+        long started = System.currentTimeMillis();
+        Totals totals = new Totals();
+        List<Long> pendingIndexes = new ArrayList<>(batchSize);
+        List<InterviewExperience> pending = new ArrayList<>(batchSize);
+        List<BulkImportRecordResult> results = new ArrayList<>(batchSize);
+
+        // A root-level array is unwrapped by the iterator, so arrays and NDJSON read the same way
+        try (MappingIterator<JsonNode> records = objectMapper.readerFor(JsonNode.class).readValues(body)) {
+            long index = 0;
+            while (records.hasNextValue()) {
+                JsonNode record = records.nextValue();
+                List<String> errors = new ArrayList<>();
+                InterviewExperience experience = toExperience(record, userEmail, errors);
+                if (errors.isEmpty()) {
+                    pendingIndexes.add(index);
+                    pending.add(experience);
+                } else {
+                    results.add(BulkImportRecordResult.builder().index(index).errors(errors).build());
+                }
+                index++;
+                if (pending.size() + results.size() >= batchSize) {
+                    flush(pendingIndexes, pending, results, totals, progress);
+                }
+            }
+        }
+        flush(pendingIndexes, pending, results, totals, progress);
+
+        log.info("BulkImportServiceImpl :: importInterviews :: imported :: {} of {} experiences ({} rejected) in {} ms",
+                totals.created, totals.processed, totals.rejected, System.currentTimeMillis() - started);
+        BulkImportProgressDTO summary = totals.snapshot(true, List.of());
+        progress.accept(summary);
+        return summary;
+    }
+
+    private InterviewExperience toExperience(JsonNode record, String userEmail, List<String> errors) {
+        InterviewExperienceRequest request;
+        try {
+            request = objectMapper.treeToValue(record, InterviewExperienceRequest.class);
+        } catch (JsonProcessingException e) {
+            errors.add("Malformed record: " + e.getOriginalMessage());
+            return null;
+        } catch (IllegalArgumentException e) {
+            errors.add("Malformed record: " + e.getMessage());
+            return null;
+        }
+        if (request == null) {
+            errors.add("Record must be a JSON object");
+            return null;
+        }
+        request.setUserEmail(userEmail);
+        checkRequired("userName", request.getUserName(), MAX_USER_NAME, errors);
+        checkRequired("userEmail", request.getUserEmail(), MAX_USER_EMAIL, errors);
+        checkRequired("title", request.getTitle(), Integer.MAX_VALUE, errors);
+        checkRequired("content", request.getContent(), Integer.MAX_VALUE, errors);
+        checkRequired("companyTag", request.getCompanyTag(), MAX_COMPANY_TAG, errors);
+        for (ConstraintViolation<InterviewExperienceRequest> violation : validator.validate(request)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors.isEmpty() ? mapper.toEntity(request) : null;
+    }
+
+    private static void checkRequired(String field, String value, int maxLength, List<String> errors) {
+        if (value == null || value.isBlank()) {
+            errors.add(field + ": must not be blank");
+        } else if (value.length() > maxLength) {
+            errors.add(field + ": must be at most " + maxLength + " characters");
+        }
+    }
+
+    private void flush(List<Long> pendingIndexes, List<InterviewExperience> pending,
+                       List<BulkImportRecordResult> results, Totals totals,
+                       Consumer<BulkImportProgressDTO> progress) {
+        if (pending.isEmpty() && results.isEmpty()) {
+            return;
+        }
+        long records = pendingIndexes.size() + results.size();
+        totals.rejected += results.size();
+        if (!pending.isEmpty()) {
+            insertBatch(pendingIndexes, pending, results, totals);
+        }
+        totals.processed += records;
+        results.sort(Comparator.comparingLong(BulkImportRecordResult::getIndex));
+        progress.accept(totals.snapshot(false, List.copyOf(results)));
+
+        pendingIndexes.clear();
+        pending.clear();
+        results.clear();
+    }
+
+    private void insertBatch(List<Long> pendingIndexes, List<InterviewExperience> pending,
+                             List<BulkImportRecordResult> results, Totals totals) {
+        LocalDateTime now = LocalDateTime.now();
+        for (InterviewExperience experience : pending) {
+            experience.setId(UUID.randomUUID());
+            experience.setCreatedAt(now);
+            experience.setUpdatedAt(now);
+        }
+        Map<String, Long> perCompany = pending.stream()
+                .collect(Collectors.groupingBy(InterviewExperience::getCompanyTag, TreeMap::new, Collectors.counting()));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, pending, pending.size(), (ps, experience) -> {
+                    ps.setObject(1, experience.getId());
+                    ps.setString(2, experience.getUserName());
+                    ps.setString(3, experience.getUserEmail());
+                    ps.setString(4, experience.getTitle());
+                    ps.setString(5, experience.getContent());
+                    ps.setString(6, experience.getCompanyTag());
+                    ps.setString(7, experience.getImageName());
+                    ps.setTimestamp(8, Timestamp.valueOf(experience.getCreatedAt()));
+                    ps.setTimestamp(9, Timestamp.valueOf(experience.getUpdatedAt()));
+                });
+                perCompany.forEach((companyTag, count) -> companyStats.recordPost(companyTag, now, count));
+            });
+        } catch (DataAccessException e) {
+            log.error("BulkImportServiceImpl :: insertBatch :: failed :: batch of {} rows: {}", pending.size(), e.getMostSpecificCause().getMessage());
+            List<String> errors = List.of("Insert failed: " + e.getMostSpecificCause().getMessage());
+            pendingIndexes.forEach(index -> results.add(BulkImportRecordResult.builder().index(index).errors(errors).build()));
+            totals.rejected += pending.size();
+            return;
+        }
+
+        for (int i = 0; i < pending.size(); i++) {
+            InterviewExperience experience = pending.get(i);
+            results.add(BulkImportRecordResult.builder().index(pendingIndexes.get(i)).id(experience.getId()).build());
+            searchIndex.index(experience);
+            companyTagIndex.increment(experience.getCompanyTag());
+        }
+        perCompany.keySet().forEach(companyFeedVersions::bump);
+        totals.created += pending.size();
+    }
+
+    private static final class Totals {
+        private long processed;
+        private long created;
+        private long rejected;
+
+        private BulkImportProgressDTO snapshot(boolean done, List<BulkImportRecordResult> results) {
+            return BulkImportProgressDTO.builder()
+                    .processed(processed)
+                    .created(created)
+                    .rejected(rejected)
+                    .done(done)
+                    .results(results)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-company version numbers for the company feed cache. The version is part of every
+ * feed cache key, so bumping it makes all cached pages of that company unreachable in O(1)
+ * without scanning keys; the orphaned entries simply expire with their TTL. The versions also
+ * back the list ETags, so a counter that is missing (first use, or a flushed Redis) starts at
+ * the current epoch millis rather than 0 and never repeats a version handed out before.
+ */
+@Component
+public class CompanyFeedVersions {
+    private static final Logger log = LoggerFactory.getLogger(CompanyFeedVersions.class);
+
+    private static final String KEY_PREFIX = "interview:company-feed-version:";
+    private static final String GLOBAL_KEY = "interview:feed-version";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public CompanyFeedVersions(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public long current(String companyTag) {
+        return read(KEY_PREFIX + companyTag);
+    }
+
+    // Bumped by every write to any company, so it versions the unfiltered list endpoint
+    public long currentGlobal() {
+        return read(GLOBAL_KEY);
+    }
+
+    // Each counter is bumped on its own, so a failure on one never holds back the other
+    public void bump(String companyTag) {
+        if (companyTag == null) {
+            return;
+        }
+        increment(GLOBAL_KEY, companyTag);
+        increment(KEY_PREFIX + companyTag, companyTag);
+    }
+
+    private long read(String key) {
+        String version = redisTemplate.opsForValue().get(key);
+        if (version == null) {
+            seed(key);
+            version = redisTemplate.opsForValue().get(key);
+        }
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    private void increment(String key, String companyTag) {
+        try {
+            seed(key);
+            Long version = redisTemplate.opsForValue().increment(key);
+            log.info("CompanyFeedVersions :: bump :: {} for company {} now at version {}", key, companyTag, version);
+        } catch (RuntimeException e) {
+            // The write already committed; stale feed pages will age out with the cache TTL
+            log.error("CompanyFeedVersions :: bump :: {} failed for company {}: {}", key, companyTag, e.getMessage());
+        }
+    }
+
+    // SETNX, so only a missing counter is seeded and concurrent seeders agree on one value
+    private void seed(String key) {
+        redisTemplate.opsForValue().setIfAbsent(key, Long.toString(System.currentTimeMillis()));
+    }
+}
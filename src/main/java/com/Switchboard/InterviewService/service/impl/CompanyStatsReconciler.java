@@ -0,0 +1,104 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.CompanyDayCount;
+import com.Switchboard.InterviewService.repository.CompanyDailyCountRepository;
+import com.Switchboard.InterviewService.repository.CompanyPostCountRepository;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rebuilds the company statistics counters from interview_experience. Companies are
+ * processed in batches of interview.stats.reconcile-batch-size, each in its own short
+ * transaction that replaces the counters of exactly those companies, so the job never
+ * holds locks on the whole counter table. Counters of companies without posts are dropped.
+ * A run holds a PostgreSQL advisory lock in an outer transaction while the batches commit in
+ * their own, so only one instance reconciles at a time and the others skip the run. Counters are
+ * rewritten with the same upserts recordPost uses, so a post recorded while a batch runs adds to
+ * the rebuilt row instead of colliding with its insert.
+ */
+@Component
+public class CompanyStatsReconciler {
+    private static final Logger log = LoggerFactory.getLogger(CompanyStatsReconciler.class);
+
+    // Advisory lock key of the reconciliation run, shared by every instance
+    static final long LOCK_KEY = 0x5354415453L;
+
+    private final InterviewExperienceRepository experienceRepository;
+    private final CompanyPostCountRepository postCountRepository;
+    private final CompanyDailyCountRepository dailyCountRepository;
+    private final TransactionTemplate lockTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${interview.stats.reconcile-batch-size:100}")
+    private int batchSize;
+
+    public CompanyStatsReconciler(InterviewExperienceRepository experienceRepository,
+                                  CompanyPostCountRepository postCountRepository,
+                                  CompanyDailyCountRepository dailyCountRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.experienceRepository = experienceRepository;
+        this.postCountRepository = postCountRepository;
+        this.dailyCountRepository = dailyCountRepository;
+        this.lockTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(cron = "${interview.stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        lockTemplate.executeWithoutResult(status -> {
+            if (!postCountRepository.tryAdvisoryLock(LOCK_KEY)) {
+                log.info("CompanyStatsReconciler :: reconcile :: skipped :: another instance is reconciling");
+                return;
+            }
+            reconcileLocked();
+        });
+    }
+
+    private void reconcileLocked() {
+        long started = System.currentTimeMillis();
+        List<String> companies = experienceRepository.findDistinctCompanyTags();
+        for (int from = 0; from < companies.size(); from += batchSize) {
+            List<String> batch = companies.subList(from, Math.min(from + batchSize, companies.size()));
+            transactionTemplate.executeWithoutResult(status -> reconcileBatch(batch));
+        }
+
+        Set<String> stale = new HashSet<>(postCountRepository.findAllCompanyTags());
+        companies.forEach(stale::remove);
+        if (!stale.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                dailyCountRepository.deleteByCompanyTags(stale);
+                postCountRepository.deleteByCompanyTags(stale);
+            });
+        }
+        log.info("CompanyStatsReconciler :: reconcile :: rebuilt counters for {} companies, dropped {} in {} ms",
+                companies.size(), stale.size(), System.currentTimeMillis() - started);
+    }
+
+    private void reconcileBatch(List<String> companies) {
+        dailyCountRepository.deleteByCompanyTags(companies);
+        postCountRepository.deleteByCompanyTags(companies);
+
+        Map<String, Long> totals = new HashMap<>();
+        List<CompanyDayCount> days = experienceRepository.countPostsPerCompanyAndDay(companies);
+        for (CompanyDayCount day : days) {
+            dailyCountRepository.upsertCount(day.getCompanyTag(), day.getBucketDate(), day.getPostCount());
+            totals.merge(day.getCompanyTag(), day.getPostCount(), Long::sum);
+        }
+        totals.forEach((company, posts) -> postCountRepository.upsertCount(company, posts));
+        log.debug("CompanyStatsReconciler :: reconcileBatch :: rebuilt {} companies from {} day buckets", companies.size(), days.size());
+    }
+}
@@ -0,0 +1,92 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.CompanyStatsDTO;
+import com.Switchboard.InterviewService.dto.CompanyWeeklyStatsDTO;
+import com.Switchboard.InterviewService.model.CompanyDailyCount;
+import com.Switchboard.InterviewService.repository.CompanyDailyCountRepository;
+import com.Switchboard.InterviewService.repository.CompanyPostCountRepository;
+import com.Switchboard.InterviewService.service.CompanyStatsService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class CompanyStatsServiceImpl implements CompanyStatsService {
+    private static final Logger log = LoggerFactory.getLogger(CompanyStatsServiceImpl.class);
+
+    private final CompanyPostCountRepository postCountRepository;
+    private final CompanyDailyCountRepository dailyCountRepository;
+
+    /**
+     * Applies a post count change to the company total and to the day bucket of createdAt.
+     * Joins the caller's transaction so counters commit or roll back with the post itself.
+     */
+    @Override
+    @Transactional
+    public void recordPost(String companyTag, LocalDateTime createdAt, long delta) {
+        if (companyTag == null) {
+            return;
+        }
+        LocalDate bucketDate = (createdAt != null ? createdAt : LocalDateTime.now()).toLocalDate();
+
+        // Increments upsert, so the first posts of a company (or day) racing each other cannot both insert.
+        // Decrements only update: a missing row means the counters predate the post; reconciliation fixes it.
+        if (delta > 0) {
+            postCountRepository.upsertCount(companyTag, delta);
+            dailyCountRepository.upsertCount(companyTag, bucketDate, delta);
+        } else {
+            postCountRepository.addToCount(companyTag, delta);
+            dailyCountRepository.addToCount(companyTag, bucketDate, delta);
+        }
+        log.debug("CompanyStatsServiceImpl :: recordPost :: applied {} to {} on {}", delta, companyTag, bucketDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CompanyStatsDTO> getPostsPerCompany() {
+        log.info("CompanyStatsServiceImpl :: getPostsPerCompany :: reading :: company counters");
+        return postCountRepository.findAllWithPosts().stream()
+                .map(c -> new CompanyStatsDTO(c.getCompanyTag(), c.getPostCount()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CompanyWeeklyStatsDTO> getWeeklyPostsPerCompany(String companyTag, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        log.info("CompanyStatsServiceImpl :: getWeeklyPostsPerCompany :: reading :: buckets from {} to {} for company: {}", from, to, companyTag);
+        List<CompanyDailyCount> buckets = (companyTag == null || companyTag.isBlank())
+                ? dailyCountRepository.findByBucketDateBetween(from, to)
+                : dailyCountRepository.findByCompanyTagAndBucketDateBetween(companyTag, from, to);
+
+        // company -> week start -> posts, both sorted
+        Map<String, Map<LocalDate, Long>> weekly = new TreeMap<>();
+        for (CompanyDailyCount bucket : buckets) {
+            LocalDate weekStart = bucket.getBucketDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            weekly.computeIfAbsent(bucket.getCompanyTag(), k -> new TreeMap<>())
+                    .merge(weekStart, bucket.getPostCount(), Long::sum);
+        }
+
+        List<CompanyWeeklyStatsDTO> result = new ArrayList<>();
+        weekly.forEach((company, weeks) -> weeks.forEach((weekStart, posts) -> {
+            if (posts > 0) {
+                result.add(new CompanyWeeklyStatsDTO(company, weekStart, posts));
+            }
+        }));
+        return result;
+    }
+}
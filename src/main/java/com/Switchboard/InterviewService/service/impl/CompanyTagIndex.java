@@ -0,0 +1,272 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix index (trie) of canonicalized company tags with their post counts.
+ * Tags are canonicalized by trimming, collapsing whitespace and lower-casing, so "Google",
+ * " google " and "GOOGLE" share one entry. Every node keeps the top MAX_SUGGESTIONS tags of
+ * its subtree, so a lookup is a walk down the prefix plus a copy of at most that many entries.
+ * Memory is one node per distinct tag character. Seeded from the repository at startup and
+ * updated incrementally by this instance's write paths; writes made through other instances only
+ * show up with the periodic rebuild every interview.company-tags.rebuild-interval.
+ */
+@Component
+public class CompanyTagIndex implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(CompanyTagIndex.class);
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Entry> BY_POPULARITY = Comparator
+            .comparingLong((Entry e) -> e.count).reversed()
+            .thenComparing(e -> e.key);
+
+    private final InterviewExperienceRepository repository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+
+    public CompanyTagIndex(InterviewExperienceRepository repository) {
+        this.repository = repository;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Entry entry;
+        private List<Entry> top = new ArrayList<>(0);
+    }
+
+    private static final class Entry {
+        private final String key;
+        private String displayName;
+        private long displayCount;
+        private long count;
+
+        private Entry(String key) {
+            this.key = key;
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    // Other instances' writes never reach this trie, so it is replaced from the database regularly
+    @Scheduled(fixedDelayString = "${interview.company-tags.rebuild-interval:PT5M}",
+            initialDelayString = "${interview.company-tags.rebuild-interval:PT5M}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("CompanyTagIndex :: refresh :: rebuild failed, keeping the current index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the index with the per-tag counts currently in the database. The variant with
+     * the most posts becomes the display name of a merged tag.
+     */
+    public void rebuild() {
+        List<CompanyTagSuggestion> counts = repository.countPostsPerCompanyTag();
+        Node newRoot = new Node();
+        for (CompanyTagSuggestion tagCount : counts) {
+            String key = canonicalize(tagCount.getCompanyTag());
+            if (key.isEmpty()) {
+                continue;
+            }
+            Entry entry = entryFor(newRoot, key, tagCount.getCompanyTag().trim());
+            entry.count += tagCount.getPostCount();
+            if (tagCount.getPostCount() > entry.displayCount) {
+                entry.displayName = tagCount.getCompanyTag().trim();
+                entry.displayCount = tagCount.getPostCount();
+            }
+        }
+        recomputeTops(newRoot);
+
+        lock.writeLock().lock();
+        try {
+            root = newRoot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("CompanyTagIndex :: rebuild :: indexed {} tag variants", counts.size());
+    }
+
+    public void increment(String companyTag) {
+        apply(companyTag, 1);
+    }
+
+    public void decrement(String companyTag) {
+        apply(companyTag, -1);
+    }
+
+    // Re-tags one post; a no-op when both tags canonicalize to the same entry
+    public void move(String fromCompanyTag, String toCompanyTag) {
+        if (canonicalize(fromCompanyTag).equals(canonicalize(toCompanyTag))) {
+            return;
+        }
+        decrement(fromCompanyTag);
+        increment(toCompanyTag);
+    }
+
+    public List<CompanyTagSuggestion> suggest(String prefix, int limit) {
+        String key = canonicalizePrefix(prefix);
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<CompanyTagSuggestion> suggestions = new ArrayList<>(Math.min(size, node.top.size()));
+            for (int i = 0; i < node.top.size() && i < size; i++) {
+                Entry entry = node.top.get(i);
+                suggestions.add(new CompanyTagSuggestion(entry.displayName, entry.count));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String canonicalize(String companyTag) {
+        return companyTag == null ? "" : companyTag.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // Like canonicalize, but keeps one trailing space so "goldman " only matches multi-word tags
+    static String canonicalizePrefix(String prefix) {
+        return prefix == null ? "" : prefix.stripLeading().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private void apply(String companyTag, long delta) {
+        String key = canonicalize(companyTag);
+        if (key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                path.add(node);
+            }
+            Entry entry = node.entry;
+            if (entry == null) {
+                if (delta < 0) {
+                    prune(path, key);
+                    return;
+                }
+                entry = new Entry(key);
+                entry.displayName = companyTag.trim();
+                node.entry = entry;
+            }
+            entry.count += delta;
+            if (entry.count <= 0) {
+                node.entry = null;
+            }
+
+            // Bottom-up, so a node rebuilding its top after a decrement sees its children's new tops
+            for (int i = path.size() - 1; i >= 0; i--) {
+                updateTop(path.get(i), entry, delta);
+            }
+            if (node.entry == null) {
+                prune(path, key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void updateTop(Node node, Entry entry, long delta) {
+        boolean listed = node.top.contains(entry);
+        if (delta < 0) {
+            // A lower count may let an unlisted tag of the subtree overtake it. Every tag that could
+            // is in a child's top, so merging those costs O(children) rather than a subtree scan
+            if (listed) {
+                node.top = mergedTop(node);
+            }
+            return;
+        }
+        if (!listed) {
+            if (node.top.size() >= MAX_SUGGESTIONS
+                    && BY_POPULARITY.compare(entry, node.top.get(node.top.size() - 1)) > 0) {
+                return;
+            }
+            node.top.add(entry);
+        }
+        node.top.sort(BY_POPULARITY);
+        if (node.top.size() > MAX_SUGGESTIONS) {
+            node.top.remove(node.top.size() - 1);
+        }
+    }
+
+    // Drops trailing nodes that no longer lead to any tag
+    private static void prune(List<Node> path, String key) {
+        for (int i = key.length(); i > 0; i--) {
+            Node node = path.get(i);
+            if (node.entry != null || !node.children.isEmpty()) {
+                return;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    private static Entry entryFor(Node root, String key, String displayName) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        if (node.entry == null) {
+            node.entry = new Entry(key);
+            node.entry.displayName = displayName;
+        }
+        return node.entry;
+    }
+
+    private static List<Entry> recomputeTops(Node node) {
+        List<Entry> candidates = new ArrayList<>();
+        if (node.entry != null) {
+            candidates.add(node.entry);
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(recomputeTops(child));
+        }
+        candidates.sort(BY_POPULARITY);
+        node.top = new ArrayList<>(candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())));
+        return node.top;
+    }
+
+    // The top of a subtree: the best of the node's own tag and its children's tops
+    private static List<Entry> mergedTop(Node node) {
+        List<Entry> candidates = new ArrayList<>();
+        if (node.entry != null) {
+            candidates.add(node.entry);
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(BY_POPULARITY);
+        return new ArrayList<>(candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())));
+    }
+}
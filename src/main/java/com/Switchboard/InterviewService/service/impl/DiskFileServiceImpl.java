@@ -0,0 +1,151 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Stores images as files under interview.storage.local-dir, for on-prem installs and load tests
+ * without AWS. Every write goes to a temp file in the target directory first and is then renamed
+ * over the key with an atomic move, so readers and a crash mid-upload never leave a partial
+ * image behind. The content type is derived from the key's extension, which is chosen from the
+ * content type for originals and renditions alike.
+ */
+@Service
+@ConditionalOnProperty(name = "interview.storage.backend", havingValue = "local")
+public class DiskFileServiceImpl extends LocalFileService {
+    private static final Logger log = LoggerFactory.getLogger(DiskFileServiceImpl.class);
+
+    @Value("${interview.storage.local-dir:./data/images}")
+    private Path directory;
+
+    @PostConstruct
+    void start() throws IOException {
+        directory = directory.toAbsolutePath().normalize();
+        Files.createDirectories(directory);
+        log.info("DiskFileServiceImpl :: start :: storing images in {}", directory);
+    }
+
+    @Override
+    protected StoredObject stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(fileOf(key), BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new StoredObject(key, attributes.size(), contentTypeOf(key), attributes.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void write(String key, InputStream content, String contentType) throws IOException {
+        Path file = fileOf(key);
+        Files.createDirectories(file.getParent());
+        // Dot-prefixed, so it is never a valid key and never listed
+        Path temp = Files.createTempFile(file.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    protected InputStream read(String key) throws IOException {
+        try {
+            return Files.newInputStream(fileOf(key));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("No image stored at " + key);
+        }
+    }
+
+    // The open channel keeps the bytes readable even if the file is replaced or deleted meanwhile. The
+    // target wraps the response stream, so this is a buffered copy, not a zero-copy sendfile
+    @Override
+    protected void transfer(String key, long offset, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(fileOf(key), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("No image stored at " + key);
+        }
+    }
+
+    @Override
+    protected boolean remove(String key) throws IOException {
+        return Files.deleteIfExists(fileOf(key));
+    }
+
+    @Override
+    protected Stream<StoredObject> objects(String path) throws IOException {
+        Path dir = fileOf(path);
+        if (!Files.isDirectory(dir)) {
+            return Stream.empty();
+        }
+        return Files.list(dir)
+                .map(file -> file.getFileName().toString())
+                .filter(name -> FileServiceImpl.FILE_NAME.matcher(name).matches())
+                .map(name -> statQuietly(path + "/" + name))
+                .filter(Objects::nonNull);
+    }
+
+    // Files removed while the directory is listed are skipped
+    private StoredObject statQuietly(String key) {
+        try {
+            return stat(key);
+        } catch (IOException e) {
+            log.warn("DiskFileServiceImpl :: statQuietly :: could not read {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path fileOf(String key) {
+        Path file = directory.resolve(checkKey(key)).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("Invalid image key: " + key);
+        }
+        return file;
+    }
+
+    private static String contentTypeOf(String key) {
+        String extension = key.substring(key.lastIndexOf('.') + 1).toLowerCase();
+        return switch (extension) {
+            case "jpg", "jpeg" -> "image/jpeg";
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            case "webp" -> "image/webp";
+            default -> "application/octet-stream";
+        };
+    }
+}
@@ -1,23 +1,91 @@
 package com.Switchboard.InterviewService.service.impl;
 
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.config.ImageValidator;
+import com.Switchboard.InterviewService.dto.PresignedUploadDTO;
+import com.Switchboard.InterviewService.dto.StoredImageDTO;
 import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.ImageResource;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+/**
+ * S3 storage backend, the default. See interview.storage.backend for the local disk and
+ * in-memory alternatives.
+ */
 @Service
+@ConditionalOnProperty(name = "interview.storage.backend", havingValue = "s3", matchIfMissing = true)
 public class FileServiceImpl implements FileService {
     private static final Logger log = LoggerFactory.getLogger(FileServiceImpl.class);
 
+    // S3 DeleteObjects accepts at most this many keys per request
+    static final int MAX_KEYS_PER_DELETE = 1000;
+
+    // 32 characters, the HMAC-SHA256 output size, so the key is not the weak link
+    static final int MIN_SIGNING_KEY_LENGTH = 32;
+
+    // One object name directly under the path: no separators, no leading dot
+    static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final ExecutorService uploadExecutor;
+    private final ExecutorService deleteExecutor;
+    private final S3Presigner s3Presigner;
+    private final ImageDiskCache imageCache;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -25,17 +93,50 @@ public class FileServiceImpl implements FileService {
     @Value("${aws.region}")
     private String region;
 
-    public FileServiceImpl(S3Client s3Client) {
+    @Value("${interview.s3.presign-ttl:5m}")
+    private Duration presignTtl;
+
+    @Value("${interview.s3.max-upload-bytes:5242880}")
+    private long maxUploadBytes;
+
+    // Signs presigned upload keys. Must be set, and the same on every instance and across restarts,
+    // or an upload presigned by one instance cannot be attached through another
+    @Value("${interview.s3.upload-signing-key:}")
+    private String uploadSigningKey;
+
+    public FileServiceImpl(S3Client s3Client, S3AsyncClient s3AsyncClient,
+                           @Qualifier("s3UploadExecutor") ExecutorService uploadExecutor,
+                           @Qualifier("s3DeleteExecutor") ExecutorService deleteExecutor,
+                           S3Presigner s3Presigner,
+                           ImageDiskCache imageCache) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.uploadExecutor = uploadExecutor;
+        this.deleteExecutor = deleteExecutor;
+        this.s3Presigner = s3Presigner;
+        this.imageCache = imageCache;
+    }
+
+    // A per-instance fallback key would make presigns fail with a 400 on every other instance, so refuse to start
+    @PostConstruct
+    void checkUploadSigningKey() {
+        if (uploadSigningKey == null || uploadSigningKey.length() < MIN_SIGNING_KEY_LENGTH) {
+            throw new IllegalStateException("interview.s3.upload-signing-key must be set to a shared secret of at least "
+                    + MIN_SIGNING_KEY_LENGTH + " characters when the S3 storage backend is active");
+        }
     }
 
     @Override
     public String uploadImage(String path, MultipartFile file) throws IOException {
         log.info("FileServiceImpl :: uploadImage :: uploading image: {}", file.getOriginalFilename());
 
-        // Random file name for uniqueness
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        String key = path + "/" + fileName;
+        // Content-addressed key: the same image uploaded again is not transferred a second time
+        String publicUrl = newImageUrl(path, file);
+        String key = keyOf(publicUrl);
+        if (objectExists(key)) {
+            log.info("FileServiceImpl :: uploadImage :: {} already stored, skipping upload", key);
+            return publicUrl;
+        }
 
         // Create put request with public-read ACL
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
@@ -44,30 +145,448 @@ public class FileServiceImpl implements FileService {
                 .contentType(file.getContentType())
                 .build();
 
-        log.info("FileServiceImpl :: uploadImage :: uploading to S3 with key: {}", key);
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
-
-        // Generate permanent public URL
-        String publicUrl = "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+        // Streamed with its known length from memory or the multipart spool file, never copied onto the heap
+        log.info("FileServiceImpl :: uploadImage :: uploading {} bytes to S3 with key: {}", file.getSize(), key);
+        try (InputStream content = file.getInputStream()) {
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(content, file.getSize()));
+        }
 
         log.info("FileServiceImpl :: uploadImage :: completed. Public URL: {}", publicUrl);
         return publicUrl;
     }
 
+    /**
+     * The key is the SHA-256 of the image bytes plus an extension for its type, so every upload of
+     * the same image resolves to one object. The digest is computed in a single streaming pass over
+     * the multipart content, which is already local (memory or the spool file), before anything is
+     * sent to S3.
+     */
+    @Override
+    public String newImageUrl(String path, MultipartFile file) throws IOException {
+        String key = path + "/" + sha256Hex(file) + extensionOf(file.getContentType());
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
+    /**
+     * HEADs the content-addressed key first and only uploads when S3 does not have it yet. The
+     * upload is handed to the async client, so the calling thread is not held for the S3 round trip.
+     * Files above interview.s3.multipart-threshold-bytes are uploaded as parallel multipart parts by
+     * the client. The content is streamed from the multipart file on the s3UploadExecutor threads
+     * rather than loaded into memory.
+     */
+    @Override
+    public CompletableFuture<String> uploadImageAsync(String imageUrl, MultipartFile file) throws IOException {
+        String key = keyOf(imageUrl);
+        return s3AsyncClient.headObject(builder -> builder.bucket(bucket).key(key))
+                .handle((head, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    if (isNotFound(error)) {
+                        return false;
+                    }
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                })
+                .thenCompose(exists -> {
+                    if (exists) {
+                        log.info("FileServiceImpl :: uploadImageAsync :: {} already stored, skipping upload", key);
+                        return CompletableFuture.completedFuture(imageUrl);
+                    }
+                    return putAsync(key, imageUrl, file);
+                });
+    }
+
+    private CompletableFuture<String> putAsync(String key, String imageUrl, MultipartFile file) {
+        log.info("FileServiceImpl :: uploadImageAsync :: uploading {} bytes to S3 with key: {}", file.getSize(), key);
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(file.getContentType())
+                .build();
+
+        long started = System.currentTimeMillis();
+        InputStream content;
+        try {
+            content = file.getInputStream();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromInputStream(content, file.getSize(), uploadExecutor))
+                .whenComplete((response, error) -> closeQuietly(content))
+                .thenApply(response -> {
+                    log.info("FileServiceImpl :: uploadImageAsync :: completed {} in {} ms", key, System.currentTimeMillis() - started);
+                    return imageUrl;
+                });
+    }
+
+    /**
+     * Signs a PUT for a fresh key under PATH_VARIABLE. Content-Type and Content-Length are part of
+     * the signature, so S3 rejects a body of another type or size; the image bytes never pass
+     * through this service. The key carries an HMAC of itself, which verifyUploadedImage checks, so
+     * only keys issued here can be attached to an experience.
+     */
     @Override
-    public java.io.InputStream getResource(String path, String fileName) {
-        log.warn("FileServiceImpl :: getResource :: not implemented");
-        throw new UnsupportedOperationException("Not needed for now");
+    public PresignedUploadDTO presignUpload(String originalFilename, String contentType, long contentLength) {
+        if (!ImageValidator.isAllowedType(contentType)) {
+            throw new IllegalArgumentException("Invalid image type. Allowed types are JPG, JPEG, PNG, GIF and WebP.");
+        }
+        if (contentLength <= 0 || contentLength > maxUploadBytes) {
+            throw new IllegalArgumentException("Image size must be between 1 and " + maxUploadBytes + " bytes");
+        }
+        String safeName = originalFilename == null || originalFilename.isBlank()
+                ? "image" : originalFilename.replaceAll("[^A-Za-z0-9._-]", "_");
+        // The bytes never pass through this service, so presigned uploads keep a random key
+        String nonce = UUID.randomUUID().toString();
+        String key = AppConstants.PATH_VARIABLE + "/" + nonce + "-" + uploadTag(nonce + "_" + safeName) + "_" + safeName;
+        String imageUrl = "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(presignTtl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build())
+                .build());
+
+        Map<String, String> requiredHeaders = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                requiredHeaders.put(name, String.join(",", values));
+            }
+        });
+        log.info("FileServiceImpl :: presignUpload :: issued upload URL for key {} expiring at {}", key, presigned.expiration());
+        return PresignedUploadDTO.builder()
+                .uploadUrl(presigned.url().toString())
+                .requiredHeaders(requiredHeaders)
+                .expiresAt(presigned.expiration())
+                .imageUrl(imageUrl)
+                .build();
+    }
+
+    @Override
+    public void verifyUploadedImage(String imageUrl) {
+        String prefix = "https://" + bucket + ".s3." + region + ".amazonaws.com/" + AppConstants.PATH_VARIABLE + "/";
+        if (imageUrl == null || !imageUrl.startsWith(prefix)) {
+            throw new IllegalArgumentException("Uploaded image URL was not issued by this service");
+        }
+        String key = keyOf(imageUrl);
+        if (!isPresignedKey(key)) {
+            log.error("FileServiceImpl :: verifyUploadedImage :: {} is not a presigned upload key", key);
+            throw new IllegalArgumentException("Uploaded image URL was not issued by this service");
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(builder -> builder.bucket(bucket).key(key));
+        } catch (NoSuchKeyException e) {
+            log.error("FileServiceImpl :: verifyUploadedImage :: no object for key {}", key);
+            throw new IllegalArgumentException("Uploaded image not found; upload it before saving the experience");
+        }
+        if (!ImageValidator.isAllowedType(head.contentType()) || head.contentLength() > maxUploadBytes) {
+            log.error("FileServiceImpl :: verifyUploadedImage :: rejected key {} of type {} and {} bytes", key, head.contentType(), head.contentLength());
+            throw new IllegalArgumentException("Uploaded object is not an acceptable image");
+        }
+        log.info("FileServiceImpl :: verifyUploadedImage :: verified key {} ({} bytes)", key, head.contentLength());
+    }
+
+    /**
+     * Serves from the local disk cache when the object is hot there. Otherwise one HEAD supplies
+     * the validators and length, and the content is relayed from GetObject while it is written,
+     * asking S3 for just the requested range. Full reads of small enough objects are copied into
+     * the cache on the way through.
+     */
+    @Override
+    public ImageResource getResource(String path, String fileName) throws IOException {
+        if (fileName == null || !FILE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("Invalid image name");
+        }
+        String key = path + "/" + fileName;
+        ImageResource cached = imageCache.get(key);
+        if (cached != null) {
+            log.debug("FileServiceImpl :: getResource :: serving {} from the disk cache", key);
+            return cached;
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(builder -> builder.bucket(bucket).key(key));
+        } catch (S3Exception e) {
+            if (isNotFound(e)) {
+                throw new FileNotFoundException("No image stored at " + key);
+            }
+            throw e;
+        }
+        log.info("FileServiceImpl :: getResource :: streaming {} ({} bytes) from S3", key, head.contentLength());
+        return new S3ImageResource(key, head);
     }
 
     @Override
     public void deleteImage(String fileUrl) {
         log.info("FileServiceImpl :: deleteImage :: deleting image: {}", fileUrl);
 
-        // Extract key from URL
-        String key = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+        String key = keyOf(fileUrl);
 
         s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+        imageCache.evict(key);
         log.info("FileServiceImpl :: deleteImage :: deleted image from S3: {}", key);
     }
+
+    @Override
+    public InputStream openImage(String imageUrl) {
+        String key = keyOf(imageUrl);
+        log.info("FileServiceImpl :: openImage :: reading image from S3 with key: {}", key);
+        return s3Client.getObject(builder -> builder.bucket(bucket).key(key));
+    }
+
+    // Renditions are small (a few hundred KB at most), so they are uploaded from memory in one PUT
+    @Override
+    public String storeRendition(String imageUrl, String variant, String contentType, byte[] content) {
+        String key = keyOf(imageUrl) + "_" + variant;
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+        imageCache.evict(key);
+        log.info("FileServiceImpl :: storeRendition :: stored {} bytes with key: {}", content.length, key);
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
+    /**
+     * Deletes the images with DeleteObjects, MAX_KEYS_PER_DELETE keys per request. When there is
+     * more than one request they run in parallel on at most interview.s3.delete-concurrency threads.
+     * Keys S3 reports as failed, and every key of a request that failed as a whole, are returned.
+     */
+    @Override
+    public Map<String, String> deleteImages(Collection<String> fileUrls) {
+        Map<String, String> urlsByKey = new LinkedHashMap<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl != null && !fileUrl.isEmpty()) {
+                urlsByKey.put(keyOf(fileUrl), fileUrl);
+            }
+        }
+        if (urlsByKey.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = new ArrayList<>(urlsByKey.keySet());
+        keys.forEach(imageCache::evict);
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            batches.add(keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size())));
+        }
+        log.info("FileServiceImpl :: deleteImages :: deleting {} images in {} requests", keys.size(), batches.size());
+
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        if (batches.size() == 1) {
+            deleteBatch(batches.get(0), urlsByKey, failures);
+        } else {
+            CompletableFuture.allOf(batches.stream()
+                    .map(batch -> CompletableFuture.runAsync(() -> deleteBatch(batch, urlsByKey, failures), deleteExecutor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        log.info("FileServiceImpl :: deleteImages :: deleted {} of {} images", keys.size() - failures.size(), keys.size());
+        return failures;
+    }
+
+    /**
+     * Walks the prefix with ListObjectsV2, following continuation tokens, so at most one page of
+     * keys is held in memory at a time.
+     */
+    @Override
+    public void listImages(String path, int pageSize, Consumer<List<StoredImageDTO>> pageConsumer) {
+        String continuationToken = null;
+        int pages = 0;
+        do {
+            ListObjectsV2Response page = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(path + "/")
+                    .maxKeys(pageSize)
+                    .continuationToken(continuationToken)
+                    .build());
+            pageConsumer.accept(page.contents().stream()
+                    .map(object -> StoredImageDTO.builder()
+                            .imageUrl("https://" + bucket + ".s3." + region + ".amazonaws.com/" + object.key())
+                            .size(object.size() == null ? 0 : object.size())
+                            .lastModified(object.lastModified())
+                            .build())
+                    .toList());
+            pages++;
+            continuationToken = Boolean.TRUE.equals(page.isTruncated()) ? page.nextContinuationToken() : null;
+        } while (continuationToken != null);
+        log.info("FileServiceImpl :: listImages :: listed {} pages under {}", pages, path);
+    }
+
+    // Presigned keys are PATH_VARIABLE/<nonce>-<tag>_<name>, where tag is uploadTag("<nonce>_<name>")
+    private boolean isPresignedKey(String key) {
+        String fileName = key.substring(AppConstants.PATH_VARIABLE.length() + 1);
+        int nameStart = fileName.indexOf('_');
+        int tagStart = nameStart < 0 ? -1 : fileName.lastIndexOf('-', nameStart);
+        if (tagStart < 0) {
+            return false;
+        }
+        String nonce = fileName.substring(0, tagStart);
+        String tag = fileName.substring(tagStart + 1, nameStart);
+        String expected = uploadTag(nonce + fileName.substring(nameStart));
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII), tag.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // First 128 bits of an HMAC-SHA256, in hex
+    private String uploadTag(String value) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(uploadSigningKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)), 0, 16);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private void deleteBatch(List<String> keys, Map<String, String> urlsByKey, Map<String, String> failures) {
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true)
+                        .build())
+                .build();
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(request);
+            for (S3Error error : response.errors()) {
+                log.error("FileServiceImpl :: deleteBatch :: failed for key {}: {} {}", error.key(), error.code(), error.message());
+                failures.put(urlsByKey.getOrDefault(error.key(), error.key()), error.code() + ": " + error.message());
+            }
+        } catch (RuntimeException e) {
+            log.error("FileServiceImpl :: deleteBatch :: request for {} keys failed: {}", keys.size(), e.getMessage());
+            keys.forEach(key -> failures.put(urlsByKey.get(key), String.valueOf(e.getMessage())));
+        }
+    }
+
+    private final class S3ImageResource implements ImageResource {
+        private final String key;
+        private final HeadObjectResponse head;
+
+        private S3ImageResource(String key, HeadObjectResponse head) {
+            this.key = key;
+            this.head = head;
+        }
+
+        @Override
+        public long contentLength() {
+            return head.contentLength();
+        }
+
+        @Override
+        public String contentType() {
+            return head.contentType();
+        }
+
+        @Override
+        public String eTag() {
+            return head.eTag();
+        }
+
+        @Override
+        public Instant lastModified() {
+            return head.lastModified();
+        }
+
+        @Override
+        public void transferTo(long offset, long length, OutputStream out) throws IOException {
+            boolean whole = offset == 0 && length == contentLength();
+            GetObjectRequest.Builder request = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    // The object must not have changed since the HEAD the response headers came from
+                    .ifMatch(eTag());
+            if (!whole) {
+                request.range("bytes=" + offset + "-" + (offset + length - 1));
+            }
+            Path download = whole && imageCache.accepts(length) ? imageCache.newTempFile() : null;
+            boolean complete = false;
+            try (InputStream content = s3Client.getObject(request.build());
+                 OutputStream copy = download == null ? OutputStream.nullOutputStream() : Files.newOutputStream(download)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                    copy.write(buffer, 0, read);
+                }
+                complete = true;
+            } finally {
+                if (download != null) {
+                    if (complete) {
+                        imageCache.admit(key, download, contentType(), eTag(), lastModified());
+                    } else {
+                        Files.deleteIfExists(download);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean objectExists(String key) {
+        try {
+            s3Client.headObject(builder -> builder.bucket(bucket).key(key));
+            return true;
+        } catch (S3Exception e) {
+            if (isNotFound(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isNotFound(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof NoSuchKeyException
+                || (cause instanceof S3Exception s3Exception && s3Exception.statusCode() == 404);
+    }
+
+    static String sha256Hex(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (InputStream content = file.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static String extensionOf(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        return switch (contentType.toLowerCase()) {
+            case "image/jpeg", "image/jpg" -> ".jpg";
+            case "image/png" -> ".png";
+            case "image/gif" -> ".gif";
+            case "image/webp" -> ".webp";
+            default -> "";
+        };
+    }
+
+    private static void closeQuietly(InputStream content) {
+        try {
+            content.close();
+        } catch (IOException e) {
+            log.warn("FileServiceImpl :: closeQuietly :: failed to close upload stream: {}", e.getMessage());
+        }
+    }
+
+    // Object key from the public URL built in uploadImage
+    private static String keyOf(String fileUrl) {
+        return fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+    }
 }
@@ -0,0 +1,185 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.model.ImageDeletionOutbox;
+import com.Switchboard.InterviewService.repository.ImageDeletionOutboxRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Drains image_deletion_outbox in batches of interview.outbox.batch-size. A batch is claimed in a
+ * short transaction that locks the due rows with SKIP LOCKED and leases them for
+ * interview.outbox.lease, so several instances never work on the same rows and a crashed
+ * dispatcher's rows become due again. The S3 calls run while ImageReferences holds the reference
+ * counts of the batch's images locked, and only for images whose count is zero, so an upload or
+ * attach that reuses an image cannot slip in between the check and the delete. Images that are
+ * referenced again are kept; failed deletions are retried with exponential backoff capped at
+ * interview.outbox.max-backoff and are never dropped.
+ */
+@Component
+public class ImageDeletionDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(ImageDeletionDispatcher.class);
+
+    private final FileService fileService;
+    private final ImageDeletionOutboxRepository outboxRepository;
+    private final ImageReferences imageReferences;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${interview.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${interview.outbox.lease:PT5M}")
+    private Duration lease;
+
+    @Value("${interview.outbox.initial-backoff:PT10S}")
+    private Duration initialBackoff;
+
+    @Value("${interview.outbox.max-backoff:PT30M}")
+    private Duration maxBackoff;
+
+    // Attempts after which every further failure is logged as an error for operators
+    @Value("${interview.outbox.alert-after-attempts:10}")
+    private int alertAfterAttempts;
+
+    public ImageDeletionDispatcher(FileService fileService,
+                                   ImageDeletionOutboxRepository outboxRepository,
+                                   ImageReferences imageReferences,
+                                   PlatformTransactionManager transactionManager) {
+        this.fileService = fileService;
+        this.outboxRepository = outboxRepository;
+        this.imageReferences = imageReferences;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${interview.outbox.poll-interval:PT5S}")
+    public void dispatch() {
+        long started = System.currentTimeMillis();
+        int processed = 0;
+        List<ImageDeletionOutbox> batch;
+        do {
+            batch = transactionTemplate.execute(status -> claim(LocalDateTime.now()));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            process(batch);
+            processed += batch.size();
+        } while (batch.size() == batchSize);
+
+        if (processed > 0) {
+            log.info("ImageDeletionDispatcher :: dispatch :: processed {} pending deletions in {} ms",
+                    processed, System.currentTimeMillis() - started);
+        }
+    }
+
+    private List<ImageDeletionOutbox> claim(LocalDateTime now) {
+        List<ImageDeletionOutbox> due = outboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        for (ImageDeletionOutbox entry : due) {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setNextAttemptAt(now.plus(lease));
+        }
+        return due;
+    }
+
+    private void process(List<ImageDeletionOutbox> batch) {
+        Set<String> imageUrls = batch.stream().map(ImageDeletionOutbox::getImageUrl).collect(Collectors.toSet());
+        Set<String> unreferenced = new HashSet<>();
+        Map<String, String> failed = new HashMap<>();
+        // Checked at dispatch time under the reference locks: an image can be attached again between release and deletion
+        transactionTemplate.executeWithoutResult(status -> {
+            unreferenced.addAll(imageReferences.lockUnreferenced(imageUrls));
+            Set<String> toDelete = new LinkedHashSet<>();
+            for (ImageDeletionOutbox entry : batch) {
+                if (unreferenced.contains(entry.getImageUrl())) {
+                    toDelete.addAll(urlsOf(entry));
+                }
+            }
+            if (!toDelete.isEmpty()) {
+                try {
+                    failed.putAll(fileService.deleteImages(toDelete));
+                } catch (Exception e) {
+                    log.warn("ImageDeletionDispatcher :: process :: batch of {} deletions failed: {}", toDelete.size(), e.getMessage());
+                    toDelete.forEach(url -> failed.put(url, String.valueOf(e.getMessage())));
+                }
+            }
+            imageReferences.forget(unreferenced);
+        });
+
+        List<Long> completed = new ArrayList<>();
+        Map<ImageDeletionOutbox, String> retries = new LinkedHashMap<>();
+        for (ImageDeletionOutbox entry : batch) {
+            if (!unreferenced.contains(entry.getImageUrl())) {
+                Metrics.counter("interview.outbox.deletions", "result", "kept").increment();
+                completed.add(entry.getId());
+                continue;
+            }
+            String error = urlsOf(entry).stream()
+                    .filter(failed::containsKey)
+                    .map(url -> url + ": " + failed.get(url))
+                    .collect(Collectors.joining("; "));
+            if (error.isEmpty()) {
+                Metrics.counter("interview.outbox.deletions", "result", "deleted").increment();
+                completed.add(entry.getId());
+            } else {
+                Metrics.counter("interview.outbox.deletions", "result", "failed").increment();
+                retries.put(entry, error);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completed.isEmpty()) {
+                outboxRepository.deleteAllByIdInBatch(completed);
+            }
+            retries.forEach((entry, error) -> outboxRepository.reschedule(entry.getId(),
+                    now.plus(backoff(entry.getAttempts())), truncate(error)));
+        });
+        retries.forEach((entry, error) -> {
+            if (entry.getAttempts() >= alertAfterAttempts) {
+                log.error("ImageDeletionDispatcher :: process :: deleting {} still failing after {} attempts: {}",
+                        entry.getImageUrl(), entry.getAttempts(), error);
+            } else {
+                log.warn("ImageDeletionDispatcher :: process :: deleting {} failed on attempt {}, retrying: {}",
+                        entry.getImageUrl(), entry.getAttempts(), error);
+            }
+        });
+    }
+
+    // initialBackoff doubled for every failed attempt, capped at maxBackoff
+    Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static List<String> urlsOf(ImageDeletionOutbox entry) {
+        List<String> urls = new ArrayList<>();
+        urls.add(entry.getImageUrl());
+        if (entry.getRenditions() != null) {
+            urls.addAll(entry.getRenditions().values());
+        }
+        return urls;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
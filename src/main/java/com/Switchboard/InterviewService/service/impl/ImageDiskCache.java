@@ -0,0 +1,224 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.service.ImageResource;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded local disk cache of recently served images, so hot objects are not fetched from S3 on
+ * every request. Entries are evicted least recently used once interview.images.cache-max-bytes
+ * is exceeded and expire after interview.images.cache-ttl, which bounds how long an image deleted
+ * through another instance can still be served here. A hit is copied from the file to the
+ * response in small chunks, so the image is never held on the heap whole. This is not zero-copy:
+ * the servlet output stream is not a file descriptor, so FileChannel.transferTo falls back to a
+ * buffered copy. Tomcat sendfile is not used either, because it opens the file by path after the
+ * handler returns, and by then an evicted entry may already be deleted. The index lives in memory
+ * only; the directory is emptied on startup and shutdown. Only the S3 backend uses it; the local
+ * backends already serve from disk or memory.
+ */
+@Component
+@ConditionalOnProperty(name = "interview.storage.backend", havingValue = "s3", matchIfMissing = true)
+public class ImageDiskCache implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ImageDiskCache.class);
+
+    @Value("${interview.images.cache-dir:${java.io.tmpdir}/interview-image-cache}")
+    private Path directory;
+
+    @Value("${interview.images.cache-max-bytes:1073741824}")
+    private long maxBytes;
+
+    // Larger objects are always streamed from S3
+    @Value("${interview.images.cache-max-entry-bytes:20971520}")
+    private long maxEntryBytes;
+
+    @Value("${interview.images.cache-ttl:PT1H}")
+    private Duration ttl;
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, CachedImage> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    @PostConstruct
+    void start() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+        Files.createDirectories(directory);
+        Metrics.gauge("interview.images.cache.bytes", this, cache -> cache.size());
+        log.info("ImageDiskCache :: start :: caching up to {} bytes in {}", maxBytes, directory);
+    }
+
+    public synchronized ImageResource get(String key) {
+        CachedImage image = entries.get(key);
+        if (image == null) {
+            Metrics.counter("interview.images.cache", "result", "miss").increment();
+            return null;
+        }
+        if (image.cachedAt.plus(ttl).isBefore(Instant.now())) {
+            remove(key);
+            Metrics.counter("interview.images.cache", "result", "expired").increment();
+            return null;
+        }
+        Metrics.counter("interview.images.cache", "result", "hit").increment();
+        return image;
+    }
+
+    public boolean accepts(long contentLength) {
+        return contentLength <= maxEntryBytes && contentLength <= maxBytes;
+    }
+
+    // A file in the cache directory to stream a body into before it is admitted
+    public Path newTempFile() throws IOException {
+        return Files.createTempFile(directory, "download-", ".tmp");
+    }
+
+    /**
+     * Moves a completely written temp file into the cache under key and evicts least recently
+     * used entries until the cache fits again. The temp file is deleted if it is not admitted.
+     */
+    public void admit(String key, Path tempFile, String contentType, String eTag, Instant lastModified) throws IOException {
+        long size = Files.size(tempFile);
+        if (!accepts(size)) {
+            Files.deleteIfExists(tempFile);
+            return;
+        }
+        Path file = directory.resolve(fileNameOf(key));
+        synchronized (this) {
+            remove(key);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            entries.put(key, new CachedImage(file, size, contentType, eTag, lastModified, Instant.now()));
+            totalBytes += size;
+            Iterator<Map.Entry<String, CachedImage>> eldest = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                CachedImage evicted = eldest.next().getValue();
+                eldest.remove();
+                totalBytes -= evicted.size;
+                deleteQuietly(evicted.file);
+            }
+        }
+        log.debug("ImageDiskCache :: admit :: cached {} ({} bytes), {} bytes in use", key, size, totalBytes);
+    }
+
+    public synchronized void evict(String key) {
+        remove(key);
+    }
+
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        synchronized (this) {
+            entries.clear();
+            totalBytes = 0;
+        }
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    private void remove(String key) {
+        CachedImage removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.size;
+            deleteQuietly(removed.file);
+        }
+    }
+
+    // Keys contain slashes and arbitrary names, so files are named by the key's digest
+    private static String fileNameOf(String key) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("ImageDiskCache :: deleteQuietly :: could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static final class CachedImage implements ImageResource {
+        private final Path file;
+        private final long size;
+        private final String contentType;
+        private final String eTag;
+        private final Instant lastModified;
+        private final Instant cachedAt;
+
+        private CachedImage(Path file, long size, String contentType, String eTag, Instant lastModified, Instant cachedAt) {
+            this.file = file;
+            this.size = size;
+            this.contentType = contentType;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.cachedAt = cachedAt;
+        }
+
+        @Override
+        public long contentLength() {
+            return size;
+        }
+
+        @Override
+        public String contentType() {
+            return contentType;
+        }
+
+        @Override
+        public String eTag() {
+            return eTag;
+        }
+
+        @Override
+        public Instant lastModified() {
+            return lastModified;
+        }
+
+        // The open channel keeps the bytes readable even if the entry is evicted meanwhile. The target
+        // wraps a stream, so transferTo copies through a buffer rather than sending the file directly
+        @Override
+        public void transferTo(long offset, long length, OutputStream out) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = offset;
+                long remaining = length;
+                while (remaining > 0) {
+                    long sent = channel.transferTo(position, remaining, target);
+                    if (sent <= 0) {
+                        break;
+                    }
+                    position += sent;
+                    remaining -= sent;
+                }
+            }
+        }
+    }
+}
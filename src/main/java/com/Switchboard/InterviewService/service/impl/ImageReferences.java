@@ -0,0 +1,79 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.model.ImageReference;
+import com.Switchboard.InterviewService.repository.ImageReferenceRepository;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Reference counts of stored images, the one place that decides whether an object may be deleted.
+ * A reference is taken before an upload checks whether its content-addressed object already
+ * exists, or in the transaction that attaches a presigned upload, and dropped in the transaction
+ * that detaches the image. Deleters lock the counts with lockUnreferenced and delete before they
+ * commit, so a retain either lands first and keeps the object, or waits and then finds it gone
+ * and stores it again.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageReferences {
+    private static final Logger log = LoggerFactory.getLogger(ImageReferences.class);
+
+    private final ImageReferenceRepository repository;
+    private final InterviewExperienceRepository experienceRepository;
+
+    // Joins the caller's transaction, so the reference is only taken if the caller commits
+    @Transactional
+    public void retain(String imageUrl) {
+        repository.upsertCount(imageUrl, 1);
+    }
+
+    // Joins the caller's transaction; the object itself is removed through the deletion outbox
+    @Transactional
+    public void release(String imageUrl) {
+        repository.decrement(imageUrl);
+    }
+
+    /**
+     * Locks the counts of imageUrls until the caller's transaction ends and returns the images no
+     * one references. The caller deletes those objects before it commits. Experiences written
+     * before reference counting have no count, so the images they point at are kept as well.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<String> lockUnreferenced(Collection<String> imageUrls) {
+        // Missing rows are created at zero so there is a row to lock; sorted, so concurrent deleters
+        // lock in the same order and cannot deadlock
+        Set<String> sorted = new TreeSet<>(imageUrls);
+        sorted.forEach(imageUrl -> repository.upsertCount(imageUrl, 0));
+        Set<String> referenced = new HashSet<>();
+        for (ImageReference reference : repository.findAllForUpdate(sorted)) {
+            if (reference.getReferenceCount() > 0) {
+                referenced.add(reference.getImageUrl());
+            }
+        }
+        referenced.addAll(experienceRepository.findReferencedImageNames(sorted));
+
+        Set<String> unreferenced = new LinkedHashSet<>(imageUrls);
+        unreferenced.removeAll(referenced);
+        log.debug("ImageReferences :: lockUnreferenced :: {} of {} images unreferenced", unreferenced.size(), sorted.size());
+        return unreferenced;
+    }
+
+    // Drops the zero counts of images that were deleted; the caller still holds their locks
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void forget(Collection<String> imageUrls) {
+        if (!imageUrls.isEmpty()) {
+            repository.deleteUnreferenced(imageUrls);
+        }
+    }
+}
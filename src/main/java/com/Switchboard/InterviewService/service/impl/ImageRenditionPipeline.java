@@ -0,0 +1,330 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.model.ImageDeletionOutbox;
+import com.Switchboard.InterviewService.repository.ImageDeletionOutboxRepository;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates downsized copies of experience images off the request path. Each submitted image is
+ * decoded once on a bounded pool of interview.renditions.workers threads, with at most
+ * interview.renditions.queue-capacity images waiting, then scaled to the thumbnail and medium
+ * widths. Variants are re-encoded from pixels only, so no EXIF data (camera, GPS position) of the
+ * original reaches them. A WebP copy of every variant is written as well when an ImageIO WebP
+ * writer is on the classpath. The rendition URLs are attached to the experience only while it
+ * still points at the same image; otherwise the new objects go to the deletion outbox, whose
+ * dispatcher removes them only once no one references the image (keys are content-addressed and
+ * may be shared, see ImageReferences). Renditions are
+ * best effort: when the queue is full the image is skipped and clients keep using imageName.
+ */
+@Component
+public class ImageRenditionPipeline implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ImageRenditionPipeline.class);
+
+    static final String THUMBNAIL = "thumbnail";
+    static final String MEDIUM = "medium";
+    static final String WEBP_SUFFIX = "_webp";
+    private static final String WEBP_MIME_TYPE = "image/webp";
+    // Suffix storeRendition appends for the variant names used in generate, e.g. "_thumbnail.jpg"
+    private static final Pattern RENDITION_SUFFIX = Pattern.compile("_(" + THUMBNAIL + "|" + MEDIUM + ")\\.(jpg|png|webp)$");
+
+    private final FileService fileService;
+    private final InterviewExperienceRepository repository;
+    private final ImageDeletionOutboxRepository imageDeletionOutbox;
+    private final CompanyFeedVersions companyFeedVersions;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${interview.renditions.workers:2}")
+    private int workers;
+
+    @Value("${interview.renditions.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${interview.renditions.thumbnail-width:320}")
+    private int thumbnailWidth;
+
+    @Value("${interview.renditions.medium-width:1080}")
+    private int mediumWidth;
+
+    @Value("${interview.renditions.quality:0.8}")
+    private float quality;
+
+    // Decompression-bomb guard: larger originals are never decoded
+    @Value("${interview.renditions.max-pixels:50000000}")
+    private long maxPixels;
+
+    private ThreadPoolExecutor executor;
+
+    public ImageRenditionPipeline(FileService fileService,
+                                  InterviewExperienceRepository repository,
+                                  ImageDeletionOutboxRepository imageDeletionOutbox,
+                                  CompanyFeedVersions companyFeedVersions,
+                                  CacheManager cacheManager,
+                                  PlatformTransactionManager transactionManager) {
+        this.fileService = fileService;
+        this.repository = repository;
+        this.imageDeletionOutbox = imageDeletionOutbox;
+        this.companyFeedVersions = companyFeedVersions;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("image-rendition-"));
+        Metrics.gauge("interview.renditions.queue.depth", executor, pool -> pool.getQueue().size());
+        Metrics.gauge("interview.renditions.active", executor, ThreadPoolExecutor::getActiveCount);
+        log.info("ImageRenditionPipeline :: start :: {} workers, queue capacity {}, WebP {}",
+                workers, queueCapacity, ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE).hasNext() ? "enabled" : "unavailable");
+    }
+
+    /**
+     * Queues renditions of imageUrl for the experience. Inside a transaction the work is only
+     * queued after commit, because renditions are attached to the committed row.
+     */
+    public void submit(UUID id, String imageUrl, String companyTag) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(id, imageUrl, companyTag);
+                }
+            });
+        } else {
+            enqueue(id, imageUrl, companyTag);
+        }
+    }
+
+    private void enqueue(UUID id, String imageUrl, String companyTag) {
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                Metrics.timer("interview.renditions.wait").record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                render(id, imageUrl, companyTag);
+            });
+        } catch (RejectedExecutionException e) {
+            Metrics.counter("interview.renditions.rejected").increment();
+            log.warn("ImageRenditionPipeline :: enqueue :: queue full, skipping renditions for experience {}", id);
+        }
+    }
+
+    void render(UUID id, String imageUrl, String companyTag) {
+        long started = System.nanoTime();
+        String result = "success";
+        try {
+            Map<String, String> renditions = generate(imageUrl);
+            if (renditions.isEmpty()) {
+                result = "unsupported";
+                return;
+            }
+            if (!attach(id, imageUrl, companyTag, renditions)) {
+                result = "discarded";
+            }
+        } catch (Exception e) {
+            result = "failure";
+            log.error("ImageRenditionPipeline :: render :: failed for experience {} image {}: {}", id, imageUrl, e.getMessage());
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            Metrics.timer("interview.renditions.duration", "result", result).record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("ImageRenditionPipeline :: render :: {} for experience {} in {} ms", result, id, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    // Stores every variant of imageUrl and returns variant name -> URL; empty if the format cannot be decoded
+    Map<String, String> generate(String imageUrl) throws IOException {
+        BufferedImage source = decode(imageUrl);
+        if (source == null) {
+            return Map.of();
+        }
+        Map<String, Integer> widths = new LinkedHashMap<>();
+        widths.put(THUMBNAIL, thumbnailWidth);
+        widths.put(MEDIUM, mediumWidth);
+
+        Map<String, String> renditions = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Integer> variant : widths.entrySet()) {
+                BufferedImage scaled = scale(source, variant.getValue());
+                String name = variant.getKey();
+                // JPEG has no alpha channel, so transparent images keep PNG
+                boolean alpha = scaled.getColorModel().hasAlpha();
+                String format = alpha ? "png" : "jpeg";
+                byte[] encoded = encode(scaled, ImageIO.getImageWritersByFormatName(format).next(), !alpha);
+                renditions.put(name, fileService.storeRendition(imageUrl, name + (alpha ? ".png" : ".jpg"), "image/" + format, encoded));
+
+                Iterator<ImageWriter> webpWriters = ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE);
+                if (webpWriters.hasNext()) {
+                    renditions.put(name + WEBP_SUFFIX, fileService.storeRendition(imageUrl, name + ".webp", WEBP_MIME_TYPE,
+                            encode(scaled, webpWriters.next(), true)));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Partial renditions are removed with the image once no one references it
+            if (!renditions.isEmpty()) {
+                discard(imageUrl, renditions);
+            }
+            throw e;
+        }
+        return renditions;
+    }
+
+    private BufferedImage decode(String imageUrl) throws IOException {
+        try (InputStream content = fileService.openImage(imageUrl);
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.warn("ImageRenditionPipeline :: decode :: no decoder for image {}", imageUrl);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                // Metadata is never read, so EXIF blocks are skipped rather than parsed
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image of " + width + "x" + height + " pixels exceeds interview.renditions.max-pixels");
+                }
+                // Large originals are decoded at reduced resolution, keeping at least twice the medium width
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / (2 * mediumWidth));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // URL of the original a rendition URL was derived from (see FileService.storeRendition), or null if url is no rendition
+    static String originalOf(String url) {
+        Matcher suffix = RENDITION_SUFFIX.matcher(url);
+        return suffix.find() ? url.substring(0, suffix.start()) : null;
+    }
+
+    // Scales to maxWidth keeping the aspect ratio, never upscaling; halves first so bilinear steps stay sharp
+    static BufferedImage scale(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width && current.getWidth() / 2 > 0) {
+            current = draw(current, current.getWidth() / 2);
+        }
+        if (current == source || current.getWidth() != width) {
+            current = draw(current, width);
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // No IIOMetadata is handed to the writer, so only the pixels are written
+    private byte[] encode(BufferedImage image, ImageWriter writer, boolean lossy) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (lossy && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private boolean attach(UUID id, String imageUrl, String companyTag, Map<String, String> renditions) {
+        Integer updated = transactionTemplate.execute(status ->
+                repository.updateImageRenditions(id, imageUrl, renditions, LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            log.info("ImageRenditionPipeline :: attach :: experience {} no longer uses {}, discarding renditions", id, imageUrl);
+            discard(imageUrl, renditions);
+            return false;
+        }
+        Cache byId = cacheManager.getCache(AppConstants.CACHE_INTERVIEW_BY_ID);
+        if (byId != null) {
+            byId.evict(id);
+        }
+        companyFeedVersions.bump(companyTag);
+        return true;
+    }
+
+    // Renditions live next to the content-addressed image, so other experiences may share them; the
+    // dispatcher deletes them only while it holds the image's reference count locked at zero
+    private void discard(String imageUrl, Map<String, String> renditions) {
+        imageDeletionOutbox.save(ImageDeletionOutbox.builder()
+                .imageUrl(imageUrl)
+                .renditions(renditions)
+                .build());
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            log.info("ImageRenditionPipeline :: destroy :: dropping {} queued renditions", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
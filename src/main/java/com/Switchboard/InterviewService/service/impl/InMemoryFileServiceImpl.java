@@ -0,0 +1,80 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps images on the heap, for benchmarks and load tests that should measure the service rather
+ * than storage. Nothing survives a restart and nothing bounds the size, so it is never meant for
+ * real traffic. Objects are replaced by swapping the map entry, so readers see either the old or
+ * the new bytes.
+ */
+@Service
+@ConditionalOnProperty(name = "interview.storage.backend", havingValue = "memory")
+public class InMemoryFileServiceImpl extends LocalFileService {
+
+    // Sorted, so listing a path is a range scan
+    private final ConcurrentSkipListMap<String, StoredBytes> objects = new ConcurrentSkipListMap<>();
+
+    @Override
+    protected StoredObject stat(String key) {
+        StoredBytes stored = objects.get(key);
+        return stored == null ? null : stored.object;
+    }
+
+    @Override
+    protected void write(String key, InputStream content, String contentType) throws IOException {
+        byte[] bytes = content.readAllBytes();
+        objects.put(key, new StoredBytes(new StoredObject(key, bytes.length, contentType, Instant.now()), bytes));
+    }
+
+    @Override
+    protected InputStream read(String key) throws IOException {
+        return new ByteArrayInputStream(bytesOf(key));
+    }
+
+    @Override
+    protected void transfer(String key, long offset, long length, OutputStream out) throws IOException {
+        out.write(bytesOf(key), Math.toIntExact(offset), Math.toIntExact(length));
+    }
+
+    @Override
+    protected boolean remove(String key) {
+        return objects.remove(key) != null;
+    }
+
+    @Override
+    protected Stream<StoredObject> objects(String path) {
+        String prefix = path + "/";
+        return objects.tailMap(prefix).entrySet().stream()
+                .takeWhile(entry -> entry.getKey().startsWith(prefix))
+                .map(entry -> entry.getValue().object);
+    }
+
+    private byte[] bytesOf(String key) throws FileNotFoundException {
+        StoredBytes stored = objects.get(key);
+        if (stored == null) {
+            throw new FileNotFoundException("No image stored at " + key);
+        }
+        return stored.content;
+    }
+
+    private static final class StoredBytes {
+        private final StoredObject object;
+        private final byte[] content;
+
+        private StoredBytes(StoredObject object, byte[] content) {
+            this.object = object;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Supplies approximate totals for list endpoints so they can skip SELECT COUNT(*).
+ * Prefers the Postgres planner estimate (pg_class.reltuples); falls back to an exact
+ * count cached for a configurable TTL when the estimate is unavailable. Skipped counts add the
+ * cost of the latest exact count to interview.list.count.saved. With the planner estimate the
+ * fallback never runs, so that cost can also be sampled every interview.count.sample-interval;
+ * sampling is a full table count, so it is off unless interview.count.sample-enabled is set,
+ * which one instance is enough for.
+ */
+@Component
+public class InterviewCountEstimator {
+    private static final Logger log = LoggerFactory.getLogger(InterviewCountEstimator.class);
+
+    private final InterviewExperienceRepository repository;
+
+    @Value("${interview.count.cache-ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    @Value("${interview.count.sample-enabled:false}")
+    private boolean sampleEnabled;
+
+    private volatile long cachedCount = -1;
+    private volatile long cachedAtNanos;
+    private volatile long lastCountNanos;
+
+    public InterviewCountEstimator(InterviewExperienceRepository repository) {
+        this.repository = repository;
+    }
+
+    public long estimate() {
+        try {
+            Long reltuples = repository.estimateRowCount();
+            if (reltuples != null && reltuples >= 0) {
+                return reltuples;
+            }
+        } catch (RuntimeException e) {
+            log.debug("InterviewCountEstimator :: estimate :: planner estimate unavailable: {}", e.getMessage());
+        }
+        return cachedCount();
+    }
+
+    /**
+     * Records the time a list request avoided by not counting, using the duration of the
+     * most recent exact count (fallback or sample) as the reference cost. The saving is a running
+     * total in seconds rather than a timer, since every request would record the same sample.
+     */
+    public void recordCountSkipped(String mode) {
+        Metrics.counter("interview.list.count.skipped", "mode", mode).increment();
+        if (lastCountNanos > 0) {
+            Metrics.counter("interview.list.count.saved.seconds", "mode", mode).increment(lastCountNanos / 1e9);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${interview.count.sample-interval:PT10M}",
+            initialDelayString = "${interview.count.sample-initial-delay:PT1M}")
+    public void sampleCountCost() {
+        if (!sampleEnabled) {
+            return;
+        }
+        try {
+            long count = timedCount();
+            log.debug("InterviewCountEstimator :: sampleCountCost :: exact count {} took {} ms", count, TimeUnit.NANOSECONDS.toMillis(lastCountNanos));
+        } catch (RuntimeException e) {
+            log.warn("InterviewCountEstimator :: sampleCountCost :: sampling failed: {}", e.getMessage());
+        }
+    }
+
+    private long cachedCount() {
+        long now = System.nanoTime();
+        if (cachedCount < 0 || now - cachedAtNanos > TimeUnit.SECONDS.toNanos(cacheTtlSeconds)) {
+            long count = timedCount();
+            log.info("InterviewCountEstimator :: cachedCount :: refreshed exact count {} in {} ms", count, TimeUnit.NANOSECONDS.toMillis(lastCountNanos));
+        }
+        return cachedCount;
+    }
+
+    // Every exact count refreshes the cached fallback and the reference cost
+    private long timedCount() {
+        long started = System.nanoTime();
+        long count = repository.count();
+        lastCountNanos = System.nanoTime() - started;
+        Metrics.timer("interview.list.count.duration").record(lastCountNanos, TimeUnit.NANOSECONDS);
+        cachedCount = count;
+        cachedAtNanos = started;
+        return count;
+    }
+}
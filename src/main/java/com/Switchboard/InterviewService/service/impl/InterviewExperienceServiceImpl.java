@@ -1,28 +1,52 @@
 package com.Switchboard.InterviewService.service.impl;
 
 import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.BulkDeleteResultDTO;
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.InterviewExperienceSummary;
+import com.Switchboard.InterviewService.dto.InterviewSearchHit;
+import com.Switchboard.InterviewService.dto.InterviewSearchResult;
+import com.Switchboard.InterviewService.dto.PageCursor;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.dto.SearchResponseDTO;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
+import com.Switchboard.InterviewService.model.ImageDeletionOutbox;
 import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.ImageDeletionOutboxRepository;
 import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.CompanyStatsService;
 import com.Switchboard.InterviewService.service.FileService;
 import com.Switchboard.InterviewService.service.InterviewExperienceService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,52 +54,138 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
     private static final Logger log = LoggerFactory.getLogger(InterviewExperienceServiceImpl.class);
 
     private final InterviewExperienceRepository repository;
+    private final ImageDeletionOutboxRepository imageDeletionOutbox;
+    private final ImageReferences imageReferences;
     private final FileService fileService;
+    private final InterviewCountEstimator countEstimator;
+    private final CompanyFeedVersions companyFeedVersions;
+    private final LuceneSearchIndex searchIndex;
+    private final CompanyTagIndex companyTagIndex;
+    private final CompanyStatsService companyStats;
+    private final NdjsonExportWriter exportWriter;
+    private final ImageRenditionPipeline renditionPipeline;
+    private final CacheManager cacheManager;
 
-    private final ModelMapper modelMapper;
+    private final InterviewExperienceMapper mapper;
 
     @Override
+    @Transactional
     public InterviewExperienceResponse createInterviewExperience(InterviewExperienceRequest request, String imageUrl) {
         log.info("InterviewExperienceServiceImpl :: createInterviewExperience :: mapping :: request to entity");
-        InterviewExperience experience = modelMapper.map(request, InterviewExperience.class);
-        
-        // Set image URL if provided
+        InterviewExperience experience = mapper.toEntity(request);
+
+        String uploadedImageUrl = request.getUploadedImageUrl();
+        boolean attachUploaded = uploadedImageUrl != null && !uploadedImageUrl.isBlank();
+        if (attachUploaded && imageUrl != null) {
+            throw new IllegalArgumentException("Send either an image or an uploadedImageUrl, not both");
+        }
+        // A stored image was retained by the caller and its reference passes to the new experience
         if (imageUrl != null) {
             experience.setImageName(imageUrl);
+        } else if (attachUploaded) {
+            attachUploadedImage(uploadedImageUrl);
+            experience.setImageName(uploadedImageUrl);
         }
 
         log.info("InterviewExperienceServiceImpl :: createInterviewExperience :: saving :: interview experience");
         InterviewExperience newExperience = repository.save(experience);
+        companyStats.recordPost(newExperience.getCompanyTag(), newExperience.getCreatedAt(), 1);
+        afterCommit(() -> {
+            companyFeedVersions.bump(newExperience.getCompanyTag());
+            searchIndex.index(newExperience);
+            companyTagIndex.increment(newExperience.getCompanyTag());
+        });
 
         log.info("InterviewExperienceServiceImpl :: createInterviewExperience :: mapping :: entity to response");
-        return modelMapper.map(newExperience, InterviewExperienceResponse.class);
+        return mapper.toResponse(newExperience);
 
     }
 
     @Override
-    public List<InterviewExperienceResponse> searchByEmail(String userEmail) {
-        log.info("InterviewExperienceServiceImpl :: searchByEmail :: searching :: experiences for email: {}", userEmail);
-        List<InterviewExperience> experiences = repository.findByUserEmailOrderByCreatedAtDesc(userEmail);
+    public void generateImageRenditions(InterviewExperienceResponse experience) {
+        log.info("InterviewExperienceServiceImpl :: generateImageRenditions :: queueing :: renditions for experience {}", experience.getId());
+        renditionPipeline.submit(experience.getId(), experience.getImageName(), experience.getCompanyTag());
+    }
+
+    @Override
+    public PageResponseDTO searchByEmail(String userEmail, Integer pageNumber, Integer pageSize) {
+        log.info("InterviewExperienceServiceImpl :: searchByEmail :: searching :: page {} of experiences for email: {}", pageNumber, userEmail);
+        Slice<InterviewExperienceSummary> experiences = repository.findSummariesByUserEmail(
+                userEmail, PageRequest.of(pageNumber, boundedPageSize(pageSize)));
+
+        log.info("InterviewExperienceServiceImpl :: searchByEmail :: found :: {} experiences", experiences.getNumberOfElements());
+        return sliceResponse(experiences).build();
+    }
 
-        log.info("InterviewExperienceServiceImpl :: searchByEmail :: found :: {} experiences", experiences.size());
-        return experiences.stream()
-                .map(experience -> {
-                    log.debug("InterviewExperienceServiceImpl :: searchByEmail :: mapping :: experience to response");
-                    return modelMapper.map(experience, InterviewExperienceResponse.class);
-                })
-                .collect(Collectors.toList());
+
+    @Override
+    @Cacheable(cacheNames = AppConstants.CACHE_COMPANY_FEED, sync = true,
+            key = "#companyTag + ':v' + @companyFeedVersions.current(#companyTag) + ':' + #pageNumber + ':' + #pageSize")
+    public PageResponseDTO searchByCompany(String companyTag, Integer pageNumber, Integer pageSize) {
+        log.info("InterviewExperienceServiceImpl :: searchByCompany :: searching :: page {} of experiences for company: {}", pageNumber, companyTag);
+        Slice<InterviewExperienceSummary> experiences = repository.findSummariesByCompanyTag(
+                companyTag, PageRequest.of(pageNumber, boundedPageSize(pageSize)));
+
+        log.info("InterviewExperienceServiceImpl :: searchByCompany :: found :: {} experiences", experiences.getNumberOfElements());
+        return sliceResponse(experiences).build();
+    }
+
+    @Override
+    public SearchResponseDTO searchInterviews(String query, String companyTag, Integer pageNumber, Integer pageSize) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        checkPageNumber(pageNumber);
+        String company = (companyTag == null || companyTag.isBlank()) ? null : companyTag;
+        int size = boundedPageSize(pageSize);
+        log.info("InterviewExperienceServiceImpl :: searchInterviews :: searching :: page {} for '{}' in company: {}", pageNumber, query, company);
+
+        // One extra row tells us whether another page exists without counting all matches
+        List<InterviewSearchHit> hits = repository.searchRanked(query, company, size + 1, (long) pageNumber * size);
+        List<InterviewSearchResult> results = hits.stream()
+                .limit(size)
+                .map(mapper::toSearchResult)
+                .toList();
+
+        log.info("InterviewExperienceServiceImpl :: searchInterviews :: found :: {} matches", results.size());
+        return SearchResponseDTO.builder()
+                .query(query)
+                .results(results)
+                .pageNumber(pageNumber)
+                .pageSize(size)
+                .lastPage(hits.size() <= size)
+                .build();
     }
 
+    @Override
+    public SearchResponseDTO searchInterviewsInIndex(String query, String companyTag, Integer pageNumber, Integer pageSize) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        checkPageNumber(pageNumber);
+        String company = (companyTag == null || companyTag.isBlank()) ? null : companyTag;
+        log.info("InterviewExperienceServiceImpl :: searchInterviewsInIndex :: searching :: page {} for '{}' in company: {}", pageNumber, query, company);
+        SearchResponseDTO response = searchIndex.search(query, company, pageNumber, boundedPageSize(pageSize));
+        log.info("InterviewExperienceServiceImpl :: searchInterviewsInIndex :: found :: {} matches", response.getResults().size());
+        return response;
+    }
 
     @Override
-    public List<InterviewExperienceResponse> searchByCompany(String companyTag) {
-        log.info("InterviewExperienceServiceImpl :: searchByCompany :: searching :: experiences for company: {}", companyTag);
-        List<InterviewExperience> experiences = repository.findByCompanyTagOrderByCreatedAtDesc(companyTag);
+    public List<CompanyTagSuggestion> autocompleteCompanies(String prefix, Integer limit) {
+        log.debug("InterviewExperienceServiceImpl :: autocompleteCompanies :: suggesting :: companies for prefix: {}", prefix);
+        return companyTagIndex.suggest(prefix, limit);
+    }
 
-        log.info("InterviewExperienceServiceImpl :: searchByCompany :: found :: {} experiences", experiences.size());
-        return experiences.stream()
-                .map(experience -> modelMapper.map(experience, InterviewExperienceResponse.class))
-                .collect(Collectors.toList());
+    // A negative page would become a negative OFFSET, which the database rejects with a server error
+    private static void checkPageNumber(Integer pageNumber) {
+        if (pageNumber == null || pageNumber < 0) {
+            throw new IllegalArgumentException("Page number must not be negative");
+        }
+    }
+
+    // Hard server-side cap so a client cannot pull an unbounded page into the heap
+    private static int boundedPageSize(Integer pageSize) {
+        return Math.max(1, Math.min(pageSize, AppConstants.MAX_PAGE_SIZE));
     }
 
 
@@ -83,18 +193,13 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
     public PageResponseDTO getAllInterviews(Integer pageNumber, Integer pageSize, String sortBy, String sortDir) {
         log.info("InterviewExperienceServiceImpl :: getAllInterviews :: fetching :: page {} with size {}", pageNumber, pageSize);
         Sort sort = (sortDir.equalsIgnoreCase("asc")) ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable p = PageRequest.of(pageNumber, pageSize, sort);
-
-        Page<InterviewExperience> experiences = repository.findAll(p);
-        List<InterviewExperience> experienceList = experiences.getContent();
-        log.info("InterviewExperienceServiceImpl :: getAllInterviews :: found :: {} experiences", experienceList.size());
+        Pageable p = PageRequest.of(pageNumber, boundedPageSize(pageSize), sort);
 
-        List<InterviewExperienceResponse> res = experienceList.stream()
-                .map(experience -> modelMapper.map(experience, InterviewExperienceResponse.class))
-                .collect(Collectors.toList());
+        Page<InterviewExperienceSummary> experiences = repository.findSummaryPage(p);
+        log.info("InterviewExperienceServiceImpl :: getAllInterviews :: found :: {} experiences", experiences.getNumberOfElements());
 
         return PageResponseDTO.builder()
-                .content(res)
+                .content(experiences.getContent())
                 .pageNumber(experiences.getNumber())
                 .pageSize(experiences.getSize())
                 .totalElements(experiences.getTotalElements())
@@ -104,6 +209,77 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
     }
 
     @Override
+    public PageResponseDTO getInterviewsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDir) {
+        log.info("InterviewExperienceServiceImpl :: getInterviewsSlice :: fetching :: page {} with size {}", pageNumber, pageSize);
+        Slice<InterviewExperienceSummary> experiences = fetchSlice(pageNumber, pageSize, sortBy, sortDir);
+        countEstimator.recordCountSkipped(AppConstants.PAGINATION_MODE_SLICE);
+
+        return sliceResponse(experiences).build();
+    }
+
+    @Override
+    public PageResponseDTO getInterviewsWithEstimatedTotal(Integer pageNumber, Integer pageSize, String sortBy, String sortDir) {
+        log.info("InterviewExperienceServiceImpl :: getInterviewsWithEstimatedTotal :: fetching :: page {} with size {}", pageNumber, pageSize);
+        Slice<InterviewExperienceSummary> experiences = fetchSlice(pageNumber, pageSize, sortBy, sortDir);
+        countEstimator.recordCountSkipped(AppConstants.PAGINATION_MODE_ESTIMATE);
+
+        long estimatedTotal = countEstimator.estimate();
+        log.info("InterviewExperienceServiceImpl :: getInterviewsWithEstimatedTotal :: estimated :: {} total experiences", estimatedTotal);
+
+        return sliceResponse(experiences)
+                .totalElements(estimatedTotal)
+                .totalPages((int) ((estimatedTotal + experiences.getSize() - 1) / experiences.getSize()))
+                .approximate(true)
+                .build();
+    }
+
+    private Slice<InterviewExperienceSummary> fetchSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDir) {
+        Sort sort = (sortDir.equalsIgnoreCase("asc")) ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
+        Slice<InterviewExperienceSummary> experiences = repository.findSummarySlice(PageRequest.of(pageNumber, boundedPageSize(pageSize), sort));
+        log.info("InterviewExperienceServiceImpl :: fetchSlice :: found :: {} experiences", experiences.getNumberOfElements());
+        return experiences;
+    }
+
+    private PageResponseDTO.PageResponseDTOBuilder sliceResponse(Slice<InterviewExperienceSummary> experiences) {
+        return PageResponseDTO.builder()
+                .content(experiences.getContent())
+                .pageNumber(experiences.getNumber())
+                .pageSize(experiences.getSize())
+                .lastPage(experiences.isLast());
+    }
+
+    @Override
+    public PageResponseDTO getInterviewsByCursor(String cursor, Integer pageSize) {
+        log.info("InterviewExperienceServiceImpl :: getInterviewsByCursor :: fetching :: page of size {} after cursor {}", pageSize, cursor);
+        PageCursor after = PageCursor.decode(cursor);
+        int size = boundedPageSize(pageSize);
+
+        // Fetch one extra row to know whether another page exists without counting
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<InterviewExperienceSummary> experiences = (after == null)
+                ? repository.findFirstSummaryPage(limit)
+                : repository.findSummaryPageAfter(after.getCreatedAt(), after.getId(), limit);
+
+        boolean lastPage = experiences.size() <= size;
+        List<InterviewExperienceSummary> experienceList = lastPage ? experiences : experiences.subList(0, size);
+        log.info("InterviewExperienceServiceImpl :: getInterviewsByCursor :: found :: {} experiences", experienceList.size());
+
+        String nextCursor = null;
+        if (!lastPage) {
+            InterviewExperienceSummary tail = experienceList.get(experienceList.size() - 1);
+            nextCursor = new PageCursor(tail.getCreatedAt(), tail.getId()).encode();
+        }
+
+        return PageResponseDTO.builder()
+                .content(experienceList)
+                .pageSize(size)
+                .lastPage(lastPage)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Cacheable(cacheNames = AppConstants.CACHE_INTERVIEW_BY_ID, key = "#id", sync = true)
     public InterviewExperienceResponse getInterviewById(UUID id) {
         log.info("InterviewExperienceServiceImpl :: getInterviewById :: fetching :: experience with id: {}", id);
         InterviewExperience experience = repository.findById(id)
@@ -113,11 +289,42 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
                 });
 
         log.info("InterviewExperienceServiceImpl :: getInterviewById :: mapping :: experience to response");
-        return modelMapper.map(experience, InterviewExperienceResponse.class);
+        return mapper.toResponse(experience);
+    }
+
+    @Override
+    public LocalDateTime getInterviewUpdatedAt(UUID id) {
+        return repository.findUpdatedAtById(id)
+                .orElseThrow(() -> {
+                    log.error("InterviewExperienceServiceImpl :: getInterviewUpdatedAt :: not found :: experience with id: {}", id);
+                    return new RuntimeException("Interview Experience not found");
+                });
     }
 
+    // Feed versions back list ETags; -1 means unknown, and the caller then skips conditional handling
+    @Override
+    public long getListVersion() {
+        try {
+            return companyFeedVersions.currentGlobal();
+        } catch (RuntimeException e) {
+            log.warn("InterviewExperienceServiceImpl :: getListVersion :: unavailable: {}", e.getMessage());
+            return -1;
+        }
+    }
 
     @Override
+    public long getCompanyFeedVersion(String companyTag) {
+        try {
+            return companyFeedVersions.current(companyTag);
+        } catch (RuntimeException e) {
+            log.warn("InterviewExperienceServiceImpl :: getCompanyFeedVersion :: unavailable for {}: {}", companyTag, e.getMessage());
+            return -1;
+        }
+    }
+
+
+    @Override
+    @Transactional
     public void deleteInterviewExperience(UUID id) {
         log.info("InterviewExperienceServiceImpl :: deleteInterviewExperience :: deleting :: experience with id: {}", id);
 
@@ -129,27 +336,90 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
                 });
         //log.info("Deleting experience: {}, imageName: {}", experience.getId(), experience.getImageName());
 
-        // Delete image from S3 if exists
+        repository.delete(experience);
+
+        // The image is deleted from S3 after commit by ImageDeletionDispatcher, unless another experience shares it
         if (experience.getImageName() != null && !experience.getImageName().isEmpty()) {
-            try {
-                log.info("InterviewExperienceServiceImpl :: deleting image from S3: {}", experience.getImageName());
-                fileService.deleteImage(experience.getImageName());
-                log.info("InterviewExperienceServiceImpl :: deleted image from S3: {}", experience.getImageName());
-            } catch (Exception e) {
-                log.error("InterviewExperienceServiceImpl :: failed to delete image from S3: {}", e.getMessage());
-                // Optional: you can throw exception if you want to fail delete if image deletion fails
-            }
+            scheduleImageDeletion(experience.getImageName(), experience.getImageRenditions());
         }
-
-        // Delete DB record
-        repository.delete(experience);
+        companyStats.recordPost(experience.getCompanyTag(), experience.getCreatedAt(), -1);
+        afterCommit(() -> {
+            evictCached(id);
+            companyFeedVersions.bump(experience.getCompanyTag());
+            searchIndex.remove(id);
+            companyTagIndex.decrement(experience.getCompanyTag());
+        });
         log.info("InterviewExperienceServiceImpl :: deleteInterviewExperience :: deleted DB record with id: {}", id);
     }
 
+    /**
+     * Deletes many experiences with one DELETE statement. Their images are written to the
+     * deletion outbox in the same transaction and removed from S3 by ImageDeletionDispatcher.
+     */
     @Override
-    public InterviewExperienceResponse updateInterviewExperience(UUID id, InterviewExperienceRequest request, MultipartFile newImage) throws IOException {
+    @Transactional
+    public BulkDeleteResultDTO deleteInterviewExperiences(Collection<UUID> ids) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        if (requested.isEmpty() || requested.size() > AppConstants.MAX_BULK_DELETE) {
+            throw new IllegalArgumentException("Between 1 and " + AppConstants.MAX_BULK_DELETE + " ids can be deleted at once");
+        }
+        log.info("InterviewExperienceServiceImpl :: deleteInterviewExperiences :: deleting :: {} experiences", requested.size());
+
+        List<InterviewExperience> experiences = repository.findAllById(requested);
+        Set<UUID> found = experiences.stream().map(InterviewExperience::getId).collect(Collectors.toSet());
+        List<UUID> notFound = requested.stream().filter(id -> !found.contains(id)).toList();
+
+        repository.deleteAllByIdInBatch(found);
+
+        // Shared images are kept by the dispatcher, which checks references when it deletes
+        List<ImageDeletionOutbox> deletions = experiences.stream()
+                .filter(experience -> experience.getImageName() != null && !experience.getImageName().isEmpty())
+                .map(experience -> ImageDeletionOutbox.builder()
+                        .imageUrl(experience.getImageName())
+                        .renditions(experience.getImageRenditions())
+                        .build())
+                .toList();
+        if (!deletions.isEmpty()) {
+            deletions.forEach(deletion -> imageReferences.release(deletion.getImageUrl()));
+            imageDeletionOutbox.saveAll(deletions);
+        }
+
+        Map<String, Map<LocalDate, Long>> deletedPerCompanyDay = experiences.stream()
+                .collect(Collectors.groupingBy(InterviewExperience::getCompanyTag,
+                        Collectors.groupingBy(e -> e.getCreatedAt().toLocalDate(), Collectors.counting())));
+        deletedPerCompanyDay.forEach((companyTag, perDay) ->
+                perDay.forEach((day, count) -> companyStats.recordPost(companyTag, day.atStartOfDay(), -count)));
+
+        afterCommit(() -> {
+            for (InterviewExperience experience : experiences) {
+                evictCached(experience.getId());
+                searchIndex.remove(experience.getId());
+                companyTagIndex.decrement(experience.getCompanyTag());
+            }
+            deletedPerCompanyDay.keySet().forEach(companyFeedVersions::bump);
+        });
+
+        log.info("InterviewExperienceServiceImpl :: deleteInterviewExperiences :: deleted :: {} experiences, {} not found, {} images queued for deletion",
+                experiences.size(), notFound.size(), deletions.size());
+        return BulkDeleteResultDTO.builder()
+                .deleted(experiences.size())
+                .notFound(notFound)
+                .failedImages(Map.of())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public InterviewExperienceResponse updateInterviewExperience(UUID id, InterviewExperienceRequest request, String storedImageUrl) {
         log.info("InterviewExperienceServiceImpl :: updateInterviewExperience :: updating :: experience with id: {}", id);
 
+        boolean hasNewImage = storedImageUrl != null;
+        String uploadedImageUrl = request.getUploadedImageUrl();
+        boolean attachUploaded = uploadedImageUrl != null && !uploadedImageUrl.isBlank();
+        if (attachUploaded && hasNewImage) {
+            throw new IllegalArgumentException("Send either an image or an uploadedImageUrl, not both");
+        }
+
         // Fetch existing record
         InterviewExperience experience = repository.findById(id)
                 .orElseThrow(() -> {
@@ -157,21 +427,30 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
                     return new RuntimeException("Interview Experience not found");
                 });
 
-        // Handle new image upload
-        if (newImage != null && !newImage.isEmpty()) {
-            // Delete old image from S3 if exists
-            if (experience.getImageName() != null && !experience.getImageName().isEmpty()) {
-                log.info("InterviewExperienceServiceImpl :: deleting old image from S3: {}", experience.getImageName());
-                fileService.deleteImage(experience.getImageName());
-            }
+        if (attachUploaded && !uploadedImageUrl.equals(experience.getImageName())) {
+            attachUploadedImage(uploadedImageUrl);
+        } else {
+            attachUploaded = false;
+        }
 
-            // Upload new image
-            String newImageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, newImage);
-            log.info( "InterviewExperienceServiceImpl :: uploaded new image to S3: {}", newImageUrl);
-            experience.setImageName(newImageUrl);
+        String oldImageUrl = experience.getImageName();
+        Map<String, String> oldRenditions = experience.getImageRenditions();
+        if (hasNewImage) {
+            experience.setImageName(storedImageUrl);
+        } else if (attachUploaded) {
+            experience.setImageName(uploadedImageUrl);
+        }
+        // Re-uploading the current image resolves to the same content-addressed URL and changes nothing
+        boolean imageChanged = (hasNewImage || attachUploaded) && !experience.getImageName().equals(oldImageUrl);
+        if (imageChanged) {
+            experience.setImageRenditions(null);
+        } else if (hasNewImage) {
+            // The experience already holds a reference to this image, so the caller's one is surplus
+            imageReferences.release(storedImageUrl);
         }
 
         // Update other fields
+        String previousCompanyTag = experience.getCompanyTag();
         experience.setUserName(request.getUserName());
         experience.setTitle(request.getTitle());
         experience.setCompanyTag(request.getCompanyTag());
@@ -182,9 +461,115 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
         // Save updated entity
         InterviewExperience updatedExperience = repository.save(experience);
 
+        if (imageChanged && oldImageUrl != null && !oldImageUrl.isEmpty()) {
+            scheduleImageDeletion(oldImageUrl, oldRenditions);
+        }
+        if (imageChanged) {
+            renditionPipeline.submit(updatedExperience.getId(), updatedExperience.getImageName(), updatedExperience.getCompanyTag());
+        }
+
+        boolean companyChanged = previousCompanyTag != null && !previousCompanyTag.equals(updatedExperience.getCompanyTag());
+        if (companyChanged) {
+            companyStats.recordPost(previousCompanyTag, updatedExperience.getCreatedAt(), -1);
+            companyStats.recordPost(updatedExperience.getCompanyTag(), updatedExperience.getCreatedAt(), 1);
+        }
+        afterCommit(() -> {
+            evictCached(id);
+            companyFeedVersions.bump(updatedExperience.getCompanyTag());
+            searchIndex.index(updatedExperience);
+            companyTagIndex.move(previousCompanyTag, updatedExperience.getCompanyTag());
+            if (companyChanged) {
+                companyFeedVersions.bump(previousCompanyTag);
+            }
+        });
+
         log.info("InterviewExperienceServiceImpl :: updateInterviewExperience :: saved :: updated experience");
 
-        return modelMapper.map(updatedExperience, InterviewExperienceResponse.class);
+        return mapper.toResponse(updatedExperience);
     }
 
+    @Override
+    @Transactional
+    public void retainImage(String imageUrl) {
+        imageReferences.retain(imageUrl);
+    }
+
+    @Override
+    @Transactional
+    public void releaseImage(String imageUrl) {
+        scheduleImageDeletion(imageUrl, null);
+    }
+
+    /**
+     * Attaches an image the client already PUT through a presigned URL. The reference is taken
+     * before S3 confirms the object exists, so no deleter can remove it between the check and the
+     * commit.
+     */
+    private void attachUploadedImage(String uploadedImageUrl) {
+        imageReferences.retain(uploadedImageUrl);
+        fileService.verifyUploadedImage(uploadedImageUrl);
+    }
+
+    /**
+     * Drops the cached experience so the next read loads the committed row. Runs after commit, so a
+     * reader cannot cache the old row again between the eviction and the commit.
+     */
+    private void evictCached(UUID id) {
+        Cache byId = cacheManager.getCache(AppConstants.CACHE_INTERVIEW_BY_ID);
+        if (byId != null) {
+            byId.evict(id);
+        }
+    }
+
+    /**
+     * Runs action once the caller's transaction commits, or straight away outside one. Feed
+     * versions, caches, the search index and the company tag index live outside the database, so
+     * updating them before commit would let a reader see a change that then rolls back, or cache a
+     * page read before the change became visible.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Drops one reference and queues the deletion in the caller's transaction, so both happen only if the change that
+    // released the image commits
+    private void scheduleImageDeletion(String imageUrl, Map<String, String> renditions) {
+        log.info("InterviewExperienceServiceImpl :: scheduleImageDeletion :: queueing :: deletion of {}", imageUrl);
+        imageReferences.release(imageUrl);
+        imageDeletionOutbox.save(ImageDeletionOutbox.builder()
+                .imageUrl(imageUrl)
+                .renditions(renditions)
+                .build());
+    }
+
+    /**
+     * Streams every matching experience to out as NDJSON, oldest first. The read-only
+     * transaction keeps the cursor open for the duration of the write; from and to are
+     * inclusive days.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportInterviews(String companyTag, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        String company = (companyTag == null || companyTag.isBlank()) ? null : companyTag;
+        LocalDateTime start = from == null ? null : from.atStartOfDay();
+        LocalDateTime end = to == null ? null : to.plusDays(1).atStartOfDay();
+        log.info("InterviewExperienceServiceImpl :: exportInterviews :: exporting :: company: {} from {} to {}", company, from, to);
+
+        long started = System.currentTimeMillis();
+        try (Stream<InterviewExperienceResponse> rows = repository.streamForExport(company, start, end)) {
+            long exported = exportWriter.write(rows, out);
+            log.info("InterviewExperienceServiceImpl :: exportInterviews :: exported :: {} experiences in {} ms",
+                    exported, System.currentTimeMillis() - started);
+            return exported;
+        }
+    }
 }
@@ -0,0 +1,292 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.PresignedUploadDTO;
+import com.Switchboard.InterviewService.dto.StoredImageDTO;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.ImageResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * FileService for the backends that keep images on this host rather than in S3. Keys, content
+ * addressing and rendition naming are the same as in FileServiceImpl. Images live under
+ * AppConstants.PATH_VARIABLE, and the public URL of PATH_VARIABLE/name is
+ * interview.storage.public-url + "/" + name. That matches the controller's /image/{fileName}
+ * proxy, which serves the same URL by default. Subclasses only provide the primitive object
+ * operations, and keys reaching them are always validated, so a URL can never address anything
+ * outside the store.
+ */
+public abstract class LocalFileService implements FileService {
+    private static final Logger log = LoggerFactory.getLogger(LocalFileService.class);
+
+    // Where the images under PATH_VARIABLE are published. Defaults to this service's image proxy as
+    // a root-relative URL; set an absolute URL when clients are served from another origin
+    @Value("${interview.storage.public-url:${server.servlet.context-path:}/api/v1/interview/image}")
+    private String publicUrl;
+
+    // Metadata of the object under key, or null if there is none
+    protected abstract StoredObject stat(String key) throws IOException;
+
+    // Replaces the object under key; readers see either the old or the new content, never a mix
+    protected abstract void write(String key, InputStream content, String contentType) throws IOException;
+
+    // Throws FileNotFoundException if there is no object under key
+    protected abstract InputStream read(String key) throws IOException;
+
+    protected abstract void transfer(String key, long offset, long length, OutputStream out) throws IOException;
+
+    // Returns whether there was an object to remove
+    protected abstract boolean remove(String key) throws IOException;
+
+    // Every object whose key starts with path + "/"; the caller closes the stream
+    protected abstract Stream<StoredObject> objects(String path) throws IOException;
+
+    @Override
+    public String uploadImage(String path, MultipartFile file) throws IOException {
+        log.info("LocalFileService :: uploadImage :: uploading image: {}", file.getOriginalFilename());
+        String imageUrl = newImageUrl(path, file);
+        store(keyOf(imageUrl), file);
+        return imageUrl;
+    }
+
+    @Override
+    public String newImageUrl(String path, MultipartFile file) throws IOException {
+        return urlOf(checkKey(path + "/" + FileServiceImpl.sha256Hex(file) + FileServiceImpl.extensionOf(file.getContentType())));
+    }
+
+    // A local write takes about as long as handing it to another thread, so it runs on the caller
+    @Override
+    public CompletableFuture<String> uploadImageAsync(String imageUrl, MultipartFile file) {
+        try {
+            store(keyOf(imageUrl), file);
+            return CompletableFuture.completedFuture(imageUrl);
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public ImageResource getResource(String path, String fileName) throws IOException {
+        if (fileName == null || !FileServiceImpl.FILE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("Invalid image name");
+        }
+        String key = checkKey(path + "/" + fileName);
+        StoredObject object = stat(key);
+        if (object == null) {
+            throw new FileNotFoundException("No image stored at " + key);
+        }
+        return new StoredImageResource(object);
+    }
+
+    @Override
+    public void deleteImage(String fileUrl) {
+        String key = keyOf(fileUrl);
+        try {
+            remove(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("LocalFileService :: deleteImage :: deleted image: {}", key);
+    }
+
+    @Override
+    public InputStream openImage(String imageUrl) throws IOException {
+        return read(keyOf(imageUrl));
+    }
+
+    @Override
+    public String storeRendition(String imageUrl, String variant, String contentType, byte[] content) {
+        String key = checkKey(keyOf(imageUrl) + "_" + variant);
+        try {
+            write(key, new ByteArrayInputStream(content), contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("LocalFileService :: storeRendition :: stored {} bytes with key: {}", content.length, key);
+        return urlOf(key);
+    }
+
+    // The controller answers this with 501 Not Implemented
+    @Override
+    public PresignedUploadDTO presignUpload(String originalFilename, String contentType, long contentLength) {
+        throw new UnsupportedOperationException("Direct uploads need the S3 storage backend; send the image with the experience instead");
+    }
+
+    // Only presigned uploads may be attached by URL, and this backend never issues any
+    @Override
+    public void verifyUploadedImage(String imageUrl) {
+        throw new IllegalArgumentException("Uploaded image URL was not issued by this service");
+    }
+
+    // Like S3 DeleteObjects, removing an object that is already gone is not a failure
+    @Override
+    public Map<String, String> deleteImages(Collection<String> fileUrls) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        int deleted = 0;
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || fileUrl.isEmpty()) {
+                continue;
+            }
+            try {
+                remove(keyOf(fileUrl));
+                deleted++;
+            } catch (IOException | RuntimeException e) {
+                log.error("LocalFileService :: deleteImages :: failed for {}: {}", fileUrl, e.getMessage());
+                failures.put(fileUrl, String.valueOf(e.getMessage()));
+            }
+        }
+        log.info("LocalFileService :: deleteImages :: deleted {} of {} images", deleted, deleted + failures.size());
+        return failures;
+    }
+
+    @Override
+    public void listImages(String path, int pageSize, Consumer<List<StoredImageDTO>> pageConsumer) {
+        int pages = 0;
+        try (Stream<StoredObject> objects = objects(checkKey(path))) {
+            List<StoredImageDTO> page = new ArrayList<>();
+            Iterator<StoredObject> iterator = objects.iterator();
+            while (iterator.hasNext()) {
+                StoredObject object = iterator.next();
+                page.add(StoredImageDTO.builder()
+                        .imageUrl(urlOf(object.key))
+                        .size(object.size)
+                        .lastModified(object.lastModified)
+                        .build());
+                if (page.size() == pageSize) {
+                    pageConsumer.accept(page);
+                    pages++;
+                    page = new ArrayList<>();
+                }
+            }
+            // An empty store still yields one empty page, as an empty ListObjectsV2 response does
+            if (!page.isEmpty() || pages == 0) {
+                pageConsumer.accept(page);
+                pages++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("LocalFileService :: listImages :: listed {} pages under {}", pages, path);
+    }
+
+    private void store(String key, MultipartFile file) throws IOException {
+        // Content-addressed key: an image that is already stored is not written again
+        if (stat(key) != null) {
+            log.info("LocalFileService :: store :: {} already stored, skipping upload", key);
+            return;
+        }
+        try (InputStream content = file.getInputStream()) {
+            write(key, content, file.getContentType());
+        }
+        log.info("LocalFileService :: store :: stored {} bytes with key: {}", file.getSize(), key);
+    }
+
+    // Only PATH_VARIABLE is published, as the image proxy serves nothing else
+    private String urlOf(String key) {
+        String prefix = AppConstants.PATH_VARIABLE + "/";
+        if (!key.startsWith(prefix)) {
+            throw new IllegalArgumentException("Only images under " + AppConstants.PATH_VARIABLE + " can be published: " + key);
+        }
+        return publicUrl + "/" + key.substring(prefix.length());
+    }
+
+    // Object key from a public URL issued by this backend
+    private String keyOf(String fileUrl) {
+        String prefix = publicUrl + "/";
+        if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+            throw new IllegalArgumentException("Image URL was not issued by this storage backend: " + fileUrl);
+        }
+        String fileName = fileUrl.substring(prefix.length());
+        if (!FileServiceImpl.FILE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("Invalid image URL: " + fileUrl);
+        }
+        return checkKey(AppConstants.PATH_VARIABLE + "/" + fileName);
+    }
+
+    // Every segment must be a plain object name, so keys cannot climb out of the store with ".." or "/"
+    static String checkKey(String key) {
+        for (String segment : key.split("/", -1)) {
+            if (!FileServiceImpl.FILE_NAME.matcher(segment).matches()) {
+                throw new IllegalArgumentException("Invalid image key: " + key);
+            }
+        }
+        return key;
+    }
+
+    // Changes whenever the object is replaced, as an S3 ETag does
+    static String eTagOf(StoredObject object) {
+        return "\"" + Long.toHexString(object.lastModified.toEpochMilli()) + "-" + Long.toHexString(object.size) + "\"";
+    }
+
+    protected static final class StoredObject {
+        final String key;
+        final long size;
+        final String contentType;
+        final Instant lastModified;
+
+        StoredObject(String key, long size, String contentType, Instant lastModified) {
+            this.key = key;
+            this.size = size;
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private final class StoredImageResource implements ImageResource {
+        private final StoredObject object;
+
+        private StoredImageResource(StoredObject object) {
+            this.object = object;
+        }
+
+        @Override
+        public long contentLength() {
+            return object.size;
+        }
+
+        @Override
+        public String contentType() {
+            return object.contentType;
+        }
+
+        @Override
+        public String eTag() {
+            return eTagOf(object);
+        }
+
+        @Override
+        public Instant lastModified() {
+            return object.lastModified;
+        }
+
+        @Override
+        public void transferTo(long offset, long length, OutputStream out) throws IOException {
+            // Like the If-Match on S3 reads: the body must belong to the object the headers came from
+            StoredObject current = stat(object.key);
+            if (current == null || !eTagOf(current).equals(eTag())) {
+                throw new FileNotFoundException("Image " + object.key + " was replaced or deleted while being served");
+            }
+            transfer(object.key, offset, length, out);
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.InterviewSearchResult;
+import com.Switchboard.InterviewService.dto.SearchResponseDTO;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process Lucene index of interview experiences (title, content, companyTag) on local disk,
+ * read through memory-mapped files. Writes are applied incrementally by the service and become
+ * searchable after at most the configured refresh interval (near-real-time readers, no commit per
+ * write). The index is rebuilt from the repository at startup, so it never needs to be durable on
+ * its own and search never touches the primary database. Each instance only sees its own writes,
+ * so the index is also rebuilt every interview.search.lucene.rebuild-interval; edits and deletes
+ * made through other instances show up after at most that long. Disabled unless
+ * interview.search.lucene.enabled=true; all write hooks are no-ops while disabled.
+ */
+@Component
+public class LuceneSearchIndex implements ApplicationRunner, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(LuceneSearchIndex.class);
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_USER_NAME = "userName";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_CONTENT = "content";
+    static final String FIELD_COMPANY_TAG = "companyTag";
+    static final String FIELD_COMPANY_KEY = "companyKey";
+    static final String FIELD_IMAGE_NAME = "imageName";
+    static final String FIELD_EXCERPT = "excerpt";
+    static final String FIELD_CREATED_AT = "createdAt";
+    static final String FIELD_UPDATED_AT = "updatedAt";
+    static final String FIELD_GENERATION = "generation";
+
+    // Title matches weigh more than body matches, mirroring the A/B weights of the Postgres search
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(FIELD_TITLE, 2.0f, FIELD_COMPANY_TAG, 1.5f, FIELD_CONTENT, 1.0f);
+
+    private final InterviewExperienceRepository repository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    @Value("${interview.search.lucene.enabled:false}")
+    private boolean enabled;
+
+    @Value("${interview.search.lucene.path:${java.io.tmpdir}/interview-search-index}")
+    private String indexPath;
+
+    @Value("${interview.search.lucene.refresh-interval:1s}")
+    private Duration refreshInterval;
+
+    @Value("${interview.search.lucene.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    // Stamped on every written document; a rebuild starts a new generation and finally drops older ones
+    private volatile long generation;
+
+    // Ids removed while a rebuild runs; the rebuild may have read them before the delete and re-added them
+    private final Set<String> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public LuceneSearchIndex(InterviewExperienceRepository repository) {
+        this.repository = repository;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            log.info("LuceneSearchIndex :: open :: disabled");
+            return;
+        }
+        directory = new MMapDirectory(Path.of(indexPath));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        generation = System.currentTimeMillis();
+
+        double refreshSeconds = refreshInterval.toMillis() / 1000.0;
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, refreshSeconds, refreshSeconds);
+        reopenThread.setName("lucene-search-refresh");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+
+        Metrics.gauge("interview.search.index.documents", this, LuceneSearchIndex::documentCount);
+        Metrics.gauge("interview.search.index.size.bytes", this, LuceneSearchIndex::sizeInBytes);
+        log.info("LuceneSearchIndex :: open :: opened index at {} with refresh interval {}", indexPath, refreshInterval);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // Catches up with writes made through other instances, which never reach this index directly
+    @Scheduled(fixedDelayString = "${interview.search.lucene.rebuild-interval:PT10M}",
+            initialDelayString = "${interview.search.lucene.rebuild-interval:PT10M}")
+    public void catchUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (IOException | RuntimeException e) {
+            // Searches keep using the current index; the next run tries again
+            log.error("LuceneSearchIndex :: catchUp :: rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Brings the index in line with every row of interview_experience, read in keyset batches of
+     * rebuildBatchSize ids so the whole table is never held in memory. Documents are replaced in
+     * place, so searches keep seeing the old contents until the new ones are written; documents
+     * not rewritten by this rebuild or by a concurrent write are then dropped as stale.
+     */
+    public synchronized void rebuild() throws IOException {
+        long started = System.nanoTime();
+        long rebuildGeneration = Math.max(generation + 1, System.currentTimeMillis());
+        generation = rebuildGeneration;
+        removedDuringRebuild.clear();
+        rebuilding = true;
+        Pageable batchSize = PageRequest.of(0, rebuildBatchSize);
+        long indexed = 0;
+        try {
+            List<InterviewExperience> batch = repository.findFirstBatch(batchSize);
+            while (!batch.isEmpty()) {
+                for (InterviewExperience experience : batch) {
+                    writer.updateDocument(new Term(FIELD_ID, experience.getId().toString()), toDocument(experience, rebuildGeneration));
+                }
+                indexed += batch.size();
+                if (batch.size() < rebuildBatchSize) {
+                    break;
+                }
+                batch = repository.findBatchAfter(batch.get(batch.size() - 1).getId(), batchSize);
+            }
+        } finally {
+            rebuilding = false;
+        }
+        for (String id : removedDuringRebuild) {
+            writer.deleteDocuments(new Term(FIELD_ID, id));
+        }
+        removedDuringRebuild.clear();
+        writer.deleteDocuments(LongPoint.newRangeQuery(FIELD_GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+        writer.commit();
+        refresh();
+        log.info("LuceneSearchIndex :: rebuild :: indexed {} experiences in {} ms", indexed,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    // Makes all writes so far visible to searchers now instead of at the next scheduled refresh
+    void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    public void index(InterviewExperience experience) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            writer.updateDocument(new Term(FIELD_ID, experience.getId().toString()), toDocument(experience, generation));
+        } catch (IOException e) {
+            // The database is the source of truth; the next rebuild repairs the index
+            log.error("LuceneSearchIndex :: index :: failed for id {}: {}", experience.getId(), e.getMessage());
+        }
+    }
+
+    public void remove(UUID id) {
+        if (!enabled) {
+            return;
+        }
+        if (rebuilding) {
+            removedDuringRebuild.add(id.toString());
+        }
+        try {
+            writer.deleteDocuments(new Term(FIELD_ID, id.toString()));
+        } catch (IOException e) {
+            log.error("LuceneSearchIndex :: remove :: failed for id {}: {}", id, e.getMessage());
+        }
+    }
+
+    public SearchResponseDTO search(String queryText, String companyTag, int pageNumber, int pageSize) {
+        if (!enabled) {
+            throw new IllegalArgumentException("Lucene search index is not enabled");
+        }
+        // Lucene collects offset + pageSize hits, so the window must stay non-negative and fit an int
+        if (pageNumber < 0 || (long) pageNumber * pageSize > Integer.MAX_VALUE - pageSize - 1) {
+            throw new IllegalArgumentException("Page number out of range: " + pageNumber);
+        }
+        Query query = buildQuery(queryText, companyTag);
+        int offset = pageNumber * pageSize;
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                // One extra hit tells us whether another page exists
+                TopDocs topDocs = searcher.search(query, offset + pageSize + 1);
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<InterviewSearchResult> results = new ArrayList<>();
+                for (int i = offset; i < Math.min(hits.length, offset + pageSize); i++) {
+                    results.add(toResult(storedFields.document(hits[i].doc), hits[i].score));
+                }
+                return SearchResponseDTO.builder()
+                        .query(queryText)
+                        .results(results)
+                        .pageNumber(pageNumber)
+                        .pageSize(pageSize)
+                        .lastPage(hits.length <= offset + pageSize)
+                        .build();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Search index read failed: " + e.getMessage(), e);
+        }
+    }
+
+    private Query buildQuery(String queryText, String companyTag) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{FIELD_TITLE, FIELD_COMPANY_TAG, FIELD_CONTENT}, analyzer, FIELD_BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        Query textQuery;
+        try {
+            textQuery = parser.parse(queryText);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid search query: " + queryText);
+        }
+        if (companyTag == null) {
+            return textQuery;
+        }
+        return new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FIELD_COMPANY_KEY, companyKey(companyTag))), BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    private static Document toDocument(InterviewExperience experience, long generation) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, experience.getId().toString(), Field.Store.YES));
+        document.add(new LongPoint(FIELD_GENERATION, generation));
+        document.add(new StoredField(FIELD_USER_NAME, nullToEmpty(experience.getUserName())));
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(experience.getTitle()), Field.Store.YES));
+        // The body is indexed but not stored; results carry a fixed-length excerpt instead
+        document.add(new TextField(FIELD_CONTENT, nullToEmpty(experience.getContent()), Field.Store.NO));
+        document.add(new TextField(FIELD_COMPANY_TAG, nullToEmpty(experience.getCompanyTag()), Field.Store.YES));
+        document.add(new StringField(FIELD_COMPANY_KEY, companyKey(experience.getCompanyTag()), Field.Store.NO));
+        document.add(new StoredField(FIELD_EXCERPT, excerpt(experience.getContent())));
+        if (experience.getImageName() != null) {
+            document.add(new StoredField(FIELD_IMAGE_NAME, experience.getImageName()));
+        }
+        if (experience.getCreatedAt() != null) {
+            document.add(new StoredField(FIELD_CREATED_AT, experience.getCreatedAt().toString()));
+        }
+        if (experience.getUpdatedAt() != null) {
+            document.add(new StoredField(FIELD_UPDATED_AT, experience.getUpdatedAt().toString()));
+        }
+        return document;
+    }
+
+    private static InterviewSearchResult toResult(Document document, float score) {
+        return InterviewSearchResult.builder()
+                .id(UUID.fromString(document.get(FIELD_ID)))
+                .userName(document.get(FIELD_USER_NAME))
+                .title(document.get(FIELD_TITLE))
+                .imageName(document.get(FIELD_IMAGE_NAME))
+                .companyTag(document.get(FIELD_COMPANY_TAG))
+                // Escaped like the Postgres snippet, which clients render as HTML
+                .snippet(HtmlUtils.htmlEscape(document.get(FIELD_EXCERPT)))
+                .rank((double) score)
+                .createdAt(parseTimestamp(document.get(FIELD_CREATED_AT)))
+                .updatedAt(parseTimestamp(document.get(FIELD_UPDATED_AT)))
+                .build();
+    }
+
+    private static String companyKey(String companyTag) {
+        return companyTag == null ? "" : companyTag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String excerpt(String content) {
+        if (content == null) {
+            return "";
+        }
+        return content.length() <= AppConstants.EXCERPT_LENGTH ? content : content.substring(0, AppConstants.EXCERPT_LENGTH);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+
+    double documentCount() {
+        return writer == null ? 0 : writer.getDocStats().numDocs;
+    }
+
+    double sizeInBytes() {
+        if (directory == null) {
+            return 0;
+        }
+        long total = 0;
+        try {
+            for (String file : directory.listAll()) {
+                try {
+                    total += directory.fileLength(file);
+                } catch (IOException e) {
+                    // File was merged away between listing and stat
+                }
+            }
+        } catch (IOException e) {
+            log.debug("LuceneSearchIndex :: sizeInBytes :: listing failed: {}", e.getMessage());
+        }
+        return total;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        log.info("LuceneSearchIndex :: destroy :: closed index at {}", indexPath);
+    }
+}
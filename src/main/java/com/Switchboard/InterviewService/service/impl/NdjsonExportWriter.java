@@ -0,0 +1,45 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes rows as newline-delimited JSON through one reused generator. Output is flushed
+ * every FLUSH_EVERY rows so the client receives data continuously; nothing is buffered
+ * beyond the generator's own buffer, and the target stream is left open for the caller.
+ */
+@Component
+public class NdjsonExportWriter {
+
+    static final int FLUSH_EVERY = 100;
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public long write(Stream<InterviewExperienceResponse> rows, OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Iterator<InterviewExperienceResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                objectMapper.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return written;
+    }
+}
@@ -0,0 +1,184 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.OrphanedImageReportDTO;
+import com.Switchboard.InterviewService.dto.StoredImageDTO;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deletes images under AppConstants.PATH_VARIABLE that no experience references, such as uploads
+ * whose database write failed. The bucket is listed one ListObjectsV2 page of
+ * interview.images.reconcile-page-size keys at a time, and each page is checked against the
+ * indexed imageName column in chunks of interview.images.reconcile-lookup-chunk, so memory stays
+ * bounded by one page however large the bucket grows. A rendition counts as referenced while its
+ * original is. Objects younger than interview.images.orphan-grace-period are skipped, so uploads
+ * still waiting for their row (including presigned ones) are never touched. That lookup only
+ * shortlists orphans; each chunk is deleted while ImageReferences holds the reference counts of
+ * the images (or, for renditions, their originals) locked at zero, the same rule the deletion
+ * dispatcher follows, so an upload that reuses an old object cannot lose it to this job.
+ */
+@Component
+public class OrphanedImageReconciler {
+    private static final Logger log = LoggerFactory.getLogger(OrphanedImageReconciler.class);
+
+    private final FileService fileService;
+    private final InterviewExperienceRepository experienceRepository;
+    private final ImageReferences imageReferences;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${interview.images.reconcile-page-size:1000}")
+    private int pageSize;
+
+    @Value("${interview.images.reconcile-lookup-chunk:500}")
+    private int lookupChunk;
+
+    @Value("${interview.images.orphan-grace-period:P1D}")
+    private Duration gracePeriod;
+
+    // Only count and log orphans, e.g. when enabling the job on an existing bucket
+    @Value("${interview.images.reconcile-dry-run:false}")
+    private boolean dryRun;
+
+    public OrphanedImageReconciler(FileService fileService,
+                                   InterviewExperienceRepository experienceRepository,
+                                   ImageReferences imageReferences,
+                                   PlatformTransactionManager transactionManager) {
+        this.fileService = fileService;
+        this.experienceRepository = experienceRepository;
+        this.imageReferences = imageReferences;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${interview.images.reconcile-cron:0 0 4 * * *}")
+    public OrphanedImageReportDTO reconcile() {
+        long started = System.currentTimeMillis();
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        OrphanedImageReportDTO report = OrphanedImageReportDTO.builder().dryRun(dryRun).build();
+
+        fileService.listImages(AppConstants.PATH_VARIABLE, pageSize, page -> reconcilePage(page, cutoff, report));
+
+        log.info("OrphanedImageReconciler :: reconcile :: scanned {} objects, {} orphaned, deleted {} ({} bytes), {} failed{} in {} ms",
+                report.getScanned(), report.getOrphaned(), report.getDeleted(), report.getReclaimedBytes(), report.getFailed(),
+                dryRun ? " (dry run)" : "", System.currentTimeMillis() - started);
+        return report;
+    }
+
+    private void reconcilePage(List<StoredImageDTO> page, Instant cutoff, OrphanedImageReportDTO report) {
+        report.setScanned(report.getScanned() + page.size());
+        List<StoredImageDTO> candidates = page.stream()
+                .filter(image -> image.getLastModified() != null && image.getLastModified().isBefore(cutoff))
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (StoredImageDTO image : candidates) {
+            names.add(image.getImageUrl());
+            String original = ImageRenditionPipeline.originalOf(image.getImageUrl());
+            if (original != null) {
+                names.add(original);
+            }
+        }
+        Set<String> referenced = referencedAmong(new ArrayList<>(names));
+
+        List<StoredImageDTO> orphans = candidates.stream()
+                .filter(image -> !referenced.contains(image.getImageUrl()))
+                .filter(image -> {
+                    String original = ImageRenditionPipeline.originalOf(image.getImageUrl());
+                    return original == null || !referenced.contains(original);
+                })
+                .toList();
+        if (orphans.isEmpty()) {
+            return;
+        }
+        if (dryRun) {
+            report.setOrphaned(report.getOrphaned() + orphans.size());
+            orphans.forEach(orphan -> log.info("OrphanedImageReconciler :: reconcilePage :: orphan {} ({} bytes, last modified {})",
+                    orphan.getImageUrl(), orphan.getSize(), orphan.getLastModified()));
+            return;
+        }
+
+        List<StoredImageDTO> confirmed = new ArrayList<>();
+        Map<String, String> failed = new HashMap<>();
+        for (int from = 0; from < orphans.size(); from += lookupChunk) {
+            confirmed.addAll(deleteUnreferenced(orphans.subList(from, Math.min(from + lookupChunk, orphans.size())), failed));
+        }
+        report.setOrphaned(report.getOrphaned() + confirmed.size());
+        long deleted = 0;
+        long bytes = 0;
+        for (StoredImageDTO orphan : confirmed) {
+            if (!failed.containsKey(orphan.getImageUrl())) {
+                deleted++;
+                bytes += orphan.getSize();
+            }
+        }
+        if (!failed.isEmpty()) {
+            log.warn("OrphanedImageReconciler :: reconcilePage :: failed to delete {} orphans: {}", failed.size(), failed);
+        }
+        report.setDeleted(report.getDeleted() + deleted);
+        report.setReclaimedBytes(report.getReclaimedBytes() + bytes);
+        report.setFailed(report.getFailed() + failed.size());
+        Metrics.counter("interview.images.orphans.deleted").increment(deleted);
+        Metrics.counter("interview.images.orphans.reclaimed.bytes").increment(bytes);
+    }
+
+    // Deletes the orphans whose image is still unreferenced once its count is locked, and returns them
+    private List<StoredImageDTO> deleteUnreferenced(List<StoredImageDTO> orphans, Map<String, String> failed) {
+        Map<String, String> owners = new HashMap<>();
+        for (StoredImageDTO orphan : orphans) {
+            String original = ImageRenditionPipeline.originalOf(orphan.getImageUrl());
+            owners.put(orphan.getImageUrl(), original != null ? original : orphan.getImageUrl());
+        }
+        List<StoredImageDTO> confirmed = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> unreferenced = imageReferences.lockUnreferenced(new LinkedHashSet<>(owners.values()));
+            orphans.stream()
+                    .filter(orphan -> unreferenced.contains(owners.get(orphan.getImageUrl())))
+                    .forEach(confirmed::add);
+            if (!confirmed.isEmpty()) {
+                List<String> urls = confirmed.stream().map(StoredImageDTO::getImageUrl).toList();
+                try {
+                    failed.putAll(fileService.deleteImages(urls));
+                } catch (Exception e) {
+                    log.error("OrphanedImageReconciler :: deleteUnreferenced :: deleting {} orphans failed: {}", urls.size(), e.getMessage());
+                    urls.forEach(url -> failed.put(url, String.valueOf(e.getMessage())));
+                }
+            }
+            imageReferences.forget(unreferenced);
+        });
+        if (confirmed.size() < orphans.size()) {
+            log.info("OrphanedImageReconciler :: deleteUnreferenced :: kept {} images referenced again since the scan",
+                    orphans.size() - confirmed.size());
+        }
+        return confirmed;
+    }
+
+    private Set<String> referencedAmong(List<String> names) {
+        Set<String> referenced = new HashSet<>();
+        for (int from = 0; from < names.size(); from += lookupChunk) {
+            referenced.addAll(experienceRepository.findReferencedImageNames(
+                    names.subList(from, Math.min(from + lookupChunk, names.size()))));
+        }
+        return referenced;
+    }
+}
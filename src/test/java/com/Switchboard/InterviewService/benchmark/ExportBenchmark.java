@@ -0,0 +1,80 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.service.impl.NdjsonExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures NDJSON export throughput in rows/s, plain and gzip-compressed, with the database
+ * taken out of the picture. The GC profiler's gc.alloc.rate.norm should stay flat as ROWS grows,
+ * which shows the writer does not buffer the export.
+ *
+ * Run with: ./mvnw test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *           -Dexec.args="-cp %classpath com.Switchboard.InterviewService.benchmark.ExportBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private NdjsonExportWriter writer;
+    private InterviewExperienceResponse[] rows;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = new NdjsonExportWriter(objectMapper);
+
+        LocalDateTime now = LocalDateTime.now();
+        rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> new InterviewExperienceResponse(UUID.randomUUID(), "Jane Smith", "jane.smith@example.com",
+                        "Software Engineer Interview at Amazon " + i, "https://s3.amazonaws.com/bucket/image.jpg",
+                        "Detailed interview experience content here... ".repeat(20), "Amazon", now, now, null))
+                .toArray(InterviewExperienceResponse[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long exportPlain() throws IOException {
+        return writer.write(Stream.of(rows), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long exportGzip() throws IOException {
+        GZIPOutputStream out = new GZIPOutputStream(OutputStream.nullOutputStream(), 64 * 1024);
+        long written = writer.write(Stream.of(rows), out);
+        out.finish();
+        return written;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ExportBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
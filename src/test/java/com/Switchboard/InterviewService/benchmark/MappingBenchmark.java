@@ -0,0 +1,93 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old reflective ModelMapper path with the generated MapStruct mapper.
+ * Reports ns/op and, through the GC profiler, bytes allocated per mapped object (gc.alloc.rate.norm).
+ *
+ * Run with: ./mvnw test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *           -Dexec.args="-cp %classpath com.Switchboard.InterviewService.benchmark.MappingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private InterviewExperienceMapper mapper;
+    private InterviewExperienceRequest request;
+    private InterviewExperience entity;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        mapper = Mappers.getMapper(InterviewExperienceMapper.class);
+
+        request = InterviewExperienceRequest.builder()
+                .userName("Jane Smith")
+                .userEmail("jane.smith@example.com")
+                .title("Software Engineer Interview at Amazon")
+                .content("Detailed interview experience content here...")
+                .companyTag("Amazon")
+                .build();
+
+        entity = InterviewExperience.builder()
+                .id(UUID.randomUUID())
+                .userName("Jane Smith")
+                .userEmail("jane.smith@example.com")
+                .title("Software Engineer Interview at Amazon")
+                .content("Detailed interview experience content here...")
+                .companyTag("Amazon")
+                .imageName("https://s3.amazonaws.com/bucket/image.jpg")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public InterviewExperience modelMapperRequestToEntity() {
+        return modelMapper.map(request, InterviewExperience.class);
+    }
+
+    @Benchmark
+    public InterviewExperience generatedRequestToEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public InterviewExperienceResponse modelMapperEntityToResponse() {
+        return modelMapper.map(entity, InterviewExperienceResponse.class);
+    }
+
+    @Benchmark
+    public InterviewExperienceResponse generatedEntityToResponse() {
+        return mapper.toResponse(entity);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MappingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
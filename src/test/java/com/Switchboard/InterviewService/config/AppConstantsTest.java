@@ -18,6 +18,18 @@ class AppConstantsTest {
         assertEquals("10", AppConstants.PAGE_SIZE);
     }
 
+    @Test
+    void maxPageSize_ShouldBeOneHundred() {
+        // Assert
+        assertEquals(100, AppConstants.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void excerptLength_ShouldBeTwoHundred() {
+        // Assert
+        assertEquals(200, AppConstants.EXCERPT_LENGTH);
+    }
+
     @Test
     void sortBy_ShouldBeUpdatedAt() {
         // Assert
@@ -36,6 +48,15 @@ class AppConstantsTest {
         assertEquals("interview-experience", AppConstants.PATH_VARIABLE);
     }
 
+    @Test
+    void paginationMode_ShouldDefaultToOffset() {
+        // Assert
+        assertEquals("offset", AppConstants.PAGINATION_MODE);
+        assertEquals("cursor", AppConstants.PAGINATION_MODE_CURSOR);
+        assertEquals("slice", AppConstants.PAGINATION_MODE_SLICE);
+        assertEquals("estimate", AppConstants.PAGINATION_MODE_ESTIMATE);
+    }
+
     @Test
     void appConstants_ShouldBeInstantiable() {
         // Act
@@ -44,4 +65,16 @@ class AppConstantsTest {
         // Assert
         assertNotNull(constants);
     }
+
+    @Test
+    void searchConfig_ShouldBeEnglish() {
+        // Assert
+        assertEquals("english", AppConstants.SEARCH_CONFIG);
+    }
+
+    @Test
+    void autocompleteLimit_ShouldBeTen() {
+        // Assert
+        assertEquals("10", AppConstants.AUTOCOMPLETE_LIMIT);
+    }
 }
@@ -0,0 +1,225 @@
+package com.Switchboard.InterviewService.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EarlyRefreshCacheTest {
+
+    private ConcurrentMapCache delegate;
+    private EarlyRefreshCache cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCache("test");
+        cache = new EarlyRefreshCache(delegate, Duration.ofMinutes(10), 1.0);
+    }
+
+    @Test
+    void get_WithLoader_ShouldLoadOnceAndServeFromCache() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String first = cache.get("key", () -> "value-" + loads.incrementAndGet());
+        String second = cache.get("key", () -> "value-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("value-1", first);
+        assertEquals("value-1", second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void put_ShouldWrapValueInEnvelopeAndGetShouldUnwrap() {
+        // Act
+        cache.put("key", "value");
+
+        // Assert
+        assertInstanceOf(CacheEnvelope.class, delegate.get("key").get());
+        Cache.ValueWrapper wrapper = cache.get("key");
+        assertNotNull(wrapper);
+        assertEquals("value", wrapper.get());
+        assertEquals("value", cache.get("key", String.class));
+    }
+
+    @Test
+    void get_WhenMissing_ShouldReturnNull() {
+        // Assert
+        assertNull(cache.get("missing"));
+        assertNull(cache.get("missing", String.class));
+    }
+
+    @Test
+    void get_WithLoader_WhenEntryPastTtl_ShouldReload() {
+        // Arrange
+        long stale = System.currentTimeMillis() - Duration.ofMinutes(11).toMillis();
+        delegate.put("key", new CacheEnvelope<>("old", stale, 5));
+
+        // Act
+        String result = cache.get("key", () -> "new");
+
+        // Assert
+        assertEquals("new", result);
+    }
+
+    @Test
+    void shouldRefreshEarly_FreshEntry_ShouldNotRefresh() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        CacheEnvelope<String> envelope = new CacheEnvelope<>("v", now, 10);
+
+        // Assert
+        assertFalse(cache.shouldRefreshEarly(envelope, now));
+    }
+
+    @Test
+    void shouldRefreshEarly_NearExpiryWithExpensiveRecompute_ShouldSometimesRefresh() {
+        // Arrange: 1ms before expiry, recompute cost 1s
+        long now = System.currentTimeMillis();
+        long storedAt = now - Duration.ofMinutes(10).toMillis() + 1;
+        CacheEnvelope<String> envelope = new CacheEnvelope<>("v", storedAt, 1000);
+
+        // Act
+        int refreshes = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (cache.shouldRefreshEarly(envelope, now)) {
+                refreshes++;
+            }
+        }
+
+        // Assert
+        assertTrue(refreshes > 900, "expected almost every reader to refresh, got " + refreshes);
+    }
+
+    @Test
+    void shouldRefreshEarly_WithZeroComputeCost_ShouldBehaveLikePlainTtl() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        CacheEnvelope<String> envelope = new CacheEnvelope<>("v", now - Duration.ofMinutes(10).toMillis() + 1, 0);
+
+        // Assert
+        assertFalse(cache.shouldRefreshEarly(envelope, now));
+        assertTrue(cache.shouldRefreshEarly(envelope, now + 1));
+    }
+
+    @Test
+    void evictAndClear_ShouldDelegate() {
+        // Arrange
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        // Act
+        cache.evict("a");
+
+        // Assert
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+
+        cache.clear();
+        assertNull(cache.get("b"));
+        assertEquals("test", cache.getName());
+    }
+
+    @Test
+    void get_WithLoader_ConcurrentMisses_ShouldLoadOnce() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.get("key", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "value";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_WithLoader_WhileRefreshRuns_ShouldServeCurrentValue() throws Exception {
+        // Arrange
+        long stale = System.currentTimeMillis() - Duration.ofMinutes(11).toMillis();
+        delegate.put("key", new CacheEnvelope<>("old", stale, 5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService refresher = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> refreshed = refresher.submit(() -> cache.get("key", () -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "new";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // Act
+            String during = cache.get("key", () -> "second load");
+            release.countDown();
+
+            // Assert
+            assertEquals("old", during);
+            assertEquals("new", refreshed.get(5, TimeUnit.SECONDS));
+            assertEquals("new", cache.get("key", String.class));
+        } finally {
+            refresher.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_WithLoader_WhenLoaderFails_ShouldWrapTheFailureAndNotCache() {
+        // Act & Assert
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("key", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertNull(cache.get("key"));
+        assertEquals("value", cache.get("key", () -> "value"));
+    }
+
+    @Test
+    void get_WithLoader_OverTwoTierCache_ShouldOnlyPublishForWrites() {
+        // Arrange
+        List<String> published = new ArrayList<>();
+        TwoTierCache twoTier = new TwoTierCache("test", Caffeine.newBuilder().maximumSize(10).build(),
+                new ConcurrentMapCache("test"), (name, key) -> published.add(name + ":" + key));
+        EarlyRefreshCache nearCache = new EarlyRefreshCache(twoTier, Duration.ofMinutes(10), 1.0);
+
+        // Act
+        String loaded = nearCache.get("key", () -> "loaded");
+        nearCache.put("other", "written");
+
+        // Assert
+        assertEquals("loaded", loaded);
+        assertEquals("loaded", nearCache.get("key", String.class));
+        assertEquals(List.of("test:other"), published);
+    }
+}
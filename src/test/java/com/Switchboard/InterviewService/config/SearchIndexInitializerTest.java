@@ -0,0 +1,57 @@
+package com.Switchboard.InterviewService.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SearchIndexInitializer initializer;
+
+    @Test
+    void run_OnPostgres_ShouldCreateColumnAndIndex() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+
+        // Act
+        initializer.run(null);
+
+        // Assert
+        verify(jdbcTemplate, times(1)).execute(SearchIndexInitializer.ADD_SEARCH_VECTOR);
+        verify(jdbcTemplate, times(1)).execute(SearchIndexInitializer.CREATE_SEARCH_INDEX);
+    }
+
+    @Test
+    void run_OnOtherDatabase_ShouldSkip() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // Act
+        initializer.run(null);
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void searchVector_ShouldBeGeneratedAndWeighted() {
+        // Assert
+        assertTrue(SearchIndexInitializer.ADD_SEARCH_VECTOR.contains("GENERATED ALWAYS AS"));
+        assertTrue(SearchIndexInitializer.ADD_SEARCH_VECTOR.contains("coalesce(title, '')), 'A'"));
+        assertTrue(SearchIndexInitializer.ADD_SEARCH_VECTOR.contains("coalesce(content, '')), 'B'"));
+        assertTrue(SearchIndexInitializer.CREATE_SEARCH_INDEX.contains("USING GIN (search_vector)"));
+    }
+}
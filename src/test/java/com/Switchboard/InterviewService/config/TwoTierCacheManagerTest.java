@@ -0,0 +1,106 @@
+package com.Switchboard.InterviewService.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheManagerTest {
+
+    private static final String CHANNEL = "interview-cache-invalidation";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private ConcurrentMapCacheManager l2Manager;
+    private TwoTierCacheManager manager;
+
+    @BeforeEach
+    void setUp() {
+        l2Manager = new ConcurrentMapCacheManager("interviewById");
+        manager = new TwoTierCacheManager(l2Manager, redisTemplate, CHANNEL, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void getCache_ShouldWrapL2CacheAndReturnSameInstance() {
+        // Act
+        Cache cache = manager.getCache("interviewById");
+
+        // Assert
+        assertInstanceOf(TwoTierCache.class, cache);
+        assertSame(cache, manager.getCache("interviewById"));
+    }
+
+    @Test
+    void put_ShouldPublishInvalidationOnChannel() {
+        // Act
+        manager.getCache("interviewById").put("key", "value");
+
+        // Assert
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+        assertTrue(message.getValue().endsWith("\ninterviewById\nkey"));
+    }
+
+    @Test
+    void onMessage_FromOtherInstance_ShouldDropLocalEntryOnly() {
+        // Arrange
+        Cache cache = manager.getCache("interviewById");
+        cache.put("key", "value");
+        l2Manager.getCache("interviewById").put("key", "newer");
+
+        // Act
+        manager.onMessage(message("other-instance\ninterviewById\nkey"), null);
+
+        // Assert: L1 dropped, next read sees L2's newer value
+        assertEquals("newer", cache.get("key").get());
+    }
+
+    @Test
+    void onMessage_FromSelf_ShouldBeIgnored() {
+        // Arrange
+        Cache cache = manager.getCache("interviewById");
+        cache.put("key", "value");
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+        l2Manager.getCache("interviewById").put("key", "newer");
+
+        // Act
+        manager.onMessage(message(published.getValue()), null);
+
+        // Assert: own message does not drop the L1 entry
+        assertEquals("value", cache.get("key").get());
+    }
+
+    @Test
+    void put_WhenPublishFails_ShouldStillWriteThrough() {
+        // Arrange
+        doThrow(new RuntimeException("redis down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        // Act
+        Cache cache = manager.getCache("interviewById");
+        cache.put("key", "value");
+
+        // Assert
+        assertEquals("value", cache.get("key").get());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
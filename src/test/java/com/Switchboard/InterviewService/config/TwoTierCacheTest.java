@@ -0,0 +1,149 @@
+package com.Switchboard.InterviewService.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoTierCacheTest {
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private ConcurrentMapCache l2;
+    private List<String> published;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        l1 = Caffeine.newBuilder().maximumSize(100).build();
+        l2 = new ConcurrentMapCache("interviewById");
+        published = new ArrayList<>();
+        cache = new TwoTierCache("interviewById", l1, l2, (name, key) -> published.add(name + ":" + key));
+    }
+
+    @Test
+    void put_ShouldWriteBothTiersAndPublishInvalidation() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        cache.put(id, "value");
+
+        // Assert
+        assertEquals("value", l1.getIfPresent(id.toString()));
+        assertEquals("value", l2.get(id).get());
+        assertEquals(List.of("interviewById:" + id), published);
+    }
+
+    @Test
+    void get_WhenOnlyInL2_ShouldPromoteIntoL1() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        l2.put(id, "remote");
+
+        // Act
+        String result = cache.get(id, String.class);
+
+        // Assert
+        assertEquals("remote", result);
+        assertEquals("remote", l1.getIfPresent(id.toString()));
+    }
+
+    @Test
+    void get_WhenInL1_ShouldNotReadL2() {
+        // Arrange
+        l1.put("key", "local");
+        l2.put("key", "remote");
+
+        // Act & Assert
+        assertEquals("local", cache.get("key").get());
+    }
+
+    @Test
+    void get_WhenMissingEverywhere_ShouldReturnNull() {
+        // Assert
+        assertNull(cache.get("missing"));
+    }
+
+    @Test
+    void evict_ShouldRemoveFromBothTiersAndPublish() {
+        // Arrange
+        cache.put("key", "value");
+        published.clear();
+
+        // Act
+        cache.evict("key");
+
+        // Assert
+        assertNull(l1.getIfPresent("key"));
+        assertNull(l2.get("key"));
+        assertEquals(List.of("interviewById:key"), published);
+    }
+
+    @Test
+    void invalidateLocal_ShouldOnlyDropL1() {
+        // Arrange
+        cache.put("key", "value");
+
+        // Act
+        cache.invalidateLocal("key");
+
+        // Assert
+        assertNull(l1.getIfPresent("key"));
+        assertEquals("value", l2.get("key").get());
+        assertEquals("value", cache.get("key").get());
+    }
+
+    @Test
+    void get_WithLoader_ShouldLoadOnMissAndCache() {
+        // Act
+        String first = cache.get("key", () -> "loaded");
+        String second = cache.get("key", () -> "reloaded");
+
+        // Assert
+        assertEquals("loaded", first);
+        assertEquals("loaded", second);
+    }
+
+    @Test
+    void clear_ShouldClearBothTiersAndPublishNullKey() {
+        // Arrange
+        cache.put("a", "1");
+        published.clear();
+
+        // Act
+        cache.clear();
+
+        // Assert
+        assertNull(cache.get("a"));
+        assertEquals(List.of("interviewById:null"), published);
+    }
+
+    @Test
+    void get_WithLoader_ShouldFillBothTiersWithoutPublishing() {
+        // Act
+        String result = cache.get("key", () -> "loaded");
+
+        // Assert
+        assertEquals("loaded", result);
+        assertEquals("loaded", l1.getIfPresent("key"));
+        assertEquals("loaded", l2.get("key").get());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void putLocal_ShouldWriteBothTiersWithoutPublishing() {
+        // Act
+        cache.putLocal("key", "value");
+
+        // Assert
+        assertEquals("value", l1.getIfPresent("key"));
+        assertEquals("value", l2.get("key").get());
+        assertTrue(published.isEmpty());
+    }
+}
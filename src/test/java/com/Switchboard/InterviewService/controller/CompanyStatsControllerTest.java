@@ -0,0 +1,82 @@
+package com.Switchboard.InterviewService.controller;
+
+import com.Switchboard.InterviewService.dto.CompanyStatsDTO;
+import com.Switchboard.InterviewService.dto.CompanyWeeklyStatsDTO;
+import com.Switchboard.InterviewService.service.CompanyStatsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyStatsControllerTest {
+
+    @Mock
+    private CompanyStatsService statsService;
+
+    @InjectMocks
+    private CompanyStatsController controller;
+
+    @Test
+    void getPostsPerCompany_ShouldReturnTotals() {
+        // Arrange
+        List<CompanyStatsDTO> totals = List.of(new CompanyStatsDTO("Google", 3));
+        when(statsService.getPostsPerCompany()).thenReturn(totals);
+
+        // Act
+        ResponseEntity<List<CompanyStatsDTO>> result = controller.getPostsPerCompany();
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(totals, result.getBody());
+    }
+
+    @Test
+    void getWeeklyPostsPerCompany_WithRange_ShouldPassRangeThrough() {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 1, 6);
+        LocalDate to = LocalDate.of(2025, 3, 30);
+        List<CompanyWeeklyStatsDTO> weekly = List.of(new CompanyWeeklyStatsDTO("Google", from, 2));
+        when(statsService.getWeeklyPostsPerCompany("Google", from, to)).thenReturn(weekly);
+
+        // Act
+        ResponseEntity<List<CompanyWeeklyStatsDTO>> result = controller.getWeeklyPostsPerCompany("Google", from, to);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(weekly, result.getBody());
+    }
+
+    @Test
+    void getWeeklyPostsPerCompany_WithoutRange_ShouldDefaultToLastTwelveWeeks() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        when(statsService.getWeeklyPostsPerCompany(isNull(), any(), any())).thenReturn(List.of());
+
+        // Act
+        controller.getWeeklyPostsPerCompany(null, null, null);
+
+        // Assert
+        verify(statsService, times(1)).getWeeklyPostsPerCompany(null, today.minusWeeks(12), today);
+    }
+
+    @Test
+    void handleIllegalArgumentException_ShouldReturnBadRequest() {
+        // Act
+        ResponseEntity<String> result = controller.handleIllegalArgumentException(new IllegalArgumentException("from must not be after to"));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("from must not be after to", result.getBody());
+    }
+}
@@ -0,0 +1,51 @@
+package com.Switchboard.InterviewService.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalResponsesTest {
+
+    @Test
+    void itemETag_ShouldBeStrongAndIgnoreSubMillisecondPrecision() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 3, 10, 15, 30, 123_456_789);
+
+        // Act
+        String etag = ConditionalResponses.itemETag(id, updatedAt);
+
+        // Assert
+        assertTrue(etag.startsWith("\"" + id));
+        assertTrue(etag.endsWith("\""));
+        assertEquals(etag, ConditionalResponses.itemETag(id, updatedAt.withNano(123_000_000)));
+        assertNotEquals(etag, ConditionalResponses.itemETag(id, updatedAt.plusSeconds(1)));
+    }
+
+    @Test
+    void listETag_ShouldChangeWithVersionAndQuery() {
+        // Act
+        String etag = ConditionalResponses.listETag(1L, "offset", 0, 10, "updatedAt", "asc", null);
+
+        // Assert
+        assertEquals(etag, ConditionalResponses.listETag(1L, "offset", 0, 10, "updatedAt", "asc", null));
+        assertNotEquals(etag, ConditionalResponses.listETag(2L, "offset", 0, 10, "updatedAt", "asc", null));
+        assertNotEquals(etag, ConditionalResponses.listETag(1L, "offset", 1, 10, "updatedAt", "asc", null));
+        assertFalse(etag.startsWith("W/"));
+    }
+
+    @Test
+    void cacheControl_ShouldLetSharedCachesStoreButForceBrowserRevalidation() {
+        // Act
+        String header = ConditionalResponses.cacheControl(60).getHeaderValue();
+
+        // Assert
+        assertTrue(header.contains("max-age=0"));
+        assertTrue(header.contains("public"));
+        assertTrue(header.contains("s-maxage=60"));
+        assertTrue(header.contains("must-revalidate"));
+    }
+}
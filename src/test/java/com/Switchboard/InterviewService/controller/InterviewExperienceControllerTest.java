@@ -1,26 +1,63 @@
 package com.Switchboard.InterviewService.controller;
 
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.BulkDeleteResultDTO;
+import com.Switchboard.InterviewService.dto.BulkImportProgressDTO;
+import com.Switchboard.InterviewService.dto.BulkImportRecordResult;
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.InterviewExperienceSummary;
+import com.Switchboard.InterviewService.dto.InterviewSearchResult;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.dto.PresignedUploadDTO;
+import com.Switchboard.InterviewService.dto.SearchResponseDTO;
+import com.Switchboard.InterviewService.service.BulkImportService;
 import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.ImageResource;
 import com.Switchboard.InterviewService.service.InterviewExperienceService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,16 +72,31 @@ class InterviewExperienceControllerTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private BulkImportService bulkImportService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ThreadPoolTaskExecutor exportExecutor;
+
     @InjectMocks
     private InterviewExperienceController controller;
 
     private InterviewExperienceRequest request;
     private InterviewExperienceResponse response;
+    private InterviewExperienceSummary summary;
     private UUID testId;
+    private MockHttpServletRequest httpRequest;
+    private ServletWebRequest webRequest;
 
     @BeforeEach
     void setUp() {
         testId = UUID.randomUUID();
+        httpRequest = new MockHttpServletRequest("GET", "/api/v1/interview/");
+        webRequest = new ServletWebRequest(httpRequest, new MockHttpServletResponse());
+        ReflectionTestUtils.setField(controller, "imageMaxAge", Duration.ofDays(365));
         
         request = InterviewExperienceRequest.builder()
                 .userName("John Doe")
@@ -54,6 +106,16 @@ class InterviewExperienceControllerTest {
                 .companyTag("Google")
                 .build();
 
+        summary = InterviewExperienceSummary.builder()
+                .id(testId)
+                .userName("John Doe")
+                .title("Amazing Interview Experience at Google")
+                .excerpt("This was a great interview experience with multiple rounds...")
+                .companyTag("Google")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
         response = InterviewExperienceResponse.builder()
                 .id(testId)
                 .userName("John Doe")
@@ -70,18 +132,20 @@ class InterviewExperienceControllerTest {
     @Test
     void createInterviewExperience_WithoutImage_ShouldReturnCreatedResponse() throws IOException {
         // Arrange
+        response.setImageName(null);
         when(interviewService.createInterviewExperience(any(InterviewExperienceRequest.class), isNull()))
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com");
+        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com").join();
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(response, result.getBody());
         verify(interviewService, times(1)).createInterviewExperience(any(InterviewExperienceRequest.class), isNull());
-        verify(fileService, never()).uploadImage(anyString(), any());
+        verify(fileService, never()).uploadImageAsync(anyString(), any());
+        verify(interviewService, never()).generateImageRenditions(any());
     }
 
     @Test
@@ -96,19 +160,24 @@ class InterviewExperienceControllerTest {
         request.setImage(mockFile);
         String imageUrl = "https://s3.amazonaws.com/bucket/test-image.jpg";
 
-        when(fileService.uploadImage(anyString(), any())).thenReturn(imageUrl);
+        when(fileService.newImageUrl(AppConstants.PATH_VARIABLE, mockFile)).thenReturn(imageUrl);
+        when(fileService.uploadImageAsync(imageUrl, mockFile)).thenReturn(CompletableFuture.completedFuture(imageUrl));
         when(interviewService.createInterviewExperience(any(InterviewExperienceRequest.class), eq(imageUrl)))
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com");
+        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com").join();
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(response, result.getBody());
-        verify(fileService, times(1)).uploadImage(anyString(), any());
-        verify(interviewService, times(1)).createInterviewExperience(any(InterviewExperienceRequest.class), eq(imageUrl));
+        InOrder inOrder = inOrder(interviewService, fileService);
+        inOrder.verify(interviewService).retainImage(imageUrl);
+        inOrder.verify(fileService).uploadImageAsync(imageUrl, mockFile);
+        inOrder.verify(interviewService).createInterviewExperience(any(InterviewExperienceRequest.class), eq(imageUrl));
+        verify(interviewService, times(1)).generateImageRenditions(response);
+        verify(interviewService, never()).releaseImage(anyString());
     }
 
     @Test
@@ -121,12 +190,12 @@ class InterviewExperienceControllerTest {
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com");
+        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com").join();
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        verify(fileService, never()).uploadImage(anyString(), any());
+        verify(fileService, never()).uploadImageAsync(anyString(), any());
         verify(interviewService, times(1)).createInterviewExperience(any(InterviewExperienceRequest.class), isNull());
     }
 
@@ -142,6 +211,131 @@ class InterviewExperienceControllerTest {
         });
     }
 
+    @Test
+    void createInterviewExperience_WithImage_ShouldWriteRecordOnlyAfterUpload() throws IOException {
+        // Arrange
+        MockMultipartFile mockFile = new MockMultipartFile("image", "test-image.jpg", "image/jpeg", "test image content".getBytes());
+        request.setImage(mockFile);
+        String imageUrl = "https://s3.amazonaws.com/bucket/test-image.jpg";
+        CompletableFuture<String> upload = new CompletableFuture<>();
+        when(fileService.newImageUrl(AppConstants.PATH_VARIABLE, mockFile)).thenReturn(imageUrl);
+        when(fileService.uploadImageAsync(imageUrl, mockFile)).thenReturn(upload);
+        when(interviewService.createInterviewExperience(any(InterviewExperienceRequest.class), eq(imageUrl)))
+                .thenReturn(response);
+
+        // Act
+        CompletableFuture<ResponseEntity<InterviewExperienceResponse>> result =
+                controller.createInterviewExperience(request, "john.doe@example.com");
+        boolean doneBeforeUpload = result.isDone();
+        verify(interviewService, never()).createInterviewExperience(any(), any());
+        upload.complete(imageUrl);
+
+        // Assert
+        assertFalse(doneBeforeUpload);
+        assertEquals(response, result.join().getBody());
+        verify(interviewService, times(1)).createInterviewExperience(any(InterviewExperienceRequest.class), eq(imageUrl));
+    }
+
+    @Test
+    void createInterviewExperience_WhenUploadFails_ShouldNotCreateAndFail() throws IOException {
+        // Arrange
+        MockMultipartFile mockFile = new MockMultipartFile("image", "test-image.jpg", "image/jpeg", "test image content".getBytes());
+        request.setImage(mockFile);
+        String imageUrl = "https://s3.amazonaws.com/bucket/test-image.jpg";
+        when(fileService.newImageUrl(AppConstants.PATH_VARIABLE, mockFile)).thenReturn(imageUrl);
+        when(fileService.uploadImageAsync(imageUrl, mockFile))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("S3 upload failed")));
+
+        // Act
+        CompletableFuture<ResponseEntity<InterviewExperienceResponse>> result =
+                controller.createInterviewExperience(request, "john.doe@example.com");
+
+        // Assert
+        assertThrows(CompletionException.class, result::join);
+        verify(interviewService, times(1)).retainImage(imageUrl);
+        verify(interviewService, times(1)).releaseImage(imageUrl);
+        verify(interviewService, never()).createInterviewExperience(any(), any());
+    }
+
+    @Test
+    void createInterviewExperience_WhenDatabaseFails_ShouldDeleteUploadedImage() throws IOException {
+        // Arrange
+        MockMultipartFile mockFile = new MockMultipartFile("image", "test-image.jpg", "image/jpeg", "test image content".getBytes());
+        request.setImage(mockFile);
+        String imageUrl = "https://s3.amazonaws.com/bucket/test-image.jpg";
+        when(fileService.newImageUrl(AppConstants.PATH_VARIABLE, mockFile)).thenReturn(imageUrl);
+        when(fileService.uploadImageAsync(imageUrl, mockFile)).thenReturn(CompletableFuture.completedFuture(imageUrl));
+        when(interviewService.createInterviewExperience(any(InterviewExperienceRequest.class), eq(imageUrl)))
+                .thenThrow(new RuntimeException("Database error"));
+
+        // Act & Assert
+        assertThrows(CompletionException.class, () -> controller.createInterviewExperience(request, "john.doe@example.com").join());
+        verify(interviewService, times(1)).releaseImage(imageUrl);
+    }
+
+    @Test
+    void createInterviewExperience_WithUploadedImageUrl_ShouldLetTheServiceAttachIt() throws IOException {
+        // Arrange
+        String imageUrl = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.png";
+        request.setUploadedImageUrl(imageUrl);
+        response.setImageName(imageUrl);
+        when(interviewService.createInterviewExperience(argThat(r -> imageUrl.equals(r.getUploadedImageUrl())), isNull()))
+                .thenReturn(response);
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com").join();
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        verifyNoInteractions(fileService);
+        verify(interviewService, never()).retainImage(anyString());
+        verify(interviewService, times(1)).generateImageRenditions(response);
+    }
+
+    @Test
+    void createInterviewExperience_WhenUploadedImageMissing_ShouldNotCreate() {
+        // Arrange
+        String imageUrl = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.png";
+        request.setUploadedImageUrl(imageUrl);
+        when(interviewService.createInterviewExperience(any(InterviewExperienceRequest.class), isNull()))
+                .thenThrow(new IllegalArgumentException("Uploaded image not found"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> controller.createInterviewExperience(request, "john.doe@example.com"));
+        verify(interviewService, never()).generateImageRenditions(any());
+    }
+
+    @Test
+    void presignImageUpload_ShouldReturnUploadInstructions() {
+        // Arrange
+        PresignedUploadDTO upload = PresignedUploadDTO.builder()
+                .uploadUrl("https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.png?X-Amz-Signature=x")
+                .imageUrl("https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.png")
+                .requiredHeaders(Map.of("content-type", "image/png", "content-length", "2048"))
+                .build();
+        when(fileService.presignUpload("photo.png", "image/png", 2048L)).thenReturn(upload);
+
+        // Act
+        ResponseEntity<PresignedUploadDTO> result = controller.presignImageUpload("photo.png", "image/png", 2048L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(upload, result.getBody());
+    }
+
+    @Test
+    void handleUnsupportedOperationException_ShouldReturnNotImplemented() {
+        // Arrange
+        UnsupportedOperationException exception = new UnsupportedOperationException("Direct uploads need the S3 storage backend");
+
+        // Act
+        ResponseEntity<String> result = controller.handleUnsupportedOperationException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_IMPLEMENTED, result.getStatusCode());
+        assertEquals("Direct uploads need the S3 storage backend", result.getBody());
+    }
+
     @Test
     void handleMultipartException_ShouldReturnBadRequest() {
         // Arrange
@@ -157,63 +351,133 @@ class InterviewExperienceControllerTest {
     }
 
     @Test
-    void searchByEmail_ShouldReturnListOfExperiences() {
+    void searchByEmail_ShouldReturnPageOfExperiences() {
         // Arrange
         String email = "john.doe@example.com";
-        List<InterviewExperienceResponse> expectedList = Arrays.asList(response);
-        when(interviewService.searchByEmail(email)).thenReturn(expectedList);
+        PageResponseDTO expectedPage = PageResponseDTO.builder()
+                .content(Arrays.asList(summary))
+                .pageNumber(0)
+                .pageSize(10)
+                .lastPage(true)
+                .build();
+        when(interviewService.searchByEmail(email, 0, 10)).thenReturn(expectedPage);
 
         // Act
-        ResponseEntity<List<InterviewExperienceResponse>> result = controller.searchByEmail(email);
+        ResponseEntity<PageResponseDTO> result = controller.searchByEmail(email, 0, 10);
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertEquals(expectedList, result.getBody());
-        assertEquals(1, result.getBody().size());
-        verify(interviewService, times(1)).searchByEmail(email);
+        assertEquals(expectedPage, result.getBody());
+        assertEquals(1, result.getBody().getContent().size());
+        verify(interviewService, times(1)).searchByEmail(email, 0, 10);
     }
 
     @Test
-    void searchByEmailHeader_ShouldReturnListOfExperiences() {
+    void searchByEmailHeader_ShouldReturnPageOfExperiences() {
         // Arrange
         String email = "john.doe@example.com";
-        List<InterviewExperienceResponse> expectedList = Arrays.asList(response);
-        when(interviewService.searchByEmail(email)).thenReturn(expectedList);
+        PageResponseDTO expectedPage = PageResponseDTO.builder()
+                .content(Arrays.asList(summary))
+                .pageNumber(1)
+                .pageSize(5)
+                .build();
+        when(interviewService.searchByEmail(email, 1, 5)).thenReturn(expectedPage);
 
         // Act
-        ResponseEntity<List<InterviewExperienceResponse>> result = controller.searchByEmailHeader(email);
+        ResponseEntity<PageResponseDTO> result = controller.searchByEmailHeader(email, 1, 5);
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertEquals(expectedList, result.getBody());
-        verify(interviewService, times(1)).searchByEmail(email);
+        assertEquals(expectedPage, result.getBody());
+        verify(interviewService, times(1)).searchByEmail(email, 1, 5);
     }
 
     @Test
-    void searchByCompany_ShouldReturnListOfExperiences() {
+    void searchByCompany_ShouldReturnPageOfExperiences() {
         // Arrange
         String company = "Google";
-        List<InterviewExperienceResponse> expectedList = Arrays.asList(response);
-        when(interviewService.searchByCompany(company)).thenReturn(expectedList);
+        PageResponseDTO expectedPage = PageResponseDTO.builder()
+                .content(Arrays.asList(summary))
+                .pageNumber(0)
+                .pageSize(10)
+                .lastPage(true)
+                .build();
+        when(interviewService.searchByCompany(company, 0, 10)).thenReturn(expectedPage);
 
         // Act
-        ResponseEntity<List<InterviewExperienceResponse>> result = controller.searchByCompany(company);
+        ResponseEntity<PageResponseDTO> result = controller.searchByCompany(company, 0, 10, webRequest);
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertEquals(expectedList, result.getBody());
-        assertEquals(1, result.getBody().size());
-        verify(interviewService, times(2)).searchByCompany(company);  // Called twice in controller
+        assertEquals(expectedPage, result.getBody());
+        assertEquals(1, result.getBody().getContent().size());
+        verify(interviewService, times(1)).searchByCompany(company, 0, 10);
+    }
+
+    @Test
+    void autocompleteCompanies_ShouldReturnSuggestions() {
+        // Arrange
+        List<CompanyTagSuggestion> suggestions = List.of(new CompanyTagSuggestion("Google", 12L));
+        when(interviewService.autocompleteCompanies("goo", 10)).thenReturn(suggestions);
+
+        // Act
+        ResponseEntity<List<CompanyTagSuggestion>> result = controller.autocompleteCompanies("goo", 10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(suggestions, result.getBody());
+        verify(interviewService, times(1)).autocompleteCompanies("goo", 10);
+    }
+
+    @Test
+    void searchInterviews_ShouldReturnRankedResults() {
+        // Arrange
+        SearchResponseDTO expected = SearchResponseDTO.builder()
+                .query("system design")
+                .results(Arrays.asList(InterviewSearchResult.builder().id(testId).snippet("<mark>system</mark> design").build()))
+                .pageNumber(0)
+                .pageSize(10)
+                .lastPage(true)
+                .build();
+        when(interviewService.searchInterviews("system design", "Google", 0, 10)).thenReturn(expected);
+
+        // Act
+        ResponseEntity<SearchResponseDTO> result = controller.searchInterviews("system design", "Google", 0, 10, "postgres");
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(expected, result.getBody());
+        verify(interviewService, times(1)).searchInterviews("system design", "Google", 0, 10);
+        verify(interviewService, never()).searchInterviewsInIndex(any(), any(), any(), any());
+    }
+
+    @Test
+    void searchInterviews_WithLuceneEngine_ShouldUseIndex() {
+        // Arrange
+        SearchResponseDTO expected = SearchResponseDTO.builder()
+                .query("system design")
+                .results(Arrays.asList(InterviewSearchResult.builder().id(testId).build()))
+                .lastPage(true)
+                .build();
+        when(interviewService.searchInterviewsInIndex("system design", null, 0, 10)).thenReturn(expected);
+
+        // Act
+        ResponseEntity<SearchResponseDTO> result = controller.searchInterviews("system design", null, 0, 10, "lucene");
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(expected, result.getBody());
+        verify(interviewService, never()).searchInterviews(any(), any(), any(), any());
     }
 
     @Test
     void getAllInterviews_WithDefaultParameters_ShouldReturnPagedResponse() {
         // Arrange
         PageResponseDTO pageResponse = PageResponseDTO.builder()
-                .content(Arrays.asList(response))
+                .content(Arrays.asList(summary))
                 .pageNumber(0)
                 .pageSize(10)
                 .totalElements(1)
@@ -224,7 +488,7 @@ class InterviewExperienceControllerTest {
         when(interviewService.getAllInterviews(0, 10, "updatedAt", "asc")).thenReturn(pageResponse);
 
         // Act
-        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(0, 10, "updatedAt", "asc");
+        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(0, 10, "updatedAt", "asc", "offset", null, webRequest);
 
         // Assert
         assertNotNull(result);
@@ -238,7 +502,7 @@ class InterviewExperienceControllerTest {
     void getAllInterviews_WithCustomParameters_ShouldReturnPagedResponse() {
         // Arrange
         PageResponseDTO pageResponse = PageResponseDTO.builder()
-                .content(Arrays.asList(response))
+                .content(Arrays.asList(summary))
                 .pageNumber(1)
                 .pageSize(20)
                 .totalElements(25)
@@ -249,7 +513,7 @@ class InterviewExperienceControllerTest {
         when(interviewService.getAllInterviews(1, 20, "createdAt", "desc")).thenReturn(pageResponse);
 
         // Act
-        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(1, 20, "createdAt", "desc");
+        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(1, 20, "createdAt", "desc", "offset", null, webRequest);
 
         // Assert
         assertNotNull(result);
@@ -259,13 +523,88 @@ class InterviewExperienceControllerTest {
         verify(interviewService, times(1)).getAllInterviews(1, 20, "createdAt", "desc");
     }
 
+    @Test
+    void getAllInterviews_WithCursorMode_ShouldDelegateToCursorPagination() {
+        // Arrange
+        PageResponseDTO pageResponse = PageResponseDTO.builder()
+                .content(Arrays.asList(summary))
+                .pageSize(10)
+                .lastPage(false)
+                .nextCursor("next-token")
+                .build();
+
+        when(interviewService.getInterviewsByCursor("token", 10)).thenReturn(pageResponse);
+
+        // Act
+        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(0, 10, "updatedAt", "asc", "cursor", "token", webRequest);
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("next-token", result.getBody().getNextCursor());
+        verify(interviewService, times(1)).getInterviewsByCursor("token", 10);
+        verify(interviewService, never()).getAllInterviews(anyInt(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    void getAllInterviews_WithSliceMode_ShouldDelegateToSlice() {
+        // Arrange
+        PageResponseDTO pageResponse = PageResponseDTO.builder()
+                .content(Arrays.asList(summary))
+                .pageSize(10)
+                .lastPage(true)
+                .build();
+
+        when(interviewService.getInterviewsSlice(0, 10, "updatedAt", "asc")).thenReturn(pageResponse);
+
+        // Act
+        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(0, 10, "updatedAt", "asc", "slice", null, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(pageResponse, result.getBody());
+        verify(interviewService, never()).getAllInterviews(anyInt(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    void getAllInterviews_WithEstimateMode_ShouldDelegateToEstimatedTotals() {
+        // Arrange
+        PageResponseDTO pageResponse = PageResponseDTO.builder()
+                .content(Arrays.asList(summary))
+                .pageSize(10)
+                .totalElements(1000)
+                .totalPages(100)
+                .approximate(true)
+                .build();
+
+        when(interviewService.getInterviewsWithEstimatedTotal(0, 10, "updatedAt", "asc")).thenReturn(pageResponse);
+
+        // Act
+        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(0, 10, "updatedAt", "asc", "ESTIMATE", null, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(result.getBody().isApproximate());
+        verify(interviewService, times(1)).getInterviewsWithEstimatedTotal(0, 10, "updatedAt", "asc");
+    }
+
+    @Test
+    void handleIllegalArgumentException_ShouldReturnBadRequest() {
+        // Act
+        ResponseEntity<String> result = controller.handleIllegalArgumentException(new IllegalArgumentException("Invalid cursor"));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("Invalid cursor", result.getBody());
+    }
+
     @Test
     void getInterviewById_ShouldReturnExperience() {
         // Arrange
         when(interviewService.getInterviewById(testId)).thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.getInterviewById(testId);
+        ResponseEntity<InterviewExperienceResponse> result = controller.getInterviewById(testId, webRequest);
 
         // Assert
         assertNotNull(result);
@@ -283,7 +622,7 @@ class InterviewExperienceControllerTest {
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
-            controller.getInterviewById(testId);
+            controller.getInterviewById(testId, webRequest);
         });
         verify(interviewService, times(1)).getInterviewById(testId);
     }
@@ -295,13 +634,14 @@ class InterviewExperienceControllerTest {
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.updateInterviewExperience(testId, request);
+        ResponseEntity<InterviewExperienceResponse> result = controller.updateInterviewExperience(testId, request).join();
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(response, result.getBody());
         verify(interviewService, times(1)).updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), isNull());
+        verify(fileService, never()).uploadImageAsync(anyString(), any());
     }
 
     @Test
@@ -314,18 +654,56 @@ class InterviewExperienceControllerTest {
                 "updated image content".getBytes()
         );
         request.setImage(mockFile);
-
-        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), any()))
+        String imageUrl = "https://s3.amazonaws.com/bucket/updated-image.jpg";
+        CompletableFuture<String> upload = new CompletableFuture<>();
+        when(fileService.newImageUrl(AppConstants.PATH_VARIABLE, mockFile)).thenReturn(imageUrl);
+        when(fileService.uploadImageAsync(imageUrl, mockFile)).thenReturn(upload);
+        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), eq(imageUrl)))
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.updateInterviewExperience(testId, request);
+        CompletableFuture<ResponseEntity<InterviewExperienceResponse>> result = controller.updateInterviewExperience(testId, request);
+        verify(interviewService, times(1)).retainImage(imageUrl);
+        verify(interviewService, never()).updateInterviewExperience(any(), any(), any());
+        upload.complete(imageUrl);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertEquals(response, result.getBody());
-        verify(interviewService, times(1)).updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), any());
+        assertEquals(HttpStatus.OK, result.join().getStatusCode());
+        assertEquals(response, result.join().getBody());
+        verify(interviewService, times(1)).updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), eq(imageUrl));
+    }
+
+    @Test
+    void updateInterviewExperience_WhenUploadFails_ShouldNotUpdate() throws IOException {
+        // Arrange
+        MockMultipartFile mockFile = new MockMultipartFile("image", "updated-image.jpg", "image/jpeg", "updated image content".getBytes());
+        request.setImage(mockFile);
+        String imageUrl = "https://s3.amazonaws.com/bucket/updated-image.jpg";
+        when(fileService.newImageUrl(AppConstants.PATH_VARIABLE, mockFile)).thenReturn(imageUrl);
+        when(fileService.uploadImageAsync(imageUrl, mockFile))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("S3 upload failed")));
+
+        // Act & Assert
+        assertThrows(CompletionException.class, () -> controller.updateInterviewExperience(testId, request).join());
+        verify(interviewService, times(1)).retainImage(imageUrl);
+        verify(interviewService, times(1)).releaseImage(imageUrl);
+        verify(interviewService, never()).updateInterviewExperience(any(), any(), any());
+    }
+
+    @Test
+    void updateInterviewExperience_WhenUpdateFails_ShouldReleaseUploadedImage() throws IOException {
+        // Arrange
+        MockMultipartFile mockFile = new MockMultipartFile("image", "updated-image.jpg", "image/jpeg", "updated image content".getBytes());
+        request.setImage(mockFile);
+        String imageUrl = "https://s3.amazonaws.com/bucket/updated-image.jpg";
+        when(fileService.newImageUrl(AppConstants.PATH_VARIABLE, mockFile)).thenReturn(imageUrl);
+        when(fileService.uploadImageAsync(imageUrl, mockFile)).thenReturn(CompletableFuture.completedFuture(imageUrl));
+        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), eq(imageUrl)))
+                .thenThrow(new RuntimeException("Interview Experience not found"));
+
+        // Act & Assert
+        assertThrows(CompletionException.class, () -> controller.updateInterviewExperience(testId, request).join());
+        verify(interviewService, times(1)).releaseImage(imageUrl);
     }
 
     @Test
@@ -367,4 +745,363 @@ class InterviewExperienceControllerTest {
         });
         verify(interviewService, times(1)).deleteInterviewExperience(testId);
     }
+
+    @Test
+    void getInterviewById_ShouldSetETagAndCacheControl() {
+        // Arrange
+        when(interviewService.getInterviewById(testId)).thenReturn(response);
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.getInterviewById(testId, webRequest);
+
+        // Assert
+        assertEquals(ConditionalResponses.itemETag(testId, response.getUpdatedAt()), result.getHeaders().getETag());
+        assertTrue(result.getHeaders().getCacheControl().contains("s-maxage"));
+        verify(interviewService, never()).getInterviewUpdatedAt(any());
+    }
+
+    @Test
+    void getInterviewById_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutLoadingBody() {
+        // Arrange
+        String etag = ConditionalResponses.itemETag(testId, response.getUpdatedAt());
+        httpRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        when(interviewService.getInterviewUpdatedAt(testId)).thenReturn(response.getUpdatedAt());
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.getInterviewById(testId, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
+        assertEquals(etag, result.getHeaders().getETag());
+        verify(interviewService, never()).getInterviewById(any());
+    }
+
+    @Test
+    void getInterviewById_WithStaleIfNoneMatch_ShouldReturnBody() {
+        // Arrange
+        httpRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalResponses.itemETag(testId, response.getUpdatedAt().minusMinutes(5)));
+        when(interviewService.getInterviewUpdatedAt(testId)).thenReturn(response.getUpdatedAt());
+        when(interviewService.getInterviewById(testId)).thenReturn(response);
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.getInterviewById(testId, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(response, result.getBody());
+    }
+
+    @Test
+    void getAllInterviews_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutQuerying() {
+        // Arrange
+        when(interviewService.getListVersion()).thenReturn(7L);
+        httpRequest.addHeader(HttpHeaders.IF_NONE_MATCH,
+                ConditionalResponses.listETag(7L, "offset", 0, 10, "updatedAt", "asc", null));
+
+        // Act
+        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(0, 10, "updatedAt", "asc", "offset", null, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        verify(interviewService, never()).getAllInterviews(anyInt(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    void getAllInterviews_AfterWrite_ShouldReturnFreshPage() {
+        // Arrange
+        PageResponseDTO pageResponse = PageResponseDTO.builder().content(Arrays.asList(summary)).build();
+        when(interviewService.getListVersion()).thenReturn(8L);
+        when(interviewService.getAllInterviews(0, 10, "updatedAt", "asc")).thenReturn(pageResponse);
+        httpRequest.addHeader(HttpHeaders.IF_NONE_MATCH,
+                ConditionalResponses.listETag(7L, "offset", 0, 10, "updatedAt", "asc", null));
+
+        // Act
+        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(0, 10, "updatedAt", "asc", "offset", null, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(ConditionalResponses.listETag(8L, "offset", 0, 10, "updatedAt", "asc", null), result.getHeaders().getETag());
+    }
+
+    @Test
+    void getAllInterviews_WhenVersionUnavailable_ShouldOmitETag() {
+        // Arrange
+        PageResponseDTO pageResponse = PageResponseDTO.builder().content(Arrays.asList(summary)).build();
+        when(interviewService.getListVersion()).thenReturn(-1L);
+        when(interviewService.getAllInterviews(0, 10, "updatedAt", "asc")).thenReturn(pageResponse);
+
+        // Act
+        ResponseEntity<PageResponseDTO> result = controller.getAllInterviews(0, 10, "updatedAt", "asc", "offset", null, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertNull(result.getHeaders().getETag());
+    }
+
+    @Test
+    void searchByCompany_WithMatchingIfNoneMatch_ShouldReturnNotModified() {
+        // Arrange
+        when(interviewService.getCompanyFeedVersion("Google")).thenReturn(3L);
+        httpRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalResponses.listETag(3L, "company", "Google", 0, 10));
+
+        // Act
+        ResponseEntity<PageResponseDTO> result = controller.searchByCompany("Google", 0, 10, webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        verify(interviewService, never()).searchByCompany(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void exportInterviews_ShouldStreamNdjsonFromServiceWithTheExportTimeout() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(controller, "exportTimeoutMs", 1800000L);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(interviewService).exportInterviews(eq("Google"), eq(LocalDate.of(2025, 1, 1)), isNull(), any(OutputStream.class));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        WebAsyncTask<Void> result = controller.exportInterviews("Google", LocalDate.of(2025, 1, 1), null, false, response);
+        result.getCallable().call();
+
+        // Assert
+        assertEquals(1800000L, result.getTimeout());
+        assertSame(exportExecutor, result.getExecutor());
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(AppConstants.MEDIA_TYPE_NDJSON, response.getContentType());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("{\"id\":1}\n", response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportInterviews_WithGzip_ShouldCompressBody() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(interviewService).exportInterviews(isNull(), isNull(), isNull(), any(OutputStream.class));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        WebAsyncTask<Void> result = controller.exportInterviews(null, null, null, true, response);
+        result.getCallable().call();
+
+        // Assert
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals("{\"id\":1}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void exportInterviews_WithInvertedRange_ShouldThrowIllegalArgument() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> controller.exportInterviews(null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), false, new MockHttpServletResponse()));
+        verifyNoInteractions(interviewService);
+    }
+
+    @Test
+    void importInterviews_ShouldStreamOneProgressLinePerBatch() throws IOException {
+        // Arrange
+        InputStream body = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+        BulkImportProgressDTO batch = BulkImportProgressDTO.builder()
+                .processed(2).created(1).rejected(1)
+                .results(List.of(
+                        BulkImportRecordResult.builder().index(0).id(testId).build(),
+                        BulkImportRecordResult.builder().index(1).errors(List.of("title: must not be blank")).build()))
+                .build();
+        BulkImportProgressDTO summary = BulkImportProgressDTO.builder()
+                .processed(2).created(1).rejected(1).done(true).results(List.of()).build();
+        doAnswer(invocation -> {
+            Consumer<BulkImportProgressDTO> progress = invocation.getArgument(2);
+            progress.accept(batch);
+            progress.accept(summary);
+            return summary;
+        }).when(bulkImportService).importInterviews(eq(body), eq("jane.smith@example.com"), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.importInterviews(body, "jane.smith@example.com");
+        result.getBody().writeTo(out);
+
+        // Assert
+        assertEquals(AppConstants.MEDIA_TYPE_NDJSON, result.getHeaders().getContentType().toString());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(testId.toString(), first.get("results").get(0).get("id").asText());
+        assertEquals("title: must not be blank", first.get("results").get(1).get("errors").get(0).asText());
+        assertTrue(objectMapper.readTree(lines[1]).get("done").asBoolean());
+    }
+
+    @Test
+    void deleteInterviewExperiences_ShouldReturnResult() {
+        // Arrange
+        List<UUID> ids = List.of(testId);
+        BulkDeleteResultDTO deleted = BulkDeleteResultDTO.builder()
+                .deleted(1).notFound(List.of()).failedImages(Map.of()).build();
+        when(interviewService.deleteInterviewExperiences(ids)).thenReturn(deleted);
+
+        // Act
+        ResponseEntity<BulkDeleteResultDTO> result = controller.deleteInterviewExperiences(ids);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(1, result.getBody().getDeleted());
+        verify(interviewService, times(1)).deleteInterviewExperiences(ids);
+    }
+
+    private static ImageResource image(byte[] content, String eTag, Instant lastModified) {
+        return new ImageResource() {
+            @Override
+            public long contentLength() {
+                return content.length;
+            }
+
+            @Override
+            public String contentType() {
+                return "image/png";
+            }
+
+            @Override
+            public String eTag() {
+                return eTag;
+            }
+
+            @Override
+            public Instant lastModified() {
+                return lastModified;
+            }
+
+            @Override
+            public void transferTo(long offset, long length, OutputStream out) throws IOException {
+                out.write(content, (int) offset, (int) length);
+            }
+        };
+    }
+
+    private static byte[] write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void getImage_ShouldStreamWholeImageWithValidators() throws IOException {
+        // Arrange
+        Instant lastModified = Instant.parse("2025-03-03T12:00:00Z");
+        when(fileService.getResource(AppConstants.PATH_VARIABLE, "a.png"))
+                .thenReturn(image("0123456789".getBytes(StandardCharsets.UTF_8), "\"abc\"", lastModified));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.getImage("a.png", webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(10, result.getHeaders().getContentLength());
+        assertEquals("image/png", result.getHeaders().getContentType().toString());
+        assertEquals("\"abc\"", result.getHeaders().getETag());
+        assertEquals(lastModified.toEpochMilli(), result.getHeaders().getLastModified());
+        assertEquals("bytes", result.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertTrue(result.getHeaders().getCacheControl().contains("max-age=31536000"));
+        assertEquals("0123456789", new String(write(result.getBody()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getImage_WithRange_ShouldReturnPartialContent() throws IOException {
+        // Arrange
+        httpRequest.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        when(fileService.getResource(AppConstants.PATH_VARIABLE, "a.png"))
+                .thenReturn(image("0123456789".getBytes(StandardCharsets.UTF_8), "\"abc\"", null));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.getImage("a.png", webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.PARTIAL_CONTENT, result.getStatusCode());
+        assertEquals("bytes 2-4/10", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(3, result.getHeaders().getContentLength());
+        assertEquals("234", new String(write(result.getBody()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getImage_WithSuffixRange_ShouldReturnTheLastBytes() throws IOException {
+        // Arrange
+        httpRequest.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        when(fileService.getResource(AppConstants.PATH_VARIABLE, "a.png"))
+                .thenReturn(image("0123456789".getBytes(StandardCharsets.UTF_8), "\"abc\"", null));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.getImage("a.png", webRequest);
+
+        // Assert
+        assertEquals("bytes 7-9/10", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals("789", new String(write(result.getBody()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getImage_WithUnsatisfiableRange_ShouldReturn416() throws IOException {
+        // Arrange
+        httpRequest.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+        when(fileService.getResource(AppConstants.PATH_VARIABLE, "a.png"))
+                .thenReturn(image("0123456789".getBytes(StandardCharsets.UTF_8), "\"abc\"", null));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.getImage("a.png", webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, result.getStatusCode());
+        assertEquals("bytes */10", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertNull(result.getBody());
+    }
+
+    @Test
+    void getImage_WithStaleIfRange_ShouldReturnWholeImage() throws IOException {
+        // Arrange
+        httpRequest.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        httpRequest.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+        when(fileService.getResource(AppConstants.PATH_VARIABLE, "a.png"))
+                .thenReturn(image("0123456789".getBytes(StandardCharsets.UTF_8), "\"abc\"", null));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.getImage("a.png", webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(10, result.getHeaders().getContentLength());
+    }
+
+    @Test
+    void getImage_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutStreaming() throws IOException {
+        // Arrange
+        httpRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc\"");
+        ImageResource resource = mock(ImageResource.class);
+        when(resource.eTag()).thenReturn("\"abc\"");
+        when(fileService.getResource(AppConstants.PATH_VARIABLE, "a.png")).thenReturn(resource);
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.getImage("a.png", webRequest);
+
+        // Assert
+        assertNull(result);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), ((MockHttpServletResponse) webRequest.getResponse()).getStatus());
+        verify(resource, never()).transferTo(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void getImage_WhenMissing_ShouldReturn404() throws IOException {
+        // Arrange
+        when(fileService.getResource(AppConstants.PATH_VARIABLE, "missing.png"))
+                .thenThrow(new FileNotFoundException("No image stored at interview-experience/missing.png"));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = controller.getImage("missing.png", webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+    }
 }
@@ -82,7 +82,8 @@ class InterviewExperienceRequestTest {
                 "My Title",
                 "My Content",
                 "Google",
-                image
+                image,
+                null
         );
 
         // Assert
@@ -93,6 +94,7 @@ class InterviewExperienceRequestTest {
         assertEquals("My Content", request.getContent());
         assertEquals("Google", request.getCompanyTag());
         assertEquals(image, request.getImage());
+        assertNull(request.getUploadedImageUrl());
     }
 
     @Test
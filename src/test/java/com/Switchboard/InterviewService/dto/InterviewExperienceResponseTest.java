@@ -3,6 +3,7 @@ package com.Switchboard.InterviewService.dto;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +23,7 @@ class InterviewExperienceResponseTest {
                 .userEmail("john.doe@example.com")
                 .title("My Interview Experience")
                 .imageName("https://s3.amazonaws.com/bucket/image.jpg")
+                .imageRenditions(Map.of("thumbnail", "https://s3.amazonaws.com/bucket/image.jpg_thumbnail.jpg"))
                 .content("This is the content of my interview.")
                 .companyTag("Google")
                 .createdAt(now)
@@ -39,6 +41,7 @@ class InterviewExperienceResponseTest {
         assertEquals("Google", response.getCompanyTag());
         assertEquals(now, response.getCreatedAt());
         assertEquals(now, response.getUpdatedAt());
+        assertEquals("https://s3.amazonaws.com/bucket/image.jpg_thumbnail.jpg", response.getImageRenditions().get("thumbnail"));
     }
 
     @Test
@@ -106,7 +109,8 @@ class InterviewExperienceResponseTest {
                 "My Content",
                 "Google",
                 now,
-                now
+                now,
+                Map.of("thumbnail", "https://s3.amazonaws.com/bucket/image.jpg_thumbnail.jpg")
         );
 
         // Assert
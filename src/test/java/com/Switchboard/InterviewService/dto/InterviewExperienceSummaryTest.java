@@ -0,0 +1,50 @@
+package com.Switchboard.InterviewService.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterviewExperienceSummaryTest {
+
+    @Test
+    void constructor_ShouldFollowProjectionArgumentOrder() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        LocalDateTime updated = LocalDateTime.now();
+
+        // Act
+        InterviewExperienceSummary summary = new InterviewExperienceSummary(
+                id, "John Doe", "Interview at Google", "https://s3.amazonaws.com/bucket/image.jpg",
+                "Short excerpt", "Google", created, updated,
+                Map.of("thumbnail", "https://s3.amazonaws.com/bucket/image.jpg_thumbnail.jpg"));
+
+        // Assert
+        assertEquals(id, summary.getId());
+        assertEquals("John Doe", summary.getUserName());
+        assertEquals("Interview at Google", summary.getTitle());
+        assertEquals("https://s3.amazonaws.com/bucket/image.jpg", summary.getImageName());
+        assertEquals("Short excerpt", summary.getExcerpt());
+        assertEquals("Google", summary.getCompanyTag());
+        assertEquals(created, summary.getCreatedAt());
+        assertEquals(updated, summary.getUpdatedAt());
+        assertEquals("https://s3.amazonaws.com/bucket/image.jpg_thumbnail.jpg", summary.getImageRenditions().get("thumbnail"));
+    }
+
+    @Test
+    void builder_ShouldAllowNullImage() {
+        // Act
+        InterviewExperienceSummary summary = InterviewExperienceSummary.builder()
+                .title("No image")
+                .build();
+
+        // Assert
+        assertEquals("No image", summary.getTitle());
+        assertNull(summary.getImageName());
+        assertNull(summary.getImageRenditions());
+    }
+}
@@ -0,0 +1,55 @@
+package com.Switchboard.InterviewService.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    void encodeAndDecode_ShouldRoundTrip() {
+        // Arrange
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123456000), UUID.randomUUID());
+
+        // Act
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+        assertEquals(cursor.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(cursor.getId(), decoded.getId());
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafe() {
+        // Arrange
+        PageCursor cursor = new PageCursor(LocalDateTime.now(), UUID.randomUUID());
+
+        // Act
+        String token = cursor.encode();
+
+        // Assert
+        assertFalse(token.contains("+"));
+        assertFalse(token.contains("/"));
+        assertFalse(token.contains("="));
+    }
+
+    @Test
+    void decode_WithNullOrBlank_ShouldReturnNull() {
+        // Assert
+        assertNull(PageCursor.decode(null));
+        assertNull(PageCursor.decode(""));
+        assertNull(PageCursor.decode("  "));
+    }
+
+    @Test
+    void decode_WithMalformedToken_ShouldThrowIllegalArgument() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PageCursor.decode("not-a-cursor"));
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+}
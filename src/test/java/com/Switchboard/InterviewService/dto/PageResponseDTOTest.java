@@ -15,9 +15,9 @@ class PageResponseDTOTest {
     @Test
     void builder_ShouldCreatePageResponse() {
         // Arrange
-        List<InterviewExperienceResponse> content = Arrays.asList(
-                createMockResponse("User 1", "user1@example.com"),
-                createMockResponse("User 2", "user2@example.com")
+        List<InterviewExperienceSummary> content = Arrays.asList(
+                createMockSummary("User 1"),
+                createMockSummary("User 2")
         );
 
         // Act
@@ -44,8 +44,8 @@ class PageResponseDTOTest {
     void settersAndGetters_ShouldWorkCorrectly() {
         // Arrange
         PageResponseDTO pageResponse = new PageResponseDTO();
-        List<InterviewExperienceResponse> content = Arrays.asList(
-                createMockResponse("User 1", "user1@example.com")
+        List<InterviewExperienceSummary> content = Arrays.asList(
+                createMockSummary("User 1")
         );
 
         // Act
@@ -83,12 +83,12 @@ class PageResponseDTOTest {
     @Test
     void allArgsConstructor_ShouldCreateFullPageResponse() {
         // Arrange
-        List<InterviewExperienceResponse> content = Arrays.asList(
-                createMockResponse("User 1", "user1@example.com")
+        List<InterviewExperienceSummary> content = Arrays.asList(
+                createMockSummary("User 1")
         );
 
         // Act
-        PageResponseDTO pageResponse = new PageResponseDTO(content, 1, 15, 45, 3, false);
+        PageResponseDTO pageResponse = new PageResponseDTO(content, 1, 15, 45, 3, false, "cursor-token", true);
 
         // Assert
         assertNotNull(pageResponse);
@@ -98,6 +98,8 @@ class PageResponseDTOTest {
         assertEquals(45, pageResponse.getTotalElements());
         assertEquals(3, pageResponse.getTotalPages());
         assertFalse(pageResponse.isLastPage());
+        assertEquals("cursor-token", pageResponse.getNextCursor());
+        assertTrue(pageResponse.isApproximate());
     }
 
     @Test
@@ -122,9 +124,9 @@ class PageResponseDTOTest {
     @Test
     void pageResponse_FirstPage() {
         // Arrange
-        List<InterviewExperienceResponse> content = Arrays.asList(
-                createMockResponse("User 1", "user1@example.com"),
-                createMockResponse("User 2", "user2@example.com")
+        List<InterviewExperienceSummary> content = Arrays.asList(
+                createMockSummary("User 1"),
+                createMockSummary("User 2")
         );
 
         // Act
@@ -146,8 +148,8 @@ class PageResponseDTOTest {
     @Test
     void pageResponse_LastPage() {
         // Arrange
-        List<InterviewExperienceResponse> content = Arrays.asList(
-                createMockResponse("User 1", "user1@example.com")
+        List<InterviewExperienceSummary> content = Arrays.asList(
+                createMockSummary("User 1")
         );
 
         // Act
@@ -169,9 +171,9 @@ class PageResponseDTOTest {
     @Test
     void pageResponse_MiddlePage() {
         // Arrange
-        List<InterviewExperienceResponse> content = Arrays.asList(
-                createMockResponse("User 1", "user1@example.com"),
-                createMockResponse("User 2", "user2@example.com")
+        List<InterviewExperienceSummary> content = Arrays.asList(
+                createMockSummary("User 1"),
+                createMockSummary("User 2")
         );
 
         // Act
@@ -193,8 +195,8 @@ class PageResponseDTOTest {
     @Test
     void pageResponse_WithLargeDataset() {
         // Arrange
-        List<InterviewExperienceResponse> content = Arrays.asList(
-                createMockResponse("User 1", "user1@example.com")
+        List<InterviewExperienceSummary> content = Arrays.asList(
+                createMockSummary("User 1")
         );
 
         // Act
@@ -217,8 +219,8 @@ class PageResponseDTOTest {
     @Test
     void pageResponse_SingleElementPage() {
         // Arrange
-        List<InterviewExperienceResponse> content = Arrays.asList(
-                createMockResponse("Only User", "only@example.com")
+        List<InterviewExperienceSummary> content = Arrays.asList(
+                createMockSummary("Only User")
         );
 
         // Act
@@ -238,13 +240,12 @@ class PageResponseDTOTest {
         assertTrue(pageResponse.isLastPage());
     }
 
-    private InterviewExperienceResponse createMockResponse(String userName, String userEmail) {
-        return InterviewExperienceResponse.builder()
+    private InterviewExperienceSummary createMockSummary(String userName) {
+        return InterviewExperienceSummary.builder()
                 .id(UUID.randomUUID())
                 .userName(userName)
-                .userEmail(userEmail)
                 .title("Interview Experience")
-                .content("Content of the interview experience.")
+                .excerpt("Content of the interview experience.")
                 .companyTag("TechCorp")
                 .imageName("https://s3.amazonaws.com/bucket/image.jpg")
                 .createdAt(LocalDateTime.now())
@@ -0,0 +1,124 @@
+package com.Switchboard.InterviewService.mapper;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.InterviewSearchHit;
+import com.Switchboard.InterviewService.dto.InterviewSearchResult;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InterviewExperienceMapperTest {
+
+    private final InterviewExperienceMapper mapper = Mappers.getMapper(InterviewExperienceMapper.class);
+
+    @Test
+    void toEntity_ShouldCopyRequestFieldsAndLeaveManagedFieldsUnset() {
+        // Arrange
+        InterviewExperienceRequest request = InterviewExperienceRequest.builder()
+                .userName("Jane Smith")
+                .userEmail("jane.smith@example.com")
+                .title("Software Engineer Interview at Amazon")
+                .content("Detailed interview experience content here...")
+                .companyTag("Amazon")
+                .image(new MockMultipartFile("image", "a.jpg", "image/jpeg", "x".getBytes()))
+                .build();
+
+        // Act
+        InterviewExperience entity = mapper.toEntity(request);
+
+        // Assert
+        assertEquals("Jane Smith", entity.getUserName());
+        assertEquals("jane.smith@example.com", entity.getUserEmail());
+        assertEquals("Software Engineer Interview at Amazon", entity.getTitle());
+        assertEquals("Detailed interview experience content here...", entity.getContent());
+        assertEquals("Amazon", entity.getCompanyTag());
+        assertNull(entity.getId());
+        assertNull(entity.getImageName());
+        assertNull(entity.getImageRenditions());
+        assertNull(entity.getCreatedAt());
+        assertNull(entity.getUpdatedAt());
+    }
+
+    @Test
+    void toResponse_ShouldCopyAllFields() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        InterviewExperience entity = InterviewExperience.builder()
+                .id(id)
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .title("Interview at Google")
+                .content("Great experience at Google with multiple technical rounds.")
+                .companyTag("Google")
+                .imageName("https://s3.amazonaws.com/bucket/google.jpg")
+                .imageRenditions(Map.of("thumbnail", "https://s3.amazonaws.com/bucket/google.jpg_thumbnail.jpg"))
+                .createdAt(now.minusDays(1))
+                .updatedAt(now)
+                .build();
+
+        // Act
+        InterviewExperienceResponse response = mapper.toResponse(entity);
+
+        // Assert
+        assertEquals(id, response.getId());
+        assertEquals("John Doe", response.getUserName());
+        assertEquals("john.doe@example.com", response.getUserEmail());
+        assertEquals("Interview at Google", response.getTitle());
+        assertEquals("Great experience at Google with multiple technical rounds.", response.getContent());
+        assertEquals("Google", response.getCompanyTag());
+        assertEquals("https://s3.amazonaws.com/bucket/google.jpg", response.getImageName());
+        assertEquals(now.minusDays(1), response.getCreatedAt());
+        assertEquals(now, response.getUpdatedAt());
+        assertEquals(entity.getImageRenditions(), response.getImageRenditions());
+    }
+
+    @Test
+    void toSearchResult_ShouldCopyAllFields() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        InterviewSearchHit hit = mock(InterviewSearchHit.class);
+        when(hit.getId()).thenReturn(id);
+        when(hit.getUserName()).thenReturn("John Doe");
+        when(hit.getTitle()).thenReturn("Interview at Google");
+        when(hit.getImageName()).thenReturn("https://s3.amazonaws.com/bucket/google.jpg");
+        when(hit.getCompanyTag()).thenReturn("Google");
+        when(hit.getSnippet()).thenReturn("<mark>system</mark> <mark>design</mark> round");
+        when(hit.getRank()).thenReturn(0.6);
+        when(hit.getCreatedAt()).thenReturn(now.minusDays(1));
+        when(hit.getUpdatedAt()).thenReturn(now);
+
+        // Act
+        InterviewSearchResult result = mapper.toSearchResult(hit);
+
+        // Assert
+        assertEquals(id, result.getId());
+        assertEquals("John Doe", result.getUserName());
+        assertEquals("Interview at Google", result.getTitle());
+        assertEquals("https://s3.amazonaws.com/bucket/google.jpg", result.getImageName());
+        assertEquals("Google", result.getCompanyTag());
+        assertEquals("<mark>system</mark> <mark>design</mark> round", result.getSnippet());
+        assertEquals(0.6, result.getRank());
+        assertEquals(now.minusDays(1), result.getCreatedAt());
+        assertEquals(now, result.getUpdatedAt());
+    }
+
+    @Test
+    void nullInput_ShouldMapToNull() {
+        // Assert
+        assertNull(mapper.toEntity(null));
+        assertNull(mapper.toResponse(null));
+        assertNull(mapper.toSearchResult(null));
+    }
+}
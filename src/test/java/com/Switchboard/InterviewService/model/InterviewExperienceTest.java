@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -116,6 +117,7 @@ class InterviewExperienceTest {
                 "My Content",
                 "Google",
                 "https://s3.amazonaws.com/bucket/image.jpg",
+                Map.of("thumbnail", "https://s3.amazonaws.com/bucket/image.jpg_thumbnail.jpg"),
                 now,
                 now
         );
@@ -129,6 +131,7 @@ class InterviewExperienceTest {
         assertEquals("My Content", result.getContent());
         assertEquals("Google", result.getCompanyTag());
         assertEquals("https://s3.amazonaws.com/bucket/image.jpg", result.getImageName());
+        assertEquals("https://s3.amazonaws.com/bucket/image.jpg_thumbnail.jpg", result.getImageRenditions().get("thumbnail"));
         assertEquals(now, result.getCreatedAt());
         assertEquals(now, result.getUpdatedAt());
     }
@@ -0,0 +1,82 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.CompanyDailyCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CompanyDailyCountRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CompanyDailyCountRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(new CompanyDailyCount("Google", MONDAY, 2));
+        entityManager.persist(new CompanyDailyCount("Google", MONDAY.plusDays(8), 1));
+        entityManager.persist(new CompanyDailyCount("Amazon", MONDAY.plusDays(1), 4));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void addToCount_ExistingBucket_ShouldIncrementInPlace() {
+        // Act
+        int updated = repository.addToCount("Google", MONDAY, -1);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, updated);
+        assertEquals(1, repository.findById(new CompanyDailyCount.Key("Google", MONDAY)).orElseThrow().getPostCount());
+    }
+
+    @Test
+    void addToCount_MissingBucket_ShouldUpdateNothing() {
+        // Act & Assert
+        assertEquals(0, repository.addToCount("Google", MONDAY.plusDays(2), 1));
+    }
+
+    @Test
+    void findByBucketDateBetween_ShouldReturnBucketsInRange() {
+        // Act
+        List<CompanyDailyCount> result = repository.findByBucketDateBetween(MONDAY, MONDAY.plusDays(6));
+
+        // Assert
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    void findByCompanyTagAndBucketDateBetween_ShouldFilterByCompany() {
+        // Act
+        List<CompanyDailyCount> result = repository.findByCompanyTagAndBucketDateBetween("Google", MONDAY, MONDAY.plusDays(13));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(c -> c.getCompanyTag().equals("Google")));
+    }
+
+    @Test
+    void deleteByCompanyTags_ShouldRemoveAllBucketsOfCompany() {
+        // Act
+        int deleted = repository.deleteByCompanyTags(List.of("Google"));
+
+        // Assert
+        assertEquals(2, deleted);
+        assertEquals(1, repository.count());
+    }
+}
@@ -0,0 +1,69 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.CompanyPostCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CompanyPostCountRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CompanyPostCountRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(new CompanyPostCount("Google", 3));
+        entityManager.persist(new CompanyPostCount("Amazon", 5));
+        entityManager.persist(new CompanyPostCount("Meta", 0));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void addToCount_ExistingCompany_ShouldIncrementInPlace() {
+        // Act
+        int updated = repository.addToCount("Google", 2);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, updated);
+        assertEquals(5, repository.findById("Google").orElseThrow().getPostCount());
+    }
+
+    @Test
+    void addToCount_UnknownCompany_ShouldUpdateNothing() {
+        // Act & Assert
+        assertEquals(0, repository.addToCount("Netflix", 1));
+    }
+
+    @Test
+    void findAllWithPosts_ShouldSkipEmptyCompaniesAndOrderByCount() {
+        // Act
+        List<CompanyPostCount> result = repository.findAllWithPosts();
+
+        // Assert
+        assertEquals(List.of("Amazon", "Google"), result.stream().map(CompanyPostCount::getCompanyTag).toList());
+    }
+
+    @Test
+    void deleteByCompanyTags_ShouldRemoveOnlyGivenCompanies() {
+        // Act
+        int deleted = repository.deleteByCompanyTags(List.of("Google", "Meta"));
+
+        // Assert
+        assertEquals(2, deleted);
+        assertEquals(List.of("Amazon"), repository.findAllCompanyTags());
+    }
+}
@@ -0,0 +1,96 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.ImageDeletionOutbox;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ImageDeletionOutboxRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 3, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ImageDeletionOutboxRepository repository;
+
+    private ImageDeletionOutbox persist(String imageUrl, LocalDateTime nextAttemptAt) {
+        return entityManager.persist(ImageDeletionOutbox.builder()
+                .imageUrl(imageUrl)
+                .renditions(Map.of("thumbnail", imageUrl + "_thumbnail"))
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+
+    @Test
+    void findDueForUpdate_ShouldReturnOnlyDueEntriesOldestFirst() {
+        // Arrange
+        persist("https://bucket/later.jpg", NOW.plusMinutes(1));
+        persist("https://bucket/second.jpg", NOW.minusMinutes(1));
+        persist("https://bucket/first.jpg", NOW.minusMinutes(5));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<ImageDeletionOutbox> due = repository.findDueForUpdate(NOW, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of("https://bucket/first.jpg", "https://bucket/second.jpg"),
+                due.stream().map(ImageDeletionOutbox::getImageUrl).toList());
+        assertEquals("https://bucket/first.jpg_thumbnail", due.get(0).getRenditions().get("thumbnail"));
+    }
+
+    @Test
+    void findDueForUpdate_ShouldLimitToBatchSize() {
+        // Arrange
+        persist("https://bucket/a.jpg", NOW.minusMinutes(3));
+        persist("https://bucket/b.jpg", NOW.minusMinutes(2));
+        persist("https://bucket/c.jpg", NOW.minusMinutes(1));
+        entityManager.flush();
+
+        // Act & Assert
+        assertEquals(2, repository.findDueForUpdate(NOW, PageRequest.of(0, 2)).size());
+    }
+
+    @Test
+    void save_WithoutNextAttempt_ShouldBeDueImmediately() {
+        // Act
+        ImageDeletionOutbox saved = repository.saveAndFlush(ImageDeletionOutbox.builder().imageUrl("https://bucket/a.jpg").build());
+
+        // Assert
+        assertNotNull(saved.getCreatedAt());
+        assertEquals(saved.getCreatedAt(), saved.getNextAttemptAt());
+        assertEquals(0, saved.getAttempts());
+    }
+
+    @Test
+    void reschedule_ShouldMoveNextAttemptAndRecordError() {
+        // Arrange
+        ImageDeletionOutbox entry = persist("https://bucket/a.jpg", NOW.minusMinutes(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        int updated = repository.reschedule(entry.getId(), NOW.plusMinutes(10), "SlowDown");
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, updated);
+        ImageDeletionOutbox reloaded = repository.findById(entry.getId()).orElseThrow();
+        assertEquals(NOW.plusMinutes(10), reloaded.getNextAttemptAt());
+        assertEquals("SlowDown", reloaded.getLastError());
+        assertTrue(repository.findDueForUpdate(NOW, PageRequest.of(0, 10)).isEmpty());
+    }
+}
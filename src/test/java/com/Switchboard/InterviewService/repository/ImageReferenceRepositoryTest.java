@@ -0,0 +1,71 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.ImageReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ImageReferenceRepositoryTest {
+
+    private static final String SHARED = "https://bucket/shared.jpg";
+    private static final String UNUSED = "https://bucket/unused.jpg";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ImageReferenceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(new ImageReference(SHARED, 2));
+        entityManager.persist(new ImageReference(UNUSED, 0));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void decrement_ShouldNeverGoBelowZero() {
+        // Act
+        int shared = repository.decrement(SHARED);
+        int unused = repository.decrement(UNUSED);
+        int missing = repository.decrement("https://bucket/legacy.jpg");
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, shared);
+        assertEquals(0, unused);
+        assertEquals(0, missing);
+        assertEquals(1, repository.findById(SHARED).orElseThrow().getReferenceCount());
+        assertEquals(0, repository.findById(UNUSED).orElseThrow().getReferenceCount());
+    }
+
+    @Test
+    void findAllForUpdate_ShouldReturnExistingRowsOnly() {
+        // Act
+        List<ImageReference> result = repository.findAllForUpdate(List.of(SHARED, "https://bucket/legacy.jpg"));
+
+        // Assert
+        assertEquals(List.of(SHARED), result.stream().map(ImageReference::getImageUrl).toList());
+    }
+
+    @Test
+    void deleteUnreferenced_ShouldKeepRowsThatAreStillCounted() {
+        // Act
+        int deleted = repository.deleteUnreferenced(List.of(SHARED, UNUSED));
+
+        // Assert
+        assertEquals(1, deleted);
+        assertTrue(repository.existsById(SHARED));
+        assertFalse(repository.existsById(UNUSED));
+    }
+}
@@ -1,16 +1,28 @@
 package com.Switchboard.InterviewService.repository;
 
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.CompanyDayCount;
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.InterviewExperienceSummary;
 import com.Switchboard.InterviewService.model.InterviewExperience;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,7 +80,7 @@ class InterviewExperienceRepositoryTest {
     }
 
     @Test
-    void findByUserEmailOrderByCreatedAtDesc_ShouldReturnExperiencesForEmail() {
+    void findSummariesByUserEmail_ShouldReturnExperiencesForEmail() {
         // Arrange
         entityManager.persist(experience1);
         entityManager.persist(experience2);
@@ -76,26 +88,26 @@ class InterviewExperienceRepositoryTest {
         entityManager.flush();
 
         // Act
-        List<InterviewExperience> results = repository.findByUserEmailOrderByCreatedAtDesc("john.doe@example.com");
+        List<InterviewExperienceSummary> results = repository.findSummariesByUserEmail("john.doe@example.com", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertNotNull(results);
         assertEquals(2, results.size());
-        assertEquals("john.doe@example.com", results.get(0).getUserEmail());
-        assertEquals("john.doe@example.com", results.get(1).getUserEmail());
+        assertEquals("John Doe", results.get(0).getUserName());
+        assertEquals("John Doe", results.get(1).getUserName());
         // Should be ordered by createdAt DESC (newest first)
         assertTrue(results.get(0).getCreatedAt().isAfter(results.get(1).getCreatedAt()) ||
                    results.get(0).getCreatedAt().isEqual(results.get(1).getCreatedAt()));
     }
 
     @Test
-    void findByUserEmailOrderByCreatedAtDesc_WithNoMatches_ShouldReturnEmptyList() {
+    void findSummariesByUserEmail_WithNoMatches_ShouldReturnEmptyList() {
         // Arrange
         entityManager.persist(experience1);
         entityManager.flush();
 
         // Act
-        List<InterviewExperience> results = repository.findByUserEmailOrderByCreatedAtDesc("nonexistent@example.com");
+        List<InterviewExperienceSummary> results = repository.findSummariesByUserEmail("nonexistent@example.com", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertNotNull(results);
@@ -103,7 +115,7 @@ class InterviewExperienceRepositoryTest {
     }
 
     @Test
-    void findByCompanyTagOrderByCreatedAtDesc_ShouldReturnExperiencesForCompany() {
+    void findSummariesByCompanyTag_ShouldReturnExperiencesForCompany() {
         // Arrange
         entityManager.persist(experience1);
         entityManager.persist(experience2);
@@ -111,7 +123,7 @@ class InterviewExperienceRepositoryTest {
         entityManager.flush();
 
         // Act
-        List<InterviewExperience> results = repository.findByCompanyTagOrderByCreatedAtDesc("Google");
+        List<InterviewExperienceSummary> results = repository.findSummariesByCompanyTag("Google", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertNotNull(results);
@@ -121,13 +133,13 @@ class InterviewExperienceRepositoryTest {
     }
 
     @Test
-    void findByCompanyTagOrderByCreatedAtDesc_WithNoMatches_ShouldReturnEmptyList() {
+    void findSummariesByCompanyTag_WithNoMatches_ShouldReturnEmptyList() {
         // Arrange
         entityManager.persist(experience1);
         entityManager.flush();
 
         // Act
-        List<InterviewExperience> results = repository.findByCompanyTagOrderByCreatedAtDesc("Apple");
+        List<InterviewExperienceSummary> results = repository.findSummariesByCompanyTag("Apple", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertNotNull(results);
@@ -135,7 +147,7 @@ class InterviewExperienceRepositoryTest {
     }
 
     @Test
-    void findByCompanyTagOrderByCreatedAtDesc_WithMultipleResults_ShouldOrderByCreatedAtDesc() {
+    void findSummariesByCompanyTag_WithMultipleResults_ShouldOrderByCreatedAtDesc() {
         // Arrange
         InterviewExperience google1 = InterviewExperience.builder()
                 .userName("User 1")
@@ -162,7 +174,7 @@ class InterviewExperienceRepositoryTest {
         entityManager.flush();
 
         // Act
-        List<InterviewExperience> results = repository.findByCompanyTagOrderByCreatedAtDesc("Google");
+        List<InterviewExperienceSummary> results = repository.findSummariesByCompanyTag("Google", PageRequest.of(0, 10)).getContent();
 
         // Assert
         assertEquals(2, results.size());
@@ -170,6 +182,119 @@ class InterviewExperienceRepositoryTest {
         assertEquals("Google Interview 2", results.get(0).getTitle());
     }
 
+    @Test
+    void findSummariesByUserEmail_ShouldReturnBoundedSlice() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+
+        // Act
+        Slice<InterviewExperienceSummary> first = repository.findSummariesByUserEmail("john.doe@example.com", PageRequest.of(0, 1));
+        Slice<InterviewExperienceSummary> second = repository.findSummariesByUserEmail("john.doe@example.com", PageRequest.of(1, 1));
+
+        // Assert
+        assertEquals(1, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.getNumberOfElements());
+        assertFalse(second.hasNext());
+        assertNotEquals(first.getContent().get(0).getId(), second.getContent().get(0).getId());
+    }
+
+    @Test
+    void findSummaryPageAfter_ShouldContinueFromCursorWithoutRepeatingRows() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+
+        // Act
+        List<InterviewExperienceSummary> firstPage = repository.findFirstSummaryPage(PageRequest.of(0, 2));
+        InterviewExperienceSummary tail = firstPage.get(1);
+        List<InterviewExperienceSummary> secondPage = repository.findSummaryPageAfter(tail.getCreatedAt(), tail.getId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertTrue(firstPage.stream().noneMatch(e -> e.getId().equals(secondPage.get(0).getId())));
+        assertFalse(secondPage.get(0).getCreatedAt().isAfter(tail.getCreatedAt()));
+    }
+
+    @Test
+    void findSummaryPageAfter_WithEqualCreatedAt_ShouldPageByIdDescending() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE interview_experience SET created_at = TIMESTAMP '2025-03-03 10:00:00'")
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act
+        List<InterviewExperienceSummary> firstPage = repository.findFirstSummaryPage(PageRequest.of(0, 2));
+        InterviewExperienceSummary tail = firstPage.get(1);
+        List<InterviewExperienceSummary> secondPage = repository.findSummaryPageAfter(tail.getCreatedAt(), tail.getId(), PageRequest.of(0, 2));
+
+        // Assert
+        List<UUID> expected = repository.findFirstSummaryPage(PageRequest.of(0, 3)).stream()
+                .map(InterviewExperienceSummary::getId)
+                .toList();
+        assertEquals(expected.subList(0, 2), firstPage.stream().map(InterviewExperienceSummary::getId).toList());
+        assertEquals(expected.subList(2, 3), secondPage.stream().map(InterviewExperienceSummary::getId).toList());
+    }
+
+    @Test
+    void findSummarySlice_ShouldReturnSliceWithoutTotals() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+
+        // Act
+        Slice<InterviewExperienceSummary> first = repository.findSummarySlice(PageRequest.of(0, 2));
+        Slice<InterviewExperienceSummary> second = repository.findSummarySlice(PageRequest.of(1, 2));
+
+        // Assert
+        assertEquals(2, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.getNumberOfElements());
+        assertTrue(second.isLast());
+    }
+
+    @Test
+    void findSummaryPage_ShouldTruncateContentToExcerpt() {
+        // Arrange
+        InterviewExperience longPost = InterviewExperience.builder()
+                .userName("Long Writer")
+                .userEmail("long@example.com")
+                .title("Very long interview write-up")
+                .content("x".repeat(AppConstants.EXCERPT_LENGTH * 5))
+                .companyTag("Netflix")
+                .build();
+        entityManager.persist(longPost);
+        entityManager.persist(experience1);
+        entityManager.flush();
+
+        // Act
+        Page<InterviewExperienceSummary> page = repository.findSummaryPage(PageRequest.of(0, 10, Sort.by("createdAt").ascending()));
+
+        // Assert
+        assertEquals(2, page.getTotalElements());
+        InterviewExperienceSummary longSummary = page.getContent().stream()
+                .filter(e -> e.getTitle().equals("Very long interview write-up"))
+                .findFirst().orElseThrow();
+        InterviewExperienceSummary shortSummary = page.getContent().stream()
+                .filter(e -> e.getTitle().equals("Interview at Google"))
+                .findFirst().orElseThrow();
+        assertEquals(AppConstants.EXCERPT_LENGTH, longSummary.getExcerpt().length());
+        assertEquals(experience1.getContent(), shortSummary.getExcerpt());
+    }
+
     @Test
     void save_ShouldPersistInterviewExperience() {
         // Arrange
@@ -224,4 +349,146 @@ class InterviewExperienceRepositoryTest {
         var result = repository.findById(id);
         assertFalse(result.isPresent());
     }
+
+    @Test
+    void findBatchAfter_ShouldWalkTableInIdOrder() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+
+        // Act
+        List<InterviewExperience> first = repository.findFirstBatch(PageRequest.of(0, 2));
+        List<InterviewExperience> second = repository.findBatchAfter(first.get(1).getId(), PageRequest.of(0, 2));
+
+        // Assert: the batches continue the database's own id order, which UUID.compareTo does not match
+        List<UUID> databaseOrder = repository.findFirstBatch(PageRequest.of(0, 3)).stream().map(InterviewExperience::getId).toList();
+        assertEquals(databaseOrder.subList(0, 2), first.stream().map(InterviewExperience::getId).toList());
+        assertEquals(databaseOrder.subList(2, 3), second.stream().map(InterviewExperience::getId).toList());
+        assertTrue(repository.findBatchAfter(second.get(0).getId(), PageRequest.of(0, 2)).isEmpty());
+    }
+
+    @Test
+    void countPostsPerCompanyTag_ShouldGroupByRawTag() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+
+        // Act
+        List<CompanyTagSuggestion> counts = repository.countPostsPerCompanyTag();
+
+        // Assert
+        long total = counts.stream().mapToLong(CompanyTagSuggestion::getPostCount).sum();
+        assertEquals(3L, total);
+        assertTrue(counts.stream().anyMatch(c -> c.getCompanyTag().equals("Google")));
+    }
+
+    @Test
+    void findDistinctCompanyTags_ShouldReturnEachTagOnce() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+
+        // Act
+        List<String> tags = repository.findDistinctCompanyTags();
+
+        // Assert
+        assertEquals(3, tags.size());
+        assertTrue(tags.containsAll(List.of("Google", "Amazon", "Microsoft")));
+    }
+
+    @Test
+    void countPostsPerCompanyAndDay_ShouldGroupByCompanyAndCreationDay() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+
+        // Act
+        List<CompanyDayCount> counts = repository.countPostsPerCompanyAndDay(List.of("Google", "Amazon"));
+
+        // Assert
+        assertEquals(2, counts.size());
+        assertTrue(counts.stream().allMatch(c -> c.getPostCount() == 1L));
+        assertTrue(counts.stream().noneMatch(c -> c.getCompanyTag().equals("Microsoft")));
+    }
+
+    @Test
+    void findUpdatedAtById_ShouldReturnVersionOnly() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+
+        // Act & Assert
+        assertEquals(persisted.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS),
+                repository.findUpdatedAtById(persisted.getId()).orElseThrow().truncatedTo(ChronoUnit.MILLIS));
+        assertTrue(repository.findUpdatedAtById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void streamForExport_ShouldFilterByCompanyAndRangeOldestFirst() {
+        // Arrange
+        entityManager.persist(experience1);
+        entityManager.persist(experience2);
+        entityManager.persist(experience3);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<InterviewExperienceResponse> all;
+        try (Stream<InterviewExperienceResponse> rows = repository.streamForExport(null, null, null)) {
+            all = rows.toList();
+        }
+        List<InterviewExperienceResponse> google;
+        try (Stream<InterviewExperienceResponse> rows = repository.streamForExport("Google", null, null)) {
+            google = rows.toList();
+        }
+        List<InterviewExperienceResponse> beforeAll;
+        try (Stream<InterviewExperienceResponse> rows =
+                     repository.streamForExport(null, null, LocalDateTime.now().minusDays(1))) {
+            beforeAll = rows.toList();
+        }
+        List<InterviewExperienceResponse> inRange;
+        try (Stream<InterviewExperienceResponse> rows =
+                     repository.streamForExport(null, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1))) {
+            inRange = rows.toList();
+        }
+
+        // Assert
+        assertEquals(3, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertFalse(all.get(i).getCreatedAt().isBefore(all.get(i - 1).getCreatedAt()));
+        }
+        assertEquals(1, google.size());
+        assertEquals("Google", google.get(0).getCompanyTag());
+        assertNotNull(google.get(0).getContent());
+        assertTrue(beforeAll.isEmpty());
+        assertEquals(3, inRange.size());
+    }
+
+    @Test
+    void updateImageRenditions_ShouldAttachToCurrentImageOnly() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+        Map<String, String> renditions = Map.of("thumbnail", experience1.getImageName() + "_thumbnail.jpg");
+
+        // Act
+        int stale = repository.updateImageRenditions(persisted.getId(), "https://s3.amazonaws.com/bucket/old.jpg", renditions, LocalDateTime.now());
+        int attached = repository.updateImageRenditions(persisted.getId(), experience1.getImageName(), renditions, LocalDateTime.now());
+        entityManager.clear();
+
+        // Assert
+        assertEquals(0, stale);
+        assertEquals(1, attached);
+        assertEquals(renditions, repository.findById(persisted.getId()).orElseThrow().getImageRenditions());
+        List<InterviewExperienceSummary> summaries = repository.findSummariesByCompanyTag("Google", PageRequest.of(0, 10)).getContent();
+        assertEquals(renditions, summaries.get(0).getImageRenditions());
+    }
 }
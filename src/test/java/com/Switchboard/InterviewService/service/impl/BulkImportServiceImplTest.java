@@ -0,0 +1,191 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.BulkImportProgressDTO;
+import com.Switchboard.InterviewService.dto.BulkImportRecordResult;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.service.CompanyStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceImplTest {
+
+    private static final String USER_EMAIL = "jane.smith@example.com";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CompanyStatsService companyStats;
+
+    @Mock
+    private CompanyFeedVersions companyFeedVersions;
+
+    @Mock
+    private CompanyTagIndex companyTagIndex;
+
+    @Mock
+    private LuceneSearchIndex searchIndex;
+
+    private BulkImportServiceImpl service;
+    private List<BulkImportProgressDTO> progress;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        service = new BulkImportServiceImpl(jdbcTemplate, transactionManager, new ObjectMapper(), validator,
+                Mappers.getMapper(InterviewExperienceMapper.class), companyStats, companyFeedVersions,
+                companyTagIndex, searchIndex);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        progress = new ArrayList<>();
+    }
+
+    @Test
+    void importInterviews_WithJsonArray_ShouldInsertInBatchesAndReportProgress() throws IOException {
+        // Arrange
+        String body = "[" + record("Google") + "," + record("Google") + "," + record("Amazon") + "]";
+
+        // Act
+        BulkImportProgressDTO summary = service.importInterviews(stream(body), USER_EMAIL, progress::add);
+
+        // Assert
+        assertEquals(3, summary.getProcessed());
+        assertEquals(3, summary.getCreated());
+        assertEquals(0, summary.getRejected());
+        assertTrue(summary.isDone());
+        assertEquals(3, progress.size());
+        assertEquals(2, progress.get(0).getResults().size());
+        assertTrue(progress.get(0).getResults().stream().allMatch(r -> r.getId() != null && r.getErrors() == null));
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(BulkImportServiceImpl.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(companyStats, times(1)).recordPost(eq("Google"), any(), eq(2L));
+        verify(companyStats, times(1)).recordPost(eq("Amazon"), any(), eq(1L));
+        verify(companyFeedVersions, times(1)).bump("Google");
+        verify(companyFeedVersions, times(1)).bump("Amazon");
+        verify(companyTagIndex, times(3)).increment(anyString());
+        verify(searchIndex, times(3)).index(any(InterviewExperience.class));
+    }
+
+    @Test
+    void importInterviews_WithNdjson_ShouldRejectInvalidRecordsAndKeepIndexes() throws IOException {
+        // Arrange
+        String body = record("Google") + "\n"
+                + "{\"userName\":\"Jane\",\"userEmail\":\"not-an-email\",\"title\":\"ok title\",\"content\":\"short\",\"companyTag\":\"Google\"}\n"
+                + "[1, 2]\n";
+
+        // Act
+        BulkImportProgressDTO summary = service.importInterviews(stream(body), USER_EMAIL, progress::add);
+
+        // Assert
+        assertEquals(3, summary.getProcessed());
+        assertEquals(1, summary.getCreated());
+        assertEquals(2, summary.getRejected());
+        List<BulkImportRecordResult> results = progress.stream().flatMap(p -> p.getResults().stream()).toList();
+        assertEquals(List.of(0L, 1L, 2L), results.stream().map(BulkImportRecordResult::getIndex).toList());
+        assertNotNull(results.get(0).getId());
+        assertTrue(results.get(1).getErrors().stream().anyMatch(e -> e.startsWith("content")));
+        assertTrue(results.get(2).getErrors().get(0).startsWith("Malformed record"));
+    }
+
+    @Test
+    void importInterviews_ShouldPostEveryRecordAsTheCaller() throws IOException {
+        // Arrange
+        String body = record("Google").replace(USER_EMAIL, "someone.else@example.com");
+        // The service reuses its batch list, so the rows are copied while the insert runs
+        List<String> insertedEmails = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(eq(BulkImportServiceImpl.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Collection<InterviewExperience>>getArgument(1)
+                            .forEach(experience -> insertedEmails.add(experience.getUserEmail()));
+                    return new int[][]{{1}};
+                });
+
+        // Act
+        service.importInterviews(stream(body), USER_EMAIL, progress::add);
+
+        // Assert
+        assertEquals(List.of(USER_EMAIL), insertedEmails);
+    }
+
+    @Test
+    void importInterviews_WithInvalidCallerEmail_ShouldRejectRecords() throws IOException {
+        // Act
+        BulkImportProgressDTO summary = service.importInterviews(stream(record("Google")), "not-an-email", progress::add);
+
+        // Assert
+        assertEquals(1, summary.getRejected());
+        assertTrue(progress.get(0).getResults().get(0).getErrors().stream().anyMatch(e -> e.startsWith("userEmail")));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void importInterviews_WhenBatchInsertFails_ShouldRejectBatchAndContinue() throws IOException {
+        // Arrange
+        when(jdbcTemplate.batchUpdate(eq(BulkImportServiceImpl.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenReturn(new int[][]{{1}});
+        String body = record("Google") + "\n" + record("Google") + "\n" + record("Amazon") + "\n";
+
+        // Act
+        BulkImportProgressDTO summary = service.importInterviews(stream(body), USER_EMAIL, progress::add);
+
+        // Assert
+        assertEquals(3, summary.getProcessed());
+        assertEquals(1, summary.getCreated());
+        assertEquals(2, summary.getRejected());
+        assertTrue(progress.get(0).getResults().stream().allMatch(r -> r.getErrors().get(0).startsWith("Insert failed")));
+        verify(companyFeedVersions, never()).bump("Google");
+        verify(companyFeedVersions, times(1)).bump("Amazon");
+    }
+
+    @Test
+    void importInterviews_WithEmptyArray_ShouldOnlyReportSummary() throws IOException {
+        // Act
+        BulkImportProgressDTO summary = service.importInterviews(stream("[]"), USER_EMAIL, progress::add);
+
+        // Assert
+        assertEquals(0, summary.getProcessed());
+        assertEquals(1, progress.size());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static String record(String companyTag) {
+        return "{\"userName\":\"Jane Smith\",\"userEmail\":\"jane.smith@example.com\",\"title\":\"Interview at "
+                + companyTag + "\",\"content\":\"Detailed interview experience content\",\"companyTag\":\""
+                + companyTag + "\"}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
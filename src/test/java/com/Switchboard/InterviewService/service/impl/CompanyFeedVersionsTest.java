@@ -0,0 +1,133 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyFeedVersionsTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CompanyFeedVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        versions = new CompanyFeedVersions(redisTemplate);
+    }
+
+    @Test
+    void current_WhenNoVersionStored_ShouldSeedFromTheClock() {
+        // Arrange
+        long before = System.currentTimeMillis();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("interview:company-feed-version:Google"))
+                .thenReturn(null)
+                .thenAnswer(invocation -> String.valueOf(System.currentTimeMillis()));
+
+        // Act
+        long version = versions.current("Google");
+
+        // Assert
+        assertTrue(version >= before);
+        verify(valueOperations, times(1)).setIfAbsent(eq("interview:company-feed-version:Google"),
+                argThat(seed -> Long.parseLong(seed) >= before));
+    }
+
+    @Test
+    void current_ShouldReturnStoredVersion() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("interview:company-feed-version:Google")).thenReturn("7");
+
+        // Act & Assert
+        assertEquals(7L, versions.current("Google"));
+    }
+
+    @Test
+    void bump_ShouldIncrementCompanyVersion() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("interview:feed-version")).thenReturn(13L);
+        when(valueOperations.increment("interview:company-feed-version:Google")).thenReturn(8L);
+
+        // Act
+        versions.bump("Google");
+
+        // Assert
+        verify(valueOperations, times(1)).increment("interview:company-feed-version:Google");
+        verify(valueOperations, times(1)).increment("interview:feed-version");
+    }
+
+    @Test
+    void bump_WhenGlobalIncrementFails_ShouldStillIncrementCompanyVersion() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("interview:feed-version")).thenThrow(new RedisConnectionFailureException("timeout"));
+        when(valueOperations.increment("interview:company-feed-version:Google")).thenReturn(8L);
+
+        // Act
+        versions.bump("Google");
+
+        // Assert
+        verify(valueOperations, times(1)).increment("interview:company-feed-version:Google");
+    }
+
+    @Test
+    void bump_ShouldSeedMissingCountersBeforeIncrementing() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(anyString())).thenReturn(1L);
+
+        // Act
+        versions.bump("Google");
+
+        // Assert
+        InOrder inOrder = inOrder(valueOperations);
+        inOrder.verify(valueOperations).setIfAbsent(eq("interview:company-feed-version:Google"), anyString());
+        inOrder.verify(valueOperations).increment("interview:company-feed-version:Google");
+    }
+
+    @Test
+    void currentGlobal_ShouldReturnStoredVersion() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("interview:feed-version")).thenReturn("12");
+
+        // Act & Assert
+        assertEquals(12L, versions.currentGlobal());
+    }
+
+    @Test
+    void bump_WithNullCompany_ShouldDoNothing() {
+        // Act
+        versions.bump(null);
+
+        // Assert
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void bump_WhenRedisFails_ShouldNotThrow() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> versions.bump("Google"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.CompanyDayCount;
+import com.Switchboard.InterviewService.repository.CompanyDailyCountRepository;
+import com.Switchboard.InterviewService.repository.CompanyPostCountRepository;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyStatsReconcilerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+    @Mock
+    private InterviewExperienceRepository experienceRepository;
+
+    @Mock
+    private CompanyPostCountRepository postCountRepository;
+
+    @Mock
+    private CompanyDailyCountRepository dailyCountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CompanyStatsReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new CompanyStatsReconciler(experienceRepository, postCountRepository, dailyCountRepository, transactionManager);
+        ReflectionTestUtils.setField(reconciler, "batchSize", 2);
+    }
+
+    @Test
+    void reconcile_ShouldRebuildCountersInBatchesPerTransaction() {
+        // Arrange
+        when(postCountRepository.tryAdvisoryLock(CompanyStatsReconciler.LOCK_KEY)).thenReturn(true);
+        when(experienceRepository.findDistinctCompanyTags()).thenReturn(List.of("Amazon", "Google", "Meta"));
+        when(experienceRepository.countPostsPerCompanyAndDay(List.of("Amazon", "Google"))).thenReturn(List.of(
+                new CompanyDayCount("Amazon", DAY, 2L),
+                new CompanyDayCount("Amazon", DAY.plusDays(1), 1L),
+                new CompanyDayCount("Google", DAY, 4L)));
+        when(experienceRepository.countPostsPerCompanyAndDay(List.of("Meta"))).thenReturn(List.of(
+                new CompanyDayCount("Meta", DAY, 1L)));
+        when(postCountRepository.findAllCompanyTags()).thenReturn(List.of("Amazon", "Google", "Meta"));
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        verify(transactionManager, times(2)).getTransaction(argThat(definition -> definition != null
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(dailyCountRepository, times(1)).deleteByCompanyTags(List.of("Amazon", "Google"));
+        verify(dailyCountRepository, times(1)).deleteByCompanyTags(List.of("Meta"));
+        verify(dailyCountRepository, times(1)).upsertCount("Amazon", DAY, 2L);
+        verify(dailyCountRepository, times(1)).upsertCount("Amazon", DAY.plusDays(1), 1L);
+        verify(dailyCountRepository, times(1)).upsertCount("Google", DAY, 4L);
+        verify(dailyCountRepository, times(1)).upsertCount("Meta", DAY, 1L);
+        verify(postCountRepository, times(1)).upsertCount("Amazon", 3L);
+        verify(postCountRepository, times(1)).upsertCount("Google", 4L);
+        verify(postCountRepository, times(1)).upsertCount("Meta", 1L);
+    }
+
+    @Test
+    void reconcile_ShouldDropCountersOfCompaniesWithoutPosts() {
+        // Arrange
+        when(postCountRepository.tryAdvisoryLock(CompanyStatsReconciler.LOCK_KEY)).thenReturn(true);
+        when(experienceRepository.findDistinctCompanyTags()).thenReturn(List.of("Google"));
+        when(experienceRepository.countPostsPerCompanyAndDay(List.of("Google"))).thenReturn(List.of(
+                new CompanyDayCount("Google", DAY, 1L)));
+        when(postCountRepository.findAllCompanyTags()).thenReturn(List.of("Google", "Yahoo"));
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        verify(dailyCountRepository, times(1)).deleteByCompanyTags(Set.of("Yahoo"));
+        verify(postCountRepository, times(1)).deleteByCompanyTags(Set.of("Yahoo"));
+    }
+
+    @Test
+    void reconcile_WhenAnotherInstanceHoldsTheLock_ShouldSkipTheRun() {
+        // Arrange
+        when(postCountRepository.tryAdvisoryLock(CompanyStatsReconciler.LOCK_KEY)).thenReturn(false);
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        verifyNoInteractions(experienceRepository, dailyCountRepository);
+        verify(postCountRepository, never()).deleteByCompanyTags(any());
+        verify(postCountRepository, never()).upsertCount(anyString(), anyLong());
+    }
+}
@@ -0,0 +1,125 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.CompanyStatsDTO;
+import com.Switchboard.InterviewService.dto.CompanyWeeklyStatsDTO;
+import com.Switchboard.InterviewService.model.CompanyDailyCount;
+import com.Switchboard.InterviewService.model.CompanyPostCount;
+import com.Switchboard.InterviewService.repository.CompanyDailyCountRepository;
+import com.Switchboard.InterviewService.repository.CompanyPostCountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyStatsServiceImplTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+
+    @Mock
+    private CompanyPostCountRepository postCountRepository;
+
+    @Mock
+    private CompanyDailyCountRepository dailyCountRepository;
+
+    @InjectMocks
+    private CompanyStatsServiceImpl service;
+
+    @Test
+    void recordPost_Increment_ShouldUpsertCounters() {
+        // Act
+        service.recordPost("Google", MONDAY.atTime(10, 0), 1);
+
+        // Assert
+        verify(postCountRepository, times(1)).upsertCount("Google", 1);
+        verify(dailyCountRepository, times(1)).upsertCount("Google", MONDAY, 1);
+        verify(postCountRepository, never()).save(any());
+        verify(dailyCountRepository, never()).save(any());
+    }
+
+    @Test
+    void recordPost_Decrement_ShouldOnlyUpdateExistingCounters() {
+        // Act
+        service.recordPost("Google", MONDAY.atTime(10, 0), -1);
+
+        // Assert
+        verify(postCountRepository, times(1)).addToCount("Google", -1);
+        verify(dailyCountRepository, times(1)).addToCount("Google", MONDAY, -1);
+        verify(postCountRepository, never()).upsertCount(anyString(), anyLong());
+        verify(dailyCountRepository, never()).upsertCount(anyString(), any(), anyLong());
+    }
+
+    @Test
+    void recordPost_WithNullCompany_ShouldDoNothing() {
+        // Act
+        service.recordPost(null, LocalDateTime.now(), 1);
+
+        // Assert
+        verifyNoInteractions(postCountRepository, dailyCountRepository);
+    }
+
+    @Test
+    void getPostsPerCompany_ShouldMapCounters() {
+        // Arrange
+        when(postCountRepository.findAllWithPosts()).thenReturn(List.of(
+                new CompanyPostCount("Amazon", 5), new CompanyPostCount("Google", 3)));
+
+        // Act
+        List<CompanyStatsDTO> result = service.getPostsPerCompany();
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("Amazon", result.get(0).getCompanyTag());
+        assertEquals(5, result.get(0).getPostCount());
+    }
+
+    @Test
+    void getWeeklyPostsPerCompany_ShouldSumDailyBucketsIntoMondayWeeks() {
+        // Arrange
+        when(dailyCountRepository.findByBucketDateBetween(MONDAY, MONDAY.plusDays(13))).thenReturn(List.of(
+                new CompanyDailyCount("Google", MONDAY, 2),
+                new CompanyDailyCount("Google", MONDAY.plusDays(6), 1),
+                new CompanyDailyCount("Google", MONDAY.plusDays(7), 4),
+                new CompanyDailyCount("Amazon", MONDAY.plusDays(3), 0)));
+
+        // Act
+        List<CompanyWeeklyStatsDTO> result = service.getWeeklyPostsPerCompany(null, MONDAY, MONDAY.plusDays(13));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(MONDAY, result.get(0).getWeekStart());
+        assertEquals(3, result.get(0).getPostCount());
+        assertEquals(MONDAY.plusDays(7), result.get(1).getWeekStart());
+        assertEquals(4, result.get(1).getPostCount());
+    }
+
+    @Test
+    void getWeeklyPostsPerCompany_WithCompany_ShouldFilterByCompany() {
+        // Arrange
+        when(dailyCountRepository.findByCompanyTagAndBucketDateBetween("Google", MONDAY, MONDAY.plusDays(6)))
+                .thenReturn(List.of(new CompanyDailyCount("Google", MONDAY, 2)));
+
+        // Act
+        List<CompanyWeeklyStatsDTO> result = service.getWeeklyPostsPerCompany("Google", MONDAY, MONDAY.plusDays(6));
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(dailyCountRepository, never()).findByBucketDateBetween(any(), any());
+    }
+
+    @Test
+    void getWeeklyPostsPerCompany_WithInvertedRange_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getWeeklyPostsPerCompany(null, MONDAY.plusDays(1), MONDAY));
+    }
+}
@@ -0,0 +1,200 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyTagIndexTest {
+
+    @Mock
+    private InterviewExperienceRepository repository;
+
+    private CompanyTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CompanyTagIndex(repository);
+    }
+
+    private static List<String> tags(List<CompanyTagSuggestion> suggestions) {
+        return suggestions.stream().map(CompanyTagSuggestion::getCompanyTag).toList();
+    }
+
+    @Test
+    void rebuild_ShouldMergeCaseAndWhitespaceVariants() {
+        // Arrange
+        when(repository.countPostsPerCompanyTag()).thenReturn(List.of(
+                new CompanyTagSuggestion("google", 2L),
+                new CompanyTagSuggestion(" Google ", 5L),
+                new CompanyTagSuggestion("Goldman   Sachs", 3L)));
+
+        // Act
+        index.rebuild();
+        List<CompanyTagSuggestion> suggestions = index.suggest("go", 10);
+
+        // Assert: the most posted variant is shown, counts are summed
+        assertEquals(List.of("Google", "Goldman   Sachs"), tags(suggestions));
+        assertEquals(7L, suggestions.get(0).getPostCount());
+        assertEquals(3L, suggestions.get(1).getPostCount());
+    }
+
+    @Test
+    void suggest_ShouldMatchPrefixCaseInsensitively() {
+        // Arrange
+        index.increment("Amazon");
+        index.increment("Apple");
+        index.increment("Google");
+
+        // Act & Assert
+        assertEquals(List.of("Amazon"), tags(index.suggest("AM", 10)));
+        assertEquals(List.of("Amazon", "Apple"), tags(index.suggest("a", 10)));
+        assertTrue(index.suggest("micro", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_WithTrailingSpace_ShouldOnlyMatchMultiWordTags() {
+        // Arrange
+        index.increment("Goldman");
+        index.increment("Goldman Sachs");
+
+        // Act & Assert
+        assertEquals(List.of("Goldman Sachs"), tags(index.suggest("goldman  ", 10)));
+    }
+
+    @Test
+    void suggest_ShouldOrderByPostCountAndRespectLimit() {
+        // Arrange
+        index.increment("Meta");
+        index.increment("Microsoft");
+        index.increment("Microsoft");
+        index.increment("MongoDB");
+        index.increment("MongoDB");
+        index.increment("MongoDB");
+
+        // Act & Assert
+        assertEquals(List.of("MongoDB", "Microsoft", "Meta"), tags(index.suggest("m", 10)));
+        assertEquals(List.of("MongoDB"), tags(index.suggest("m", 1)));
+    }
+
+    @Test
+    void suggest_ShouldCapAtMaxSuggestions() {
+        // Arrange
+        IntStream.range(0, CompanyTagIndex.MAX_SUGGESTIONS + 5).forEach(i -> index.increment("Company " + i));
+
+        // Act & Assert
+        assertEquals(CompanyTagIndex.MAX_SUGGESTIONS, index.suggest("company", 100).size());
+    }
+
+    @Test
+    void decrement_ShouldLetOtherTagsOvertakeAndRemoveAtZero() {
+        // Arrange
+        IntStream.range(0, CompanyTagIndex.MAX_SUGGESTIONS).forEach(i -> {
+            index.increment("Tech " + i);
+            index.increment("Tech " + i);
+        });
+        index.increment("Tech Extra");
+
+        // Act
+        index.decrement("Tech 0");
+        index.decrement("Tech 0");
+
+        // Assert
+        List<String> suggestions = tags(index.suggest("tech", 10));
+        assertFalse(suggestions.contains("Tech 0"));
+        assertEquals("Tech Extra", suggestions.get(suggestions.size() - 1));
+        assertTrue(index.suggest("tech 0", 10).isEmpty());
+    }
+
+    @Test
+    void decrement_ShouldPromoteTagsFromOtherBranches() {
+        // Arrange
+        String[] companies = {"Apple", "Bose", "Cisco", "Dell", "Epic", "Fitbit", "Garmin", "HP", "Intel", "Jet", "Kayak"};
+        for (int i = 0; i < companies.length; i++) {
+            for (int posts = 0; posts < companies.length - i; posts++) {
+                index.increment(companies[i]);
+            }
+        }
+
+        // Act
+        for (int posts = 0; posts < 10; posts++) {
+            index.decrement("Apple");
+        }
+
+        // Assert
+        List<String> suggestions = tags(index.suggest("", 10));
+        assertEquals(List.of("Bose", "Cisco", "Dell", "Epic", "Fitbit", "Garmin", "HP", "Intel", "Jet", "Apple"), suggestions);
+        index.decrement("Apple");
+        assertEquals("Kayak", tags(index.suggest("", 10)).get(9));
+    }
+
+    @Test
+    void refresh_ShouldPickUpCountsWrittenElsewhere() {
+        // Arrange
+        index.increment("Google");
+        when(repository.countPostsPerCompanyTag()).thenReturn(List.of(new CompanyTagSuggestion("Amazon", 3L)));
+
+        // Act
+        index.refresh();
+
+        // Assert
+        assertEquals(List.of("Amazon"), tags(index.suggest("", 10)));
+    }
+
+    @Test
+    void refresh_WhenDatabaseFails_ShouldKeepTheCurrentIndex() {
+        // Arrange
+        index.increment("Google");
+        when(repository.countPostsPerCompanyTag()).thenThrow(new RuntimeException("connection refused"));
+
+        // Act
+        index.refresh();
+
+        // Assert
+        assertEquals(List.of("Google"), tags(index.suggest("", 10)));
+    }
+
+    @Test
+    void decrement_UnknownTag_ShouldBeIgnored() {
+        // Act
+        index.decrement("Unknown");
+
+        // Assert
+        assertTrue(index.suggest("", 10).isEmpty());
+    }
+
+    @Test
+    void move_ShouldTransferCountOnlyWhenCanonicalTagChanges() {
+        // Arrange
+        index.increment("Google");
+        index.increment("Google");
+
+        // Act
+        index.move("Google", " GOOGLE");
+        index.move("Google", "Alphabet");
+
+        // Assert
+        List<CompanyTagSuggestion> suggestions = index.suggest("", 10);
+        assertEquals(List.of("Alphabet", "Google"), tags(suggestions));
+        assertEquals(1L, suggestions.get(0).getPostCount());
+        assertEquals(1L, suggestions.get(1).getPostCount());
+    }
+
+    @Test
+    void canonicalize_ShouldTrimCollapseAndLowerCase() {
+        // Assert
+        assertEquals("goldman sachs", CompanyTagIndex.canonicalize("  Goldman \t Sachs "));
+        assertEquals("", CompanyTagIndex.canonicalize(null));
+        assertEquals("goldman ", CompanyTagIndex.canonicalizePrefix(" Goldman  "));
+    }
+}
@@ -0,0 +1,105 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.service.FileService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskFileServiceImplTest extends FileServiceContractTest {
+
+    private static final String PUBLIC_URL = "http://localhost:8080/api/v1/interview/image";
+
+    @TempDir
+    private Path directory;
+
+    @Override
+    protected FileService createFileService() throws IOException {
+        return newService();
+    }
+
+    private DiskFileServiceImpl newService() throws IOException {
+        DiskFileServiceImpl diskFileService = new DiskFileServiceImpl();
+        ReflectionTestUtils.setField(diskFileService, "directory", directory);
+        ReflectionTestUtils.setField(diskFileService, "publicUrl", PUBLIC_URL);
+        diskFileService.start();
+        return diskFileService;
+    }
+
+    private List<String> storedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve(AppConstants.PATH_VARIABLE))) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+
+    @Test
+    void uploadImage_ShouldLeaveOnlyTheImageFileBehind() throws IOException {
+        // Act
+        String imageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, png("content"));
+
+        // Assert
+        assertEquals(List.of(imageUrl.substring(imageUrl.lastIndexOf('/') + 1)), storedFiles());
+    }
+
+    @Test
+    void storeRendition_Again_ShouldReplaceTheFileInPlace() throws IOException {
+        // Arrange
+        String imageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, png("content"));
+        fileService.storeRendition(imageUrl, "thumbnail.jpg", "image/jpeg", "old".getBytes());
+
+        // Act
+        String renditionUrl = fileService.storeRendition(imageUrl, "thumbnail.jpg", "image/jpeg", "newer".getBytes());
+
+        // Assert
+        assertEquals(2, storedFiles().size());
+        assertEquals("newer", Files.readString(directory.resolve(AppConstants.PATH_VARIABLE)
+                .resolve(renditionUrl.substring(renditionUrl.lastIndexOf('/') + 1))));
+    }
+
+    @Test
+    void storedImages_ShouldSurviveARestart() throws IOException {
+        // Arrange
+        String imageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, png("durable"));
+
+        // Act
+        FileService restarted = newService();
+
+        // Assert
+        assertEquals(7, restarted.getResource(AppConstants.PATH_VARIABLE, imageUrl.substring(imageUrl.lastIndexOf('/') + 1)).contentLength());
+    }
+
+    @Test
+    void deleteImage_WithUrlLeavingTheDirectory_ShouldBeRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> fileService.deleteImage(PUBLIC_URL + "/../secret.png"));
+        assertThrows(IllegalArgumentException.class, () -> fileService.deleteImage(PUBLIC_URL + "/" + AppConstants.PATH_VARIABLE + "/../../secret.png"));
+        assertThrows(IllegalArgumentException.class, () -> fileService.deleteImage("https://test-bucket.s3.us-east-1.amazonaws.com/" + AppConstants.PATH_VARIABLE + "/a.png"));
+    }
+
+    @Test
+    void uploadImage_ShouldPublishTheUrlTheImageProxyServes() throws IOException {
+        // Act
+        String imageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, png("proxied"));
+
+        // Assert
+        String fileName = imageUrl.substring(PUBLIC_URL.length() + 1);
+        assertTrue(imageUrl.startsWith(PUBLIC_URL + "/"));
+        assertFalse(fileName.contains("/"));
+        assertEquals(7, fileService.getResource(AppConstants.PATH_VARIABLE, fileName).contentLength());
+        assertTrue(Files.exists(directory.resolve(AppConstants.PATH_VARIABLE).resolve(fileName)));
+    }
+
+    @Test
+    void presignUpload_ShouldBeUnsupported() {
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> fileService.presignUpload("photo.png", "image/png", 100));
+    }
+}
@@ -0,0 +1,212 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.StoredImageDTO;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.ImageResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every FileService backend shares, so the S3, local disk and in-memory backends stay
+ * interchangeable. Subclasses supply a fresh, empty backend for every test.
+ */
+abstract class FileServiceContractTest {
+
+    private static final String PATH = AppConstants.PATH_VARIABLE;
+
+    protected FileService fileService;
+
+    protected abstract FileService createFileService() throws IOException;
+
+    @BeforeEach
+    void createBackend() throws IOException {
+        fileService = createFileService();
+    }
+
+    protected static MockMultipartFile png(String content) {
+        return new MockMultipartFile("image", "photo.png", "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String nameOf(String imageUrl) {
+        return imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+    }
+
+    private static String read(ImageResource image, long offset, long length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        image.transferTo(offset, length, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String readAll(String imageUrl) throws IOException {
+        try (InputStream content = fileService.openImage(imageUrl)) {
+            return new String(content.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void uploadImage_ThenGetResource_ShouldServeTheSameBytes() throws IOException {
+        // Act
+        String imageUrl = fileService.uploadImage(PATH, png("0123456789"));
+        ImageResource image = fileService.getResource(PATH, nameOf(imageUrl));
+
+        // Assert
+        assertTrue(nameOf(imageUrl).endsWith(".png"));
+        assertEquals(10, image.contentLength());
+        assertEquals("image/png", image.contentType());
+        assertNotNull(image.eTag());
+        assertNotNull(image.lastModified());
+        assertEquals("0123456789", read(image, 0, 10));
+        assertEquals("234", read(image, 2, 3));
+        assertEquals("0123456789", readAll(imageUrl));
+    }
+
+    @Test
+    void uploadImage_SameBytesTwice_ShouldStoreOneObject() throws IOException {
+        // Act
+        String first = fileService.uploadImage(PATH, png("same"));
+        String second = fileService.uploadImage(PATH, new MockMultipartFile("image", "other.png", "image/png", "same".getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(first, second);
+        List<StoredImageDTO> listed = new ArrayList<>();
+        fileService.listImages(PATH, 10, listed::addAll);
+        assertEquals(1, listed.size());
+    }
+
+    @Test
+    void uploadImageAsync_ShouldCompleteOnceTheImageIsStored() throws IOException {
+        // Arrange
+        MockMultipartFile file = png("async");
+        String imageUrl = fileService.newImageUrl(PATH, file);
+
+        // Act
+        String result = fileService.uploadImageAsync(imageUrl, file).join();
+
+        // Assert
+        assertEquals(imageUrl, result);
+        assertEquals(imageUrl, fileService.uploadImage(PATH, png("async")));
+        assertEquals("async", readAll(imageUrl));
+    }
+
+    @Test
+    void getResource_WhenMissing_ShouldThrowFileNotFoundException() {
+        // Act & Assert
+        assertThrows(FileNotFoundException.class, () -> fileService.getResource(PATH, "missing.png"));
+    }
+
+    @Test
+    void getResource_WithInvalidName_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        for (String fileName : List.of("../secret", ".hidden", "a/b")) {
+            assertThrows(IllegalArgumentException.class, () -> fileService.getResource(PATH, fileName));
+        }
+    }
+
+    @Test
+    void deleteImage_ShouldRemoveTheObject() throws IOException {
+        // Arrange
+        String imageUrl = fileService.uploadImage(PATH, png("doomed"));
+
+        // Act
+        fileService.deleteImage(imageUrl);
+
+        // Assert
+        assertThrows(FileNotFoundException.class, () -> fileService.getResource(PATH, nameOf(imageUrl)));
+    }
+
+    @Test
+    void storeRendition_ShouldStoreNextToTheOriginal() throws IOException {
+        // Arrange
+        String imageUrl = fileService.uploadImage(PATH, png("original"));
+
+        // Act
+        String renditionUrl = fileService.storeRendition(imageUrl, "thumbnail.jpg", "image/jpeg", "thumb".getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals(imageUrl + "_thumbnail.jpg", renditionUrl);
+        assertEquals("thumb", readAll(renditionUrl));
+        ImageResource rendition = fileService.getResource(PATH, nameOf(renditionUrl));
+        assertEquals("image/jpeg", rendition.contentType());
+        assertEquals(5, rendition.contentLength());
+    }
+
+    @Test
+    void deleteImages_ShouldRemoveEveryObjectAndIgnoreMissingOnes() throws IOException {
+        // Arrange
+        String first = fileService.uploadImage(PATH, png("first"));
+        String second = fileService.uploadImage(PATH, png("second"));
+        String missing = first.substring(0, first.lastIndexOf('/') + 1) + "missing.png";
+
+        // Act
+        Map<String, String> failures = fileService.deleteImages(List.of(first, second, missing));
+
+        // Assert
+        assertTrue(failures.isEmpty());
+        assertThrows(FileNotFoundException.class, () -> fileService.getResource(PATH, nameOf(first)));
+        assertThrows(FileNotFoundException.class, () -> fileService.getResource(PATH, nameOf(second)));
+    }
+
+    @Test
+    void listImages_ShouldPageThroughEveryObject() throws IOException {
+        // Arrange
+        Set<String> uploaded = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            uploaded.add(fileService.uploadImage(PATH, png("image-" + i)));
+        }
+        List<List<StoredImageDTO>> pages = new ArrayList<>();
+
+        // Act
+        fileService.listImages(PATH, 2, pages::add);
+
+        // Assert
+        assertEquals(List.of(2, 2, 1), pages.stream().map(List::size).toList());
+        Set<String> listed = new HashSet<>();
+        for (List<StoredImageDTO> page : pages) {
+            for (StoredImageDTO image : page) {
+                listed.add(image.getImageUrl());
+                assertEquals(7, image.getSize());
+                assertNotNull(image.getLastModified());
+            }
+        }
+        assertEquals(uploaded, listed);
+    }
+
+    @Test
+    void listImages_WhenEmpty_ShouldHandOverOneEmptyPage() {
+        // Arrange
+        List<List<StoredImageDTO>> pages = new ArrayList<>();
+
+        // Act
+        fileService.listImages(PATH, 10, pages::add);
+
+        // Assert
+        assertEquals(List.of(List.of()), pages);
+    }
+
+    @Test
+    void verifyUploadedImage_ShouldRejectImagesThatWereNotPresigned() throws IOException {
+        // Arrange
+        String imageUrl = fileService.uploadImage(PATH, png("stored by someone else"));
+        String missing = imageUrl.substring(0, imageUrl.lastIndexOf('/') + 1) + "missing.png";
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> fileService.verifyUploadedImage(imageUrl));
+        assertThrows(IllegalArgumentException.class, () -> fileService.verifyUploadedImage(missing));
+        assertThrows(IllegalArgumentException.class, () -> fileService.verifyUploadedImage("https://elsewhere.example.com/" + PATH + "/a.png"));
+    }
+}
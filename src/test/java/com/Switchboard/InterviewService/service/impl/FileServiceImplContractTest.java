@@ -0,0 +1,212 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.service.FileService;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the FileService contract against FileServiceImpl, with the S3 clients answering from a
+ * sorted map the way S3 would.
+ */
+class FileServiceImplContractTest extends FileServiceContractTest {
+
+    private final ConcurrentSkipListMap<String, StoredObject> bucket = new ConcurrentSkipListMap<>();
+    private final ExecutorService uploadExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService deleteExecutor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        uploadExecutor.shutdownNow();
+        deleteExecutor.shutdownNow();
+    }
+
+    @Override
+    protected FileService createFileService() {
+        S3Client s3Client = mock(S3Client.class);
+        S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+
+        when(s3Client.headObject(anyConsumer())).thenAnswer(invocation -> {
+            Consumer<HeadObjectRequest.Builder> request = invocation.getArgument(0);
+            HeadObjectRequest.Builder builder = HeadObjectRequest.builder();
+            request.accept(builder);
+            return head(builder.build().key());
+        });
+        when(s3AsyncClient.headObject(anyConsumer())).thenAnswer(invocation -> {
+            Consumer<HeadObjectRequest.Builder> request = invocation.getArgument(0);
+            HeadObjectRequest.Builder builder = HeadObjectRequest.builder();
+            request.accept(builder);
+            try {
+                return CompletableFuture.completedFuture(head(builder.build().key()));
+            } catch (NoSuchKeyException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            try (InputStream content = body.contentStreamProvider().newStream()) {
+                put(request, content.readAllBytes());
+            }
+            return PutObjectResponse.builder().build();
+        });
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            AsyncRequestBody body = invocation.getArgument(1);
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            return body.subscribe((ByteBuffer buffer) -> {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                content.writeBytes(bytes);
+            }).thenApply(done -> {
+                put(request, content.toByteArray());
+                return PutObjectResponse.builder().build();
+            });
+        });
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> get(invocation.getArgument(0)));
+        when(s3Client.getObject(anyConsumer())).thenAnswer(invocation -> {
+            Consumer<GetObjectRequest.Builder> request = invocation.getArgument(0);
+            GetObjectRequest.Builder builder = GetObjectRequest.builder();
+            request.accept(builder);
+            return get(builder.build());
+        });
+        when(s3Client.deleteObject(anyConsumer())).thenAnswer(invocation -> {
+            Consumer<DeleteObjectRequest.Builder> request = invocation.getArgument(0);
+            DeleteObjectRequest.Builder builder = DeleteObjectRequest.builder();
+            request.accept(builder);
+            bucket.remove(builder.build().key());
+            return DeleteObjectResponse.builder().build();
+        });
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            for (ObjectIdentifier object : request.delete().objects()) {
+                bucket.remove(object.key());
+            }
+            return DeleteObjectsResponse.builder().build();
+        });
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(invocation -> list(invocation.getArgument(0)));
+
+        FileServiceImpl s3FileService = new FileServiceImpl(s3Client, s3AsyncClient, uploadExecutor, deleteExecutor, null, mock(ImageDiskCache.class));
+        ReflectionTestUtils.setField(s3FileService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(s3FileService, "region", "us-east-1");
+        ReflectionTestUtils.setField(s3FileService, "presignTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(s3FileService, "maxUploadBytes", 5L * 1024 * 1024);
+        ReflectionTestUtils.setField(s3FileService, "uploadSigningKey", "test-upload-signing-key-0123456789abcdef");
+        return s3FileService;
+    }
+
+    private void put(PutObjectRequest request, byte[] content) {
+        bucket.put(request.key(), new StoredObject(content, request.contentType(), Instant.now()));
+    }
+
+    private HeadObjectResponse head(String key) {
+        StoredObject object = bucket.get(key);
+        if (object == null) {
+            throw NoSuchKeyException.builder().statusCode(404).build();
+        }
+        return HeadObjectResponse.builder()
+                .contentLength((long) object.content.length)
+                .contentType(object.contentType)
+                .eTag(object.eTag())
+                .lastModified(object.lastModified)
+                .build();
+    }
+
+    private ResponseInputStream<GetObjectResponse> get(GetObjectRequest request) {
+        StoredObject object = bucket.get(request.key());
+        if (object == null) {
+            throw NoSuchKeyException.builder().statusCode(404).build();
+        }
+        if (request.ifMatch() != null && !request.ifMatch().equals(object.eTag())) {
+            throw S3Exception.builder().statusCode(412).build();
+        }
+        byte[] content = object.content;
+        if (request.range() != null) {
+            String[] bounds = request.range().substring("bytes=".length()).split("-");
+            content = Arrays.copyOfRange(content, Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) + 1);
+        }
+        return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(content)));
+    }
+
+    // Keys after the continuation token in key order, which is what S3 returns for a prefix
+    private ListObjectsV2Response list(ListObjectsV2Request request) {
+        String after = request.continuationToken();
+        List<String> keys = (after == null ? bucket.tailMap(request.prefix()) : bucket.tailMap(after, false)).keySet().stream()
+                .takeWhile(key -> key.startsWith(request.prefix()))
+                .limit(request.maxKeys() + 1L)
+                .toList();
+        boolean truncated = keys.size() > request.maxKeys();
+        List<String> page = truncated ? keys.subList(0, request.maxKeys()) : keys;
+        return ListObjectsV2Response.builder()
+                .contents(page.stream()
+                        .map(key -> S3Object.builder()
+                                .key(key)
+                                .size((long) bucket.get(key).content.length)
+                                .lastModified(bucket.get(key).lastModified)
+                                .build())
+                        .toList())
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? page.get(page.size() - 1) : null)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Consumer<T> anyConsumer() {
+        return any(Consumer.class);
+    }
+
+    private static final class StoredObject {
+        private final byte[] content;
+        private final String contentType;
+        private final Instant lastModified;
+
+        private StoredObject(byte[] content, String contentType, Instant lastModified) {
+            this.content = content;
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+        }
+
+        private String eTag() {
+            return "\"" + Integer.toHexString(Arrays.hashCode(content)) + "\"";
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Proves that concurrent uploads do not buffer whole images: every upload thread hashes and
+ * streams a 5 MB image that only exists as a generated stream, and the bytes each thread
+ * allocates stay a small fraction of what it uploads.
+ */
+@ExtendWith(MockitoExtension.class)
+class FileServiceImplMemoryTest {
+
+    private static final int IMAGE_SIZE = 5 * 1024 * 1024;
+    private static final int CONCURRENT_UPLOADS = 8;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private ExecutorService uploadExecutor;
+
+    private FileServiceImpl fileService;
+
+    @BeforeEach
+    void setUp() {
+        fileService = new FileServiceImpl(s3Client, s3AsyncClient, uploadExecutor, null, null, null);
+        ReflectionTestUtils.setField(fileService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(fileService, "region", "us-east-1");
+    }
+
+    @Test
+    void uploadImage_UnderConcurrentUploads_ShouldKeepAllocationBounded() throws Exception {
+        // Arrange
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // Every thread uploads the same bytes; none of them is stored yet
+        when(s3Client.headObject(any(java.util.function.Consumer.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        // Drain the body the way the SDK would, through a small fixed buffer
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            RequestBody body = invocation.getArgument(1);
+            byte[] buffer = new byte[8192];
+            long read = 0;
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                for (int n; (n = in.read(buffer)) != -1; ) {
+                    read += n;
+                }
+            }
+            assertEquals(IMAGE_SIZE, read);
+            return PutObjectResponse.builder().build();
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+        try {
+            // Act
+            List<Future<Long>> allocations = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+                allocations.add(pool.submit(() -> {
+                    long thread = Thread.currentThread().getId();
+                    long before = threads.getThreadAllocatedBytes(thread);
+                    fileService.uploadImage("interview-experience", new GeneratedImage(IMAGE_SIZE));
+                    return threads.getThreadAllocatedBytes(thread) - before;
+                }));
+            }
+
+            // Assert
+            for (Future<Long> allocated : allocations) {
+                assertTrue(allocated.get() < IMAGE_SIZE / 4,
+                        "upload allocated " + allocated.get() + " bytes for a " + IMAGE_SIZE + " byte image");
+            }
+            verify(s3Client, times(CONCURRENT_UPLOADS)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** A multipart file whose content is produced on demand and that refuses to be copied. */
+    private static final class GeneratedImage extends MockMultipartFile {
+        private final long size;
+
+        GeneratedImage(long size) {
+            super("image", "large.jpg", "image/jpeg", new byte[0]);
+            this.size = size;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new AssertionError("upload must not copy the file onto the heap");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long remaining = size;
+
+                @Override
+                public int read() {
+                    return remaining-- > 0 ? 'x' : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (remaining <= 0) {
+                        return -1;
+                    }
+                    int n = (int) Math.min(len, remaining);
+                    Arrays.fill(b, off, off + n, (byte) 'x');
+                    remaining -= n;
+                    return n;
+                }
+            };
+        }
+    }
+}
@@ -1,22 +1,72 @@
 package com.Switchboard.InterviewService.service.impl;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.sync.RequestBody;
+import com.Switchboard.InterviewService.dto.PresignedUploadDTO;
+import com.Switchboard.InterviewService.dto.StoredImageDTO;
+import com.Switchboard.InterviewService.service.ImageResource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
-
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,16 +75,39 @@ class FileServiceImplTest {
     @Mock
     private S3Client s3Client;
 
-    @InjectMocks
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private ExecutorService uploadExecutor;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private ImageDiskCache imageCache;
+
+    private final ExecutorService deleteExecutor = Executors.newFixedThreadPool(2);
+
     private FileServiceImpl fileService;
 
     private final String testBucket = "test-bucket";
     private final String testRegion = "us-east-1";
+    private final String signingKey = "test-upload-signing-key-0123456789abcdef";
 
     @BeforeEach
     void setUp() {
+        fileService = new FileServiceImpl(s3Client, s3AsyncClient, uploadExecutor, deleteExecutor, s3Presigner, imageCache);
         ReflectionTestUtils.setField(fileService, "bucket", testBucket);
         ReflectionTestUtils.setField(fileService, "region", testRegion);
+        ReflectionTestUtils.setField(fileService, "presignTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(fileService, "maxUploadBytes", 5L * 1024 * 1024);
+        ReflectionTestUtils.setField(fileService, "uploadSigningKey", signingKey);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteExecutor.shutdownNow();
     }
 
     @Test
@@ -48,6 +121,7 @@ class FileServiceImplTest {
         );
         String path = "interview-experience";
 
+        stubObjectMissing();
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                 .thenReturn(PutObjectResponse.builder().build());
 
@@ -58,32 +132,46 @@ class FileServiceImplTest {
         assertNotNull(result);
         assertTrue(result.startsWith("https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/"));
         assertTrue(result.contains(path));
-        assertTrue(result.contains("test-image.jpg"));
+        assertTrue(result.endsWith(".jpg"));
         verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
     }
 
     @Test
-    void uploadImage_ShouldGenerateUniqueFileName() throws IOException {
+    void uploadImage_WithSameContent_ShouldStoreOneObjectOnce() throws IOException {
         // Arrange
-        MockMultipartFile file = new MockMultipartFile(
-                "image",
-                "original-name.png",
-                "image/png",
-                "test content".getBytes()
-        );
+        MockMultipartFile file = new MockMultipartFile("image", "original-name.png", "image/png", "test content".getBytes());
+        MockMultipartFile renamed = new MockMultipartFile("image", "other-name.png", "image/png", "test content".getBytes());
         String path = "interview-experience";
 
+        when(s3Client.headObject(anyConsumer()))
+                .thenThrow(NoSuchKeyException.builder().build())
+                .thenReturn(HeadObjectResponse.builder().contentType("image/png").contentLength(12L).build());
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                 .thenReturn(PutObjectResponse.builder().build());
 
         // Act
         String result1 = fileService.uploadImage(path, file);
-        String result2 = fileService.uploadImage(path, file);
+        String result2 = fileService.uploadImage(path, renamed);
 
         // Assert
-        assertNotNull(result1);
-        assertNotNull(result2);
-        assertNotEquals(result1, result2); // URLs should be different due to UUID
+        assertEquals(result1, result2);
+        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void uploadImage_WithDifferentContent_ShouldUseDifferentKeys() throws IOException {
+        // Arrange
+        String path = "interview-experience";
+        stubObjectMissing();
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().build());
+
+        // Act
+        String result1 = fileService.uploadImage(path, new MockMultipartFile("image", "a.png", "image/png", "first".getBytes()));
+        String result2 = fileService.uploadImage(path, new MockMultipartFile("image", "a.png", "image/png", "second".getBytes()));
+
+        // Assert
+        assertNotEquals(result1, result2);
         verify(s3Client, times(2)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
     }
 
@@ -98,6 +186,7 @@ class FileServiceImplTest {
         );
         String path = "interview-experience";
 
+        stubObjectMissing();
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                 .thenReturn(PutObjectResponse.builder().build());
 
@@ -113,8 +202,10 @@ class FileServiceImplTest {
         // Arrange
         String[] fileNames = {"image.jpg", "image.png", "image.gif", "image.webp"};
         String[] contentTypes = {"image/jpeg", "image/png", "image/gif", "image/webp"};
+        String[] extensions = {".jpg", ".png", ".gif", ".webp"};
         String path = "interview-experience";
 
+        stubObjectMissing();
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                 .thenReturn(PutObjectResponse.builder().build());
 
@@ -130,7 +221,7 @@ class FileServiceImplTest {
             String result = fileService.uploadImage(path, file);
             
             assertNotNull(result);
-            assertTrue(result.contains(fileNames[i]));
+            assertTrue(result.endsWith(extensions[i]));
         }
         
         verify(s3Client, times(4)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
@@ -149,17 +240,112 @@ class FileServiceImplTest {
     }
 
     @Test
-    void getResource_ShouldThrowUnsupportedOperationException() {
+    void getResource_WhenCached_ShouldNotCallS3() throws IOException {
         // Arrange
-        String path = "interview-experience";
-        String fileName = "test.jpg";
+        ImageResource cached = mock(ImageResource.class);
+        when(imageCache.get("interview-experience/test.jpg")).thenReturn(cached);
+
+        // Act
+        ImageResource result = fileService.getResource("interview-experience", "test.jpg");
+
+        // Assert
+        assertSame(cached, result);
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void getResource_WhenObjectIsMissing_ShouldThrowFileNotFoundException() {
+        // Arrange
+        when(s3Client.headObject(anyConsumer())).thenThrow(NoSuchKeyException.builder().build());
 
         // Act & Assert
-        UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class, () -> {
-            fileService.getResource(path, fileName);
-        });
-        
-        assertEquals("Not needed for now", exception.getMessage());
+        assertThrows(FileNotFoundException.class, () -> fileService.getResource("interview-experience", "missing.jpg"));
+    }
+
+    @Test
+    void getResource_WithInvalidName_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        for (String fileName : List.of("../secret", ".hidden", "a/b", "")) {
+            assertThrows(IllegalArgumentException.class, () -> fileService.getResource("interview-experience", fileName));
+        }
+        verifyNoInteractions(s3Client, imageCache);
+    }
+
+    @Test
+    void getResource_ShouldExposeHeadMetadata() throws IOException {
+        // Arrange
+        Instant lastModified = Instant.parse("2025-03-03T12:00:00Z");
+        when(s3Client.headObject(anyConsumer())).thenReturn(HeadObjectResponse.builder()
+                .contentLength(10L).contentType("image/png").eTag("\"abc\"").lastModified(lastModified).build());
+
+        // Act
+        ImageResource resource = fileService.getResource("interview-experience", "test.png");
+
+        // Assert
+        assertEquals(10L, resource.contentLength());
+        assertEquals("image/png", resource.contentType());
+        assertEquals("\"abc\"", resource.eTag());
+        assertEquals(lastModified, resource.lastModified());
+    }
+
+    @Test
+    void transferTo_WithRange_ShouldRequestOnlyThoseBytesAndSkipTheCache() throws IOException {
+        // Arrange
+        when(s3Client.headObject(anyConsumer())).thenReturn(HeadObjectResponse.builder()
+                .contentLength(10L).contentType("image/png").eTag("\"abc\"").build());
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream(new byte[]{2, 3, 4}))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        fileService.getResource("interview-experience", "test.png").transferTo(2, 3, out);
+
+        // Assert
+        assertArrayEquals(new byte[]{2, 3, 4}, out.toByteArray());
+        verify(s3Client).getObject(argThat((GetObjectRequest request) ->
+                "bytes=2-4".equals(request.range()) && "\"abc\"".equals(request.ifMatch())));
+        verify(imageCache, never()).newTempFile();
+        verify(imageCache, never()).admit(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void transferTo_WholeObject_ShouldStreamAndAdmitToCache(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        byte[] content = "image-bytes".getBytes();
+        Path download = tempDir.resolve("download.tmp");
+        when(s3Client.headObject(anyConsumer())).thenReturn(HeadObjectResponse.builder()
+                .contentLength((long) content.length).contentType("image/jpeg").eTag("\"abc\"").build());
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream(content))));
+        when(imageCache.accepts(content.length)).thenReturn(true);
+        when(imageCache.newTempFile()).thenReturn(download);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        fileService.getResource("interview-experience", "test.jpg").transferTo(0, content.length, out);
+
+        // Assert
+        assertArrayEquals(content, out.toByteArray());
+        assertArrayEquals(content, Files.readAllBytes(download));
+        verify(s3Client).getObject(argThat((GetObjectRequest request) -> request.range() == null));
+        verify(imageCache).admit("interview-experience/test.jpg", download, "image/jpeg", "\"abc\"", null);
+    }
+
+    @Test
+    void transferTo_WhenDownloadFails_ShouldDiscardPartialCacheFile(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        Path download = Files.createFile(tempDir.resolve("download.tmp"));
+        when(s3Client.headObject(anyConsumer())).thenReturn(HeadObjectResponse.builder()
+                .contentLength(4L).contentType("image/jpeg").eTag("\"abc\"").build());
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(S3Exception.builder().statusCode(412).build());
+        when(imageCache.accepts(4L)).thenReturn(true);
+        when(imageCache.newTempFile()).thenReturn(download);
+
+        // Act & Assert
+        assertThrows(S3Exception.class, () ->
+                fileService.getResource("interview-experience", "test.jpg").transferTo(0, 4, new ByteArrayOutputStream()));
+        assertFalse(Files.exists(download));
+        verify(imageCache, never()).admit(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -173,6 +359,7 @@ class FileServiceImplTest {
         );
         String path = "interview-experience";
 
+        stubObjectMissing();
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                 .thenThrow(new RuntimeException("S3 upload failed"));
 
@@ -196,7 +383,431 @@ class FileServiceImplTest {
         });
     }
     
+    @Test
+    void newImageUrl_ShouldDeriveKeyFromContentHash() throws Exception {
+        // Arrange
+        byte[] content = "test content".getBytes();
+
+        // Act
+        String first = fileService.newImageUrl("interview-experience", new MockMultipartFile("image", "photo.png", "image/png", content));
+        String second = fileService.newImageUrl("interview-experience", new MockMultipartFile("image", "copy.png", "image/png", content));
+
+        // Assert
+        assertEquals("https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/interview-experience/" + sha256Hex(content) + ".png", first);
+        assertEquals(first, second);
+        verifyNoInteractions(s3Client, s3AsyncClient);
+    }
+
+    @Test
+    void uploadImageAsync_ShouldPutToKeyBehindUrlWithoutWaiting() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("image", "photo.png", "image/png", "test content".getBytes());
+        String imageUrl = fileService.newImageUrl("interview-experience", file);
+        CompletableFuture<PutObjectResponse> put = new CompletableFuture<>();
+        stubObjectMissingAsync();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenReturn(put);
+
+        // Act
+        CompletableFuture<String> result = fileService.uploadImageAsync(imageUrl, file);
+
+        // Assert
+        assertFalse(result.isDone());
+        put.complete(PutObjectResponse.builder().build());
+        assertEquals(imageUrl, result.join());
+        verify(s3AsyncClient, times(1)).putObject(argThat((PutObjectRequest r) ->
+                testBucket.equals(r.bucket()) && imageUrl.endsWith(r.key()) && "image/png".equals(r.contentType())),
+                any(AsyncRequestBody.class));
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void uploadImage_ShouldStreamContentWithKnownLengthInsteadOfCopyingBytes() throws IOException {
+        // Arrange
+        byte[] content = "streamed image content".getBytes();
+        MockMultipartFile file = new MockMultipartFile("image", "photo.png", "image/png", content) {
+            @Override
+            public byte[] getBytes() {
+                throw new AssertionError("upload must not copy the file onto the heap");
+            }
+        };
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            RequestBody body = invocation.getArgument(1);
+            assertEquals(content.length, body.optionalContentLength().orElseThrow());
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                assertArrayEquals(content, in.readAllBytes());
+            }
+            return PutObjectResponse.builder().build();
+        });
+        stubObjectMissing();
+
+        // Act
+        String result = fileService.uploadImage("interview-experience", file);
+
+        // Assert
+        assertTrue(result.endsWith(".png"));
+    }
+
+    @Test
+    void uploadImageAsync_ShouldStreamContentWithKnownLength() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("image", "photo.png", "image/png", "test content".getBytes()) {
+            @Override
+            public byte[] getBytes() {
+                throw new AssertionError("upload must not copy the file onto the heap");
+            }
+        };
+        stubObjectMissingAsync();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        // Act
+        fileService.uploadImageAsync(fileService.newImageUrl("interview-experience", file), file).join();
+
+        // Assert
+        verify(s3AsyncClient, times(1)).putObject(any(PutObjectRequest.class),
+                argThat((AsyncRequestBody body) -> body.contentLength().orElse(-1L) == file.getSize()));
+    }
+
+    @Test
+    void uploadImageAsync_WhenS3Fails_ShouldCompleteExceptionally() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("image", "photo.png", "image/png", "test content".getBytes());
+        stubObjectMissingAsync();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("S3 upload failed")));
+
+        // Act
+        CompletableFuture<String> result = fileService.uploadImageAsync(fileService.newImageUrl("interview-experience", file), file);
+
+        // Assert
+        assertThrows(CompletionException.class, result::join);
+    }
+
+    @Test
+    void uploadImageAsync_WhenObjectAlreadyStored_ShouldSkipPut() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("image", "photo.png", "image/png", "test content".getBytes());
+        String imageUrl = fileService.newImageUrl("interview-experience", file);
+        when(s3AsyncClient.headObject(anyConsumer())).thenReturn(CompletableFuture.completedFuture(
+                HeadObjectResponse.builder().contentType("image/png").contentLength(12L).build()));
+
+        // Act
+        String result = fileService.uploadImageAsync(imageUrl, file).join();
+
+        // Assert
+        assertEquals(imageUrl, result);
+        verify(s3AsyncClient, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
+    @Test
+    void uploadImageAsync_WhenHeadFails_ShouldCompleteExceptionallyWithoutPut() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("image", "photo.png", "image/png", "test content".getBytes());
+        when(s3AsyncClient.headObject(anyConsumer())).thenReturn(CompletableFuture.failedFuture(
+                S3Exception.builder().statusCode(403).message("Access Denied").build()));
+
+        // Act
+        CompletableFuture<String> result = fileService.uploadImageAsync(fileService.newImageUrl("interview-experience", file), file);
+
+        // Assert
+        assertThrows(CompletionException.class, result::join);
+        verify(s3AsyncClient, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
+    @Test
+    void presignUpload_ShouldSignPutBoundToTypeAndSize() {
+        // Arrange: a real presigner pointed at a local S3-compatible endpoint; signing makes no network call
+        S3Presigner localPresigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("minio", "minio123")))
+                .endpointOverride(URI.create("http://localhost:9000"))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        FileServiceImpl presigningService = new FileServiceImpl(s3Client, s3AsyncClient, uploadExecutor, deleteExecutor, localPresigner, imageCache);
+        ReflectionTestUtils.setField(presigningService, "bucket", testBucket);
+        ReflectionTestUtils.setField(presigningService, "region", testRegion);
+        ReflectionTestUtils.setField(presigningService, "presignTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(presigningService, "maxUploadBytes", 5L * 1024 * 1024);
+        ReflectionTestUtils.setField(presigningService, "uploadSigningKey", signingKey);
+
+        // Act
+        PresignedUploadDTO upload = presigningService.presignUpload("my photo.png", "image/png", 2048);
+
+        // Assert
+        assertTrue(upload.getUploadUrl().startsWith("http://localhost:9000/" + testBucket + "/interview-experience/"));
+        assertTrue(upload.getUploadUrl().contains("X-Amz-Expires=300"));
+        assertTrue(upload.getUploadUrl().contains("X-Amz-Signature="));
+        assertEquals("image/png", upload.getRequiredHeaders().get("content-type"));
+        assertEquals("2048", upload.getRequiredHeaders().get("content-length"));
+        assertFalse(upload.getRequiredHeaders().containsKey("host"));
+        assertTrue(upload.getImageUrl().endsWith("_my_photo.png"));
+        assertTrue(upload.getUploadUrl().contains(upload.getImageUrl().substring(upload.getImageUrl().indexOf(".com/") + 5)));
+        localPresigner.close();
+    }
+
+    @Test
+    void presignUpload_WithDisallowedTypeOrSize_ShouldThrowIllegalArgument() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> fileService.presignUpload("a.pdf", "application/pdf", 100));
+        assertThrows(IllegalArgumentException.class, () -> fileService.presignUpload("a.png", "image/png", 0));
+        assertThrows(IllegalArgumentException.class, () -> fileService.presignUpload("a.png", "image/png", 6L * 1024 * 1024));
+        verifyNoInteractions(s3Presigner);
+    }
+
+    @Test
+    void verifyUploadedImage_WhenPresignedObjectExists_ShouldPass() throws MalformedURLException {
+        // Arrange
+        String imageUrl = presignedImageUrl(fileService);
+        when(s3Client.headObject(anyConsumer())).thenReturn(
+                HeadObjectResponse.builder().contentType("image/png").contentLength(2048L).build());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> fileService.verifyUploadedImage(imageUrl));
+    }
+
+    @Test
+    void verifyUploadedImage_WhenObjectMissing_ShouldThrowIllegalArgument() throws MalformedURLException {
+        // Arrange
+        String imageUrl = presignedImageUrl(fileService);
+        when(s3Client.headObject(anyConsumer())).thenThrow(NoSuchKeyException.builder().build());
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> fileService.verifyUploadedImage(imageUrl));
+        assertTrue(exception.getMessage().contains("not found"));
+    }
+
+    @Test
+    void verifyUploadedImage_WithForeignUrlOrWrongType_ShouldThrowIllegalArgument() throws MalformedURLException {
+        // Arrange
+        String imageUrl = presignedImageUrl(fileService);
+        when(s3Client.headObject(anyConsumer())).thenReturn(
+                HeadObjectResponse.builder().contentType("text/html").contentLength(10L).build());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> fileService.verifyUploadedImage("https://evil.example.com/interview-experience/x.png"));
+        assertThrows(IllegalArgumentException.class, () -> fileService.verifyUploadedImage(imageUrl));
+    }
+
+    @Test
+    void verifyUploadedImage_WithKeyThatWasNotPresigned_ShouldThrowWithoutCallingS3() throws MalformedURLException {
+        // Arrange
+        String prefix = "https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/interview-experience/";
+        String presigned = presignedImageUrl(fileService);
+        String fileName = presigned.substring(prefix.length());
+        String otherName = presigned.substring(0, presigned.lastIndexOf('_')) + "_other.png";
+        String forgedTag = prefix + UUID.randomUUID() + "-" + "0".repeat(32) + fileName.substring(fileName.indexOf('_'));
+
+        // Act & Assert
+        for (String imageUrl : List.of(prefix + "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.png",
+                prefix + "abc_photo.png", otherName, forgedTag, presigned + "_thumbnail.jpg")) {
+            assertThrows(IllegalArgumentException.class, () -> fileService.verifyUploadedImage(imageUrl), imageUrl);
+        }
+        verify(s3Client, never()).headObject(anyConsumer());
+    }
+
+    @Test
+    void verifyUploadedImage_WithSharedSigningKey_ShouldAcceptKeysPresignedByAnotherInstance() throws MalformedURLException {
+        // Arrange
+        String imageUrl = presignedImageUrl(otherInstance(signingKey));
+        when(s3Client.headObject(anyConsumer())).thenReturn(
+                HeadObjectResponse.builder().contentType("image/png").contentLength(2048L).build());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> fileService.verifyUploadedImage(imageUrl));
+    }
+
+    @Test
+    void verifyUploadedImage_WithDifferentSigningKey_ShouldRejectTheKey() throws MalformedURLException {
+        // Arrange
+        String imageUrl = presignedImageUrl(otherInstance("another-upload-signing-key-0123456789"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> fileService.verifyUploadedImage(imageUrl));
+        verify(s3Client, never()).headObject(anyConsumer());
+    }
+
+    @Test
+    void checkUploadSigningKey_WhenMissingOrShort_ShouldFailStartup() {
+        // Act & Assert
+        for (String key : new String[]{null, "", "too-short"}) {
+            ReflectionTestUtils.setField(fileService, "uploadSigningKey", key);
+            assertThrows(IllegalStateException.class, () -> fileService.checkUploadSigningKey());
+        }
+        ReflectionTestUtils.setField(fileService, "uploadSigningKey", signingKey);
+        assertDoesNotThrow(() -> fileService.checkUploadSigningKey());
+    }
+
+    private FileServiceImpl otherInstance(String uploadSigningKey) {
+        FileServiceImpl otherInstance = new FileServiceImpl(s3Client, s3AsyncClient, uploadExecutor, deleteExecutor, s3Presigner, imageCache);
+        ReflectionTestUtils.setField(otherInstance, "bucket", testBucket);
+        ReflectionTestUtils.setField(otherInstance, "region", testRegion);
+        ReflectionTestUtils.setField(otherInstance, "presignTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(otherInstance, "maxUploadBytes", 5L * 1024 * 1024);
+        ReflectionTestUtils.setField(otherInstance, "uploadSigningKey", uploadSigningKey);
+        return otherInstance;
+    }
+
+    // The image URL presignUpload hands out; the presigner is a mock, so only the key is real
+    private String presignedImageUrl(FileServiceImpl service) throws MalformedURLException {
+        PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+        when(presigned.url()).thenReturn(new URL("https://upload.example.com/signed"));
+        when(presigned.signedHeaders()).thenReturn(Map.of());
+        when(presigned.expiration()).thenReturn(Instant.now().plusSeconds(300));
+        when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presigned);
+        return service.presignUpload("photo.png", "image/png", 2048).getImageUrl();
+    }
+
+    @Test
+    void deleteImages_ShouldGroupKeysIntoBatchesOfAtMostOneThousand() {
+        // Arrange
+        List<String> urls = IntStream.range(0, 2500).mapToObj(this::urlOf).toList();
+        List<DeleteObjectsRequest> requests = new ArrayList<>();
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenAnswer(invocation -> {
+            synchronized (requests) {
+                requests.add(invocation.getArgument(0));
+            }
+            return DeleteObjectsResponse.builder().build();
+        });
+
+        // Act
+        Map<String, String> failures = fileService.deleteImages(urls);
+
+        // Assert
+        assertTrue(failures.isEmpty());
+        assertEquals(3, requests.size());
+        assertEquals(2500, requests.stream().mapToInt(r -> r.delete().objects().size()).sum());
+        assertTrue(requests.stream().allMatch(r -> r.delete().objects().size() <= FileServiceImpl.MAX_KEYS_PER_DELETE));
+        assertTrue(requests.stream().allMatch(r -> testBucket.equals(r.bucket()) && r.delete().quiet()));
+    }
+
+    @Test
+    void deleteImages_ShouldReportPerKeyFailuresByUrl() {
+        // Arrange
+        List<String> urls = List.of(urlOf(1), urlOf(2), urlOf(2));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("interview-experience/image-2.jpg").code("AccessDenied").message("Access Denied").build())
+                .build());
+
+        // Act
+        Map<String, String> failures = fileService.deleteImages(urls);
+
+        // Assert
+        assertEquals(Map.of(urlOf(2), "AccessDenied: Access Denied"), failures);
+        verify(s3Client, times(1)).deleteObjects(argThat((DeleteObjectsRequest r) -> r.delete().objects().stream()
+                .map(ObjectIdentifier::key).toList()
+                .equals(List.of("interview-experience/image-1.jpg", "interview-experience/image-2.jpg"))));
+    }
+
+    @Test
+    void deleteImages_WhenRequestFails_ShouldReportEveryKeyOfThatBatch() {
+        // Arrange
+        List<String> urls = List.of(urlOf(1), urlOf(2));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(S3Exception.builder().message("Service Unavailable").build());
+
+        // Act
+        Map<String, String> failures = fileService.deleteImages(urls);
+
+        // Assert
+        assertEquals(2, failures.size());
+        assertTrue(failures.keySet().containsAll(urls));
+    }
+
+    @Test
+    void deleteImages_WithNoUrls_ShouldNotCallS3() {
+        // Act
+        Map<String, String> failures = fileService.deleteImages(List.of());
+
+        // Assert
+        assertTrue(failures.isEmpty());
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void listImages_ShouldFollowContinuationTokensOnePageAtATime() {
+        // Arrange
+        Instant modified = Instant.parse("2025-03-03T12:00:00Z");
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(S3Object.builder().key("interview-experience/a.jpg").size(10L).lastModified(modified).build(),
+                                S3Object.builder().key("interview-experience/b.png").size(20L).lastModified(modified).build())
+                        .isTruncated(true)
+                        .nextContinuationToken("next")
+                        .build())
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(S3Object.builder().key("interview-experience/c.jpg").size(30L).lastModified(modified).build())
+                        .isTruncated(false)
+                        .build());
+        List<List<StoredImageDTO>> pages = new ArrayList<>();
+
+        // Act
+        fileService.listImages("interview-experience", 2, pages::add);
+
+        // Assert
+        assertEquals(2, pages.size());
+        assertEquals(2, pages.get(0).size());
+        StoredImageDTO first = pages.get(0).get(0);
+        assertEquals("https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/interview-experience/a.jpg", first.getImageUrl());
+        assertEquals(10L, first.getSize());
+        assertEquals(modified, first.getLastModified());
+        verify(s3Client).listObjectsV2(argThat((ListObjectsV2Request request) -> request.continuationToken() == null
+                && request.prefix().equals("interview-experience/") && request.maxKeys() == 2 && request.bucket().equals(testBucket)));
+        verify(s3Client).listObjectsV2(argThat((ListObjectsV2Request request) -> "next".equals(request.continuationToken())));
+    }
+
+    private String urlOf(int i) {
+        return "https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/interview-experience/image-" + i + ".jpg";
+    }
+
     @SuppressWarnings("unchecked")
+    @Test
+    void openImage_ShouldStreamObjectBehindUrl() throws IOException {
+        // Arrange
+        String imageUrl = "https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/interview-experience/abc_photo.png";
+        byte[] content = "image bytes".getBytes();
+        when(s3Client.getObject(anyConsumer())).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream(content))));
+
+        // Act
+        try (InputStream result = fileService.openImage(imageUrl)) {
+
+            // Assert
+            assertArrayEquals(content, result.readAllBytes());
+        }
+    }
+
+    @Test
+    void storeRendition_ShouldPutNextToOriginalAndReturnPublicUrl() {
+        // Arrange
+        String imageUrl = "https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/interview-experience/abc_photo.png";
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().build());
+
+        // Act
+        String result = fileService.storeRendition(imageUrl, "thumbnail.jpg", "image/jpeg", new byte[]{1, 2, 3});
+
+        // Assert
+        assertEquals(imageUrl + "_thumbnail.jpg", result);
+        verify(s3Client, times(1)).putObject(argThat((PutObjectRequest request) ->
+                        "interview-experience/abc_photo.png_thumbnail.jpg".equals(request.key())
+                                && "image/jpeg".equals(request.contentType())),
+                any(RequestBody.class));
+    }
+
+    private void stubObjectMissing() {
+        when(s3Client.headObject(anyConsumer())).thenThrow(NoSuchKeyException.builder().build());
+    }
+
+    private void stubObjectMissingAsync() {
+        when(s3AsyncClient.headObject(anyConsumer())).thenReturn(CompletableFuture.failedFuture(NoSuchKeyException.builder().build()));
+    }
+
+    private static String sha256Hex(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
     private static <T> java.util.function.Consumer<T> anyConsumer() {
         return any(java.util.function.Consumer.class);
     }
@@ -0,0 +1,203 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.model.ImageDeletionOutbox;
+import com.Switchboard.InterviewService.repository.ImageDeletionOutboxRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeletionDispatcherTest {
+
+    private static final String IMAGE = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc.jpg";
+    private static final String THUMBNAIL = IMAGE + "_thumbnail";
+    private static final String SHARED = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/def.png";
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private ImageDeletionOutboxRepository outboxRepository;
+
+    @Mock
+    private ImageReferences imageReferences;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageDeletionDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new ImageDeletionDispatcher(fileService, outboxRepository, imageReferences, transactionManager);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "lease", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(dispatcher, "initialBackoff", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(dispatcher, "alertAfterAttempts", 10);
+    }
+
+    private static ImageDeletionOutbox entry(long id, String imageUrl, Map<String, String> renditions, int attempts) {
+        return ImageDeletionOutbox.builder()
+                .id(id)
+                .imageUrl(imageUrl)
+                .renditions(renditions)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    @Test
+    void dispatch_ShouldDeleteImagesWithRenditionsAndRemoveEntries() {
+        // Arrange
+        ImageDeletionOutbox deletion = entry(1L, IMAGE, Map.of("thumbnail", THUMBNAIL), 0);
+        when(outboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(deletion));
+        when(imageReferences.lockUnreferenced(Set.of(IMAGE))).thenReturn(Set.of(IMAGE));
+        when(fileService.deleteImages(Set.of(IMAGE, THUMBNAIL))).thenReturn(Map.of());
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        assertEquals(1, deletion.getAttempts());
+        verify(fileService, times(1)).deleteImages(Set.of(IMAGE, THUMBNAIL));
+        verify(imageReferences, times(1)).forget(Set.of(IMAGE));
+        verify(outboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxRepository, never()).reschedule(anyLong(), any(), any());
+    }
+
+    @Test
+    void dispatch_WhenImageIsReferencedAgain_ShouldKeepItAndRemoveEntry() {
+        // Arrange
+        ImageDeletionOutbox shared = entry(1L, SHARED, Map.of("thumbnail", SHARED + "_thumbnail"), 0);
+        ImageDeletionOutbox unused = entry(2L, IMAGE, null, 0);
+        when(outboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(shared, unused))
+                .thenReturn(List.of());
+        when(imageReferences.lockUnreferenced(Set.of(SHARED, IMAGE))).thenReturn(Set.of(IMAGE));
+        when(fileService.deleteImages(Set.of(IMAGE))).thenReturn(Map.of());
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(fileService, times(1)).deleteImages(Set.of(IMAGE));
+        verify(outboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void dispatch_WhenDeletionFails_ShouldRescheduleWithBackoffAndKeepEntry() {
+        // Arrange
+        ImageDeletionOutbox failing = entry(1L, IMAGE, Map.of("thumbnail", THUMBNAIL), 2);
+        when(outboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(failing));
+        when(imageReferences.lockUnreferenced(any())).thenReturn(Set.of(IMAGE));
+        when(fileService.deleteImages(any())).thenReturn(Map.of(THUMBNAIL, "SlowDown"));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+        verify(outboxRepository, times(1)).reschedule(eq(1L),
+                argThat(next -> !next.isBefore(before.plusSeconds(40))),
+                argThat(error -> error.contains(THUMBNAIL) && error.contains("SlowDown")));
+    }
+
+    @Test
+    void dispatch_WhenS3IsUnavailable_ShouldRescheduleEveryEntry() {
+        // Arrange
+        ImageDeletionOutbox first = entry(1L, IMAGE, null, 0);
+        ImageDeletionOutbox second = entry(2L, SHARED, null, 0);
+        when(outboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of());
+        when(imageReferences.lockUnreferenced(any())).thenReturn(Set.of(IMAGE, SHARED));
+        when(fileService.deleteImages(any())).thenThrow(new RuntimeException("S3 unavailable"));
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(outboxRepository, times(1)).reschedule(eq(1L), any(LocalDateTime.class), contains("S3 unavailable"));
+        verify(outboxRepository, times(1)).reschedule(eq(2L), any(LocalDateTime.class), contains("S3 unavailable"));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void dispatch_WithNothingDue_ShouldNotCallS3() {
+        // Arrange
+        when(outboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verifyNoInteractions(fileService, imageReferences);
+    }
+
+    @Test
+    void dispatch_ShouldLeaseClaimedEntriesUntilTheyAreProcessed() {
+        // Arrange
+        ImageDeletionOutbox deletion = entry(1L, IMAGE, null, 0);
+        LocalDateTime before = LocalDateTime.now();
+        when(outboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(deletion));
+        when(imageReferences.lockUnreferenced(any())).thenReturn(Set.of(IMAGE));
+        when(fileService.deleteImages(any())).thenReturn(Map.of());
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        assertFalse(deletion.getNextAttemptAt().isBefore(before.plusMinutes(5)));
+    }
+
+    @Test
+    void dispatch_ShouldDeleteWhileTheReferenceCountsAreLocked() {
+        // Arrange
+        ImageDeletionOutbox deletion = entry(1L, IMAGE, null, 0);
+        when(outboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(deletion));
+        when(imageReferences.lockUnreferenced(Set.of(IMAGE))).thenReturn(Set.of(IMAGE));
+        when(fileService.deleteImages(Set.of(IMAGE))).thenReturn(Map.of());
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert: claim, then lock, delete and forget inside one transaction, then complete
+        InOrder inOrder = inOrder(transactionManager, imageReferences, fileService, outboxRepository);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(imageReferences).lockUnreferenced(Set.of(IMAGE));
+        inOrder.verify(fileService).deleteImages(Set.of(IMAGE));
+        inOrder.verify(imageReferences).forget(Set.of(IMAGE));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void backoff_ShouldDoublePerAttemptUpToMaximum() {
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(10), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(80), dispatcher.backoff(4));
+        assertEquals(Duration.ofMinutes(30), dispatcher.backoff(12));
+        assertEquals(Duration.ofMinutes(30), dispatcher.backoff(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,164 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.service.ImageResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageDiskCacheTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2025-03-03T12:00:00Z");
+
+    @TempDir
+    private Path tempDir;
+
+    private ImageDiskCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new ImageDiskCache();
+        ReflectionTestUtils.setField(cache, "directory", tempDir.resolve("cache"));
+        ReflectionTestUtils.setField(cache, "maxBytes", 10L);
+        ReflectionTestUtils.setField(cache, "maxEntryBytes", 6L);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofHours(1));
+        cache.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        cache.destroy();
+    }
+
+    private void admit(String key, String content) throws IOException {
+        Path download = cache.newTempFile();
+        Files.writeString(download, content);
+        cache.admit(key, download, "image/jpeg", "\"" + key + "\"", LAST_MODIFIED);
+    }
+
+    private static String read(ImageResource image, long offset, long length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        image.transferTo(offset, length, out);
+        return out.toString();
+    }
+
+    @Test
+    void get_AfterAdmit_ShouldServeMetadataAndBytes() throws IOException {
+        // Arrange
+        admit("interview-experience/a.jpg", "abcdef");
+
+        // Act
+        ImageResource image = cache.get("interview-experience/a.jpg");
+
+        // Assert
+        assertNotNull(image);
+        assertEquals(6, image.contentLength());
+        assertEquals("image/jpeg", image.contentType());
+        assertEquals("\"interview-experience/a.jpg\"", image.eTag());
+        assertEquals(LAST_MODIFIED, image.lastModified());
+        assertEquals("abcdef", read(image, 0, 6));
+        assertEquals("cde", read(image, 2, 3));
+        assertEquals(6, cache.size());
+    }
+
+    @Test
+    void get_WhenMissing_ShouldReturnNull() {
+        // Act & Assert
+        assertNull(cache.get("interview-experience/missing.jpg"));
+    }
+
+    @Test
+    void admit_BeyondMaxBytes_ShouldEvictLeastRecentlyUsed() throws IOException {
+        // Arrange
+        admit("a", "aaaa");
+        admit("b", "bbbb");
+        cache.get("a");
+
+        // Act
+        admit("c", "cccc");
+
+        // Assert
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(8, cache.size());
+    }
+
+    @Test
+    void admit_WhenEntryIsTooLarge_ShouldDiscardIt() throws IOException {
+        // Arrange
+        Path download = cache.newTempFile();
+        Files.writeString(download, "abcdefg");
+
+        // Act
+        cache.admit("large", download, "image/jpeg", "\"large\"", LAST_MODIFIED);
+
+        // Assert
+        assertFalse(cache.accepts(7));
+        assertNull(cache.get("large"));
+        assertFalse(Files.exists(download));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void admit_SameKeyAgain_ShouldReplaceTheEntry() throws IOException {
+        // Arrange
+        admit("a", "old");
+
+        // Act
+        admit("a", "newer");
+
+        // Assert
+        assertEquals("newer", read(cache.get("a"), 0, 5));
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    void get_AfterTtl_ShouldExpireTheEntry() throws IOException {
+        // Arrange
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ZERO.minusSeconds(1));
+        admit("a", "abc");
+
+        // Act & Assert
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evict_ShouldRemoveEntryAndFile() throws IOException {
+        // Arrange
+        admit("a", "abc");
+
+        // Act
+        cache.evict("a");
+
+        // Assert
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        try (Stream<Path> files = Files.list(tempDir.resolve("cache"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void transferTo_AfterEviction_ShouldFailRatherThanServeDeletedBytes() throws IOException {
+        // Arrange
+        admit("a", "abc");
+        ImageResource image = cache.get("a");
+        cache.evict("a");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> read(image, 0, 3));
+    }
+}
@@ -0,0 +1,86 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.model.ImageReference;
+import com.Switchboard.InterviewService.repository.ImageReferenceRepository;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageReferencesTest {
+
+    private static final String COUNTED = "https://bucket/b-counted.jpg";
+    private static final String LEGACY = "https://bucket/a-legacy.jpg";
+    private static final String UNUSED = "https://bucket/c-unused.jpg";
+
+    @Mock
+    private ImageReferenceRepository repository;
+
+    @Mock
+    private InterviewExperienceRepository experienceRepository;
+
+    @InjectMocks
+    private ImageReferences imageReferences;
+
+    @Test
+    void retainAndRelease_ShouldAdjustTheCount() {
+        // Act
+        imageReferences.retain(COUNTED);
+        imageReferences.release(COUNTED);
+
+        // Assert
+        verify(repository, times(1)).upsertCount(COUNTED, 1);
+        verify(repository, times(1)).decrement(COUNTED);
+    }
+
+    @Test
+    void lockUnreferenced_ShouldKeepCountedAndLegacyReferencedImages() {
+        // Arrange
+        when(repository.findAllForUpdate(anyCollection())).thenReturn(List.of(
+                new ImageReference(COUNTED, 1), new ImageReference(LEGACY, 0), new ImageReference(UNUSED, 0)));
+        when(experienceRepository.findReferencedImageNames(anyCollection())).thenReturn(List.of(LEGACY));
+
+        // Act
+        Set<String> unreferenced = imageReferences.lockUnreferenced(Set.of(UNUSED, COUNTED, LEGACY));
+
+        // Assert
+        assertEquals(Set.of(UNUSED), unreferenced);
+    }
+
+    @Test
+    void lockUnreferenced_ShouldCreateMissingRowsInKeyOrderBeforeLocking() {
+        // Arrange
+        when(repository.findAllForUpdate(anyCollection())).thenReturn(List.of());
+        when(experienceRepository.findReferencedImageNames(anyCollection())).thenReturn(List.of());
+
+        // Act
+        imageReferences.lockUnreferenced(List.of(UNUSED, COUNTED, LEGACY));
+
+        // Assert
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).upsertCount(LEGACY, 0);
+        inOrder.verify(repository).upsertCount(COUNTED, 0);
+        inOrder.verify(repository).upsertCount(UNUSED, 0);
+        inOrder.verify(repository).findAllForUpdate(anyCollection());
+    }
+
+    @Test
+    void forget_WithNothingDeleted_ShouldNotTouchTheTable() {
+        // Act
+        imageReferences.forget(Set.of());
+
+        // Assert
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,304 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.repository.ImageDeletionOutboxRepository;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageRenditionPipelineTest {
+
+    private static final String IMAGE_URL = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.jpg";
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private InterviewExperienceRepository repository;
+
+    @Mock
+    private ImageDeletionOutboxRepository imageDeletionOutbox;
+
+    @Mock
+    private CompanyFeedVersions companyFeedVersions;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageRenditionPipeline pipeline;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        id = UUID.randomUUID();
+        pipeline = new ImageRenditionPipeline(fileService, repository, imageDeletionOutbox, companyFeedVersions, cacheManager, transactionManager);
+        ReflectionTestUtils.setField(pipeline, "workers", 1);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 1);
+        ReflectionTestUtils.setField(pipeline, "thumbnailWidth", 320);
+        ReflectionTestUtils.setField(pipeline, "mediumWidth", 1080);
+        ReflectionTestUtils.setField(pipeline, "quality", 0.8f);
+        ReflectionTestUtils.setField(pipeline, "maxPixels", 50_000_000L);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.destroy();
+    }
+
+    @Test
+    void render_ShouldStoreResizedVariantsWithoutExif() throws IOException {
+        // Arrange
+        when(fileService.openImage(IMAGE_URL)).thenReturn(new ByteArrayInputStream(jpegWithExif(2400, 1200)));
+        when(fileService.storeRendition(eq(IMAGE_URL), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> IMAGE_URL + "_" + invocation.getArgument(1));
+        when(repository.updateImageRenditions(eq(id), eq(IMAGE_URL), any(), any())).thenReturn(1);
+
+        // Act
+        pipeline.render(id, IMAGE_URL, "Google");
+
+        // Assert
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(fileService).storeRendition(eq(IMAGE_URL), eq("thumbnail.jpg"), eq("image/jpeg"), content.capture());
+        verify(fileService).storeRendition(eq(IMAGE_URL), eq("medium.jpg"), eq("image/jpeg"), content.capture());
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(content.getAllValues().get(0)));
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(content.getAllValues().get(1)));
+        assertEquals(320, thumbnail.getWidth());
+        assertEquals(160, thumbnail.getHeight());
+        assertEquals(1080, medium.getWidth());
+        assertEquals(540, medium.getHeight());
+        for (byte[] rendition : content.getAllValues()) {
+            assertFalse(new String(rendition, StandardCharsets.ISO_8859_1).contains("Exif"));
+        }
+    }
+
+    @Test
+    void render_ShouldAttachRenditionsAndInvalidateCaches() throws IOException {
+        // Arrange
+        Cache byId = mock(Cache.class);
+        when(fileService.openImage(IMAGE_URL)).thenReturn(new ByteArrayInputStream(jpegWithExif(800, 600)));
+        when(fileService.storeRendition(eq(IMAGE_URL), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> IMAGE_URL + "_" + invocation.getArgument(1));
+        when(repository.updateImageRenditions(eq(id), eq(IMAGE_URL), any(), any())).thenReturn(1);
+        when(cacheManager.getCache(AppConstants.CACHE_INTERVIEW_BY_ID)).thenReturn(byId);
+
+        // Act
+        pipeline.render(id, IMAGE_URL, "Google");
+
+        // Assert
+        verify(repository).updateImageRenditions(eq(id), eq(IMAGE_URL), argThat(renditions ->
+                (IMAGE_URL + "_thumbnail.jpg").equals(renditions.get(ImageRenditionPipeline.THUMBNAIL))
+                        && (IMAGE_URL + "_medium.jpg").equals(renditions.get(ImageRenditionPipeline.MEDIUM))), any());
+        verify(byId).evict(id);
+        verify(companyFeedVersions).bump("Google");
+        verifyNoInteractions(imageDeletionOutbox);
+    }
+
+    @Test
+    void render_WhenImageWasReplaced_ShouldQueueNewRenditionsForDeletion() throws IOException {
+        // Arrange
+        when(fileService.openImage(IMAGE_URL)).thenReturn(new ByteArrayInputStream(jpegWithExif(800, 600)));
+        when(fileService.storeRendition(eq(IMAGE_URL), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> IMAGE_URL + "_" + invocation.getArgument(1));
+        when(repository.updateImageRenditions(eq(id), eq(IMAGE_URL), any(), any())).thenReturn(0);
+
+        // Act
+        pipeline.render(id, IMAGE_URL, "Google");
+
+        // Assert: the dispatcher decides under the reference lock whether the image is still shared
+        verify(imageDeletionOutbox).save(argThat(deletion -> deletion.getImageUrl().equals(IMAGE_URL)
+                && deletion.getRenditions().containsValue(IMAGE_URL + "_thumbnail.jpg")
+                && deletion.getRenditions().containsValue(IMAGE_URL + "_medium.jpg")));
+        verify(fileService, never()).deleteImages(any());
+        verifyNoInteractions(companyFeedVersions, cacheManager);
+    }
+
+    @Test
+    void render_WhenStoringFails_ShouldQueuePartialRenditionsForDeletion() throws IOException {
+        // Arrange
+        when(fileService.openImage(IMAGE_URL)).thenReturn(new ByteArrayInputStream(jpegWithExif(800, 600)));
+        when(fileService.storeRendition(eq(IMAGE_URL), startsWith(ImageRenditionPipeline.THUMBNAIL), anyString(), any()))
+                .thenAnswer(invocation -> IMAGE_URL + "_" + invocation.getArgument(1));
+        when(fileService.storeRendition(eq(IMAGE_URL), startsWith(ImageRenditionPipeline.MEDIUM), anyString(), any()))
+                .thenThrow(new RuntimeException("S3 unavailable"));
+
+        // Act
+        pipeline.render(id, IMAGE_URL, "Google");
+
+        // Assert
+        verify(imageDeletionOutbox).save(argThat(deletion -> deletion.getImageUrl().equals(IMAGE_URL)
+                && deletion.getRenditions().containsValue(IMAGE_URL + "_thumbnail.jpg")));
+        verify(fileService, never()).deleteImages(any());
+        verify(repository, never()).updateImageRenditions(any(), any(), any(), any());
+    }
+
+    @Test
+    void render_WithUndecodableImage_ShouldStoreNothing() throws IOException {
+        // Arrange
+        when(fileService.openImage(IMAGE_URL)).thenReturn(new ByteArrayInputStream("not an image".getBytes()));
+
+        // Act
+        pipeline.render(id, IMAGE_URL, "Google");
+
+        // Assert
+        verify(fileService, never()).storeRendition(anyString(), anyString(), anyString(), any());
+        verifyNoInteractions(repository, companyFeedVersions);
+    }
+
+    @Test
+    void render_WithTransparentImage_ShouldKeepPng() throws IOException {
+        // Arrange
+        BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        when(fileService.openImage(IMAGE_URL)).thenReturn(new ByteArrayInputStream(png.toByteArray()));
+        when(fileService.storeRendition(eq(IMAGE_URL), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> IMAGE_URL + "_" + invocation.getArgument(1));
+        when(repository.updateImageRenditions(eq(id), eq(IMAGE_URL), any(), any())).thenReturn(1);
+
+        // Act
+        pipeline.render(id, IMAGE_URL, "Google");
+
+        // Assert
+        verify(fileService).storeRendition(eq(IMAGE_URL), eq("thumbnail.png"), eq("image/png"), any());
+        verify(fileService).storeRendition(eq(IMAGE_URL), eq("medium.png"), eq("image/png"), any());
+    }
+
+    @Test
+    void scale_ShouldNeverUpscale() {
+        // Arrange
+        BufferedImage small = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+
+        // Act
+        BufferedImage result = ImageRenditionPipeline.scale(small, 320);
+
+        // Assert
+        assertEquals(100, result.getWidth());
+        assertEquals(50, result.getHeight());
+    }
+
+    @Test
+    void originalOf_ShouldStripVariantSuffixOnlyFromRenditions() {
+        // Arrange
+        String original = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc.jpg";
+
+        // Act & Assert
+        assertEquals(original, ImageRenditionPipeline.originalOf(original + "_thumbnail.jpg"));
+        assertEquals(original, ImageRenditionPipeline.originalOf(original + "_thumbnail.png"));
+        assertEquals(original, ImageRenditionPipeline.originalOf(original + "_medium.jpg"));
+        assertEquals(original, ImageRenditionPipeline.originalOf(original + "_thumbnail.webp"));
+        assertEquals(original, ImageRenditionPipeline.originalOf(original + "_medium.webp"));
+        assertNull(ImageRenditionPipeline.originalOf(original));
+        assertNull(ImageRenditionPipeline.originalOf(original + "_thumbnail"));
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ShouldDropWithoutBlocking() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(fileService.openImage(IMAGE_URL)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ByteArrayInputStream("not an image".getBytes());
+        });
+
+        // Act: one image runs, one waits in the queue of capacity 1, the third is rejected
+        pipeline.submit(id, IMAGE_URL, "Google");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        pipeline.submit(id, IMAGE_URL, "Google");
+        assertDoesNotThrow(() -> pipeline.submit(id, IMAGE_URL, "Google"));
+        release.countDown();
+
+        // Assert
+        verify(fileService, timeout(5000).times(2)).openImage(IMAGE_URL);
+        Thread.sleep(100);
+        verify(fileService, times(2)).openImage(IMAGE_URL);
+    }
+
+    @Test
+    void submit_InsideTransaction_ShouldQueueOnlyAfterCommit() throws IOException {
+        // Arrange
+        when(fileService.openImage(IMAGE_URL)).thenReturn(new ByteArrayInputStream("not an image".getBytes()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            pipeline.submit(id, IMAGE_URL, "Google");
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // Assert
+            verify(fileService, after(100).never()).openImage(anyString());
+            assertEquals(1, synchronizations.size());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            verify(fileService, timeout(5000)).openImage(IMAGE_URL);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void submit_WithoutImage_ShouldDoNothing() {
+        // Act
+        pipeline.submit(id, null, "Google");
+
+        // Assert
+        verifyNoInteractions(fileService, repository);
+    }
+
+    // JPEG with an APP1 Exif segment spliced in after the JFIF header, like a camera would write
+    private static byte[] jpegWithExif(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", jpeg);
+        byte[] plain = jpeg.toByteArray();
+
+        byte[] exif = "Exif\0\0GPS 52.5200N 13.4050E".getBytes(StandardCharsets.ISO_8859_1);
+        int app0End = 4 + (((plain[4] & 0xFF) << 8) | (plain[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(plain, 0, app0End);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write((exif.length + 2) >> 8);
+        out.write((exif.length + 2) & 0xFF);
+        out.write(exif);
+        out.write(plain, app0End, plain.length - app0End);
+        return out.toByteArray();
+    }
+}
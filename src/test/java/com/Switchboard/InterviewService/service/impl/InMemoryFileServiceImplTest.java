@@ -0,0 +1,40 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.ImageResource;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryFileServiceImplTest extends FileServiceContractTest {
+
+    @Override
+    protected FileService createFileService() {
+        InMemoryFileServiceImpl inMemoryFileService = new InMemoryFileServiceImpl();
+        ReflectionTestUtils.setField(inMemoryFileService, "publicUrl", "http://localhost:8080/api/v1/interview/image");
+        return inMemoryFileService;
+    }
+
+    @Test
+    void transferTo_AfterTheImageWasDeleted_ShouldFailRatherThanServeStaleHeaders() throws IOException {
+        // Arrange
+        String imageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, png("content"));
+        ImageResource image = fileService.getResource(AppConstants.PATH_VARIABLE, imageUrl.substring(imageUrl.lastIndexOf('/') + 1));
+        fileService.deleteImage(imageUrl);
+
+        // Act & Assert
+        assertThrows(FileNotFoundException.class, () -> image.transferTo(0, image.contentLength(), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void presignUpload_ShouldBeUnsupported() {
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> fileService.presignUpload("photo.png", "image/png", 100));
+    }
+}
@@ -0,0 +1,142 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterviewCountEstimatorTest {
+
+    @Mock
+    private InterviewExperienceRepository repository;
+
+    @InjectMocks
+    private InterviewCountEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(estimator, "cacheTtlSeconds", 60L);
+    }
+
+    @Test
+    void estimate_WithPlannerStatistics_ShouldNotCount() {
+        // Arrange
+        when(repository.estimateRowCount()).thenReturn(12345L);
+
+        // Act
+        long result = estimator.estimate();
+
+        // Assert
+        assertEquals(12345L, result);
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void estimate_WhenTableNeverAnalyzed_ShouldFallBackToCachedCount() {
+        // Arrange
+        when(repository.estimateRowCount()).thenReturn(-1L);
+        when(repository.count()).thenReturn(42L);
+
+        // Act
+        long first = estimator.estimate();
+        long second = estimator.estimate();
+
+        // Assert
+        assertEquals(42L, first);
+        assertEquals(42L, second);
+        verify(repository, times(1)).count();
+    }
+
+    @Test
+    void estimate_WhenEstimateQueryFails_ShouldFallBackToCachedCount() {
+        // Arrange
+        when(repository.estimateRowCount()).thenThrow(new RuntimeException("pg_class not available"));
+        when(repository.count()).thenReturn(7L);
+
+        // Act
+        long result = estimator.estimate();
+
+        // Assert
+        assertEquals(7L, result);
+    }
+
+    @Test
+    void estimate_WhenCacheExpired_ShouldRecount() {
+        // Arrange
+        ReflectionTestUtils.setField(estimator, "cacheTtlSeconds", 0L);
+        when(repository.estimateRowCount()).thenReturn(null);
+        when(repository.count()).thenReturn(1L, 2L);
+
+        // Act
+        estimator.estimate();
+        long result = estimator.estimate();
+
+        // Assert
+        assertEquals(2L, result);
+        verify(repository, times(2)).count();
+    }
+
+    @Test
+    void recordCountSkipped_ShouldNotThrowBeforeAnyCount() {
+        // Act & Assert
+        assertDoesNotThrow(() -> estimator.recordCountSkipped("slice"));
+    }
+
+    @Test
+    void sampleCountCost_ShouldMeasureExactCountEvenWithPlannerStatistics() {
+        // Arrange
+        ReflectionTestUtils.setField(estimator, "sampleEnabled", true);
+        when(repository.count()).thenReturn(100L);
+
+        // Act
+        estimator.sampleCountCost();
+
+        // Assert
+        verify(repository, times(1)).count();
+        assertTrue((long) ReflectionTestUtils.getField(estimator, "lastCountNanos") > 0);
+        assertDoesNotThrow(() -> estimator.recordCountSkipped("estimate"));
+    }
+
+    @Test
+    void sampleCountCost_ShouldRefreshTheFallbackCount() {
+        // Arrange
+        ReflectionTestUtils.setField(estimator, "sampleEnabled", true);
+        when(repository.count()).thenReturn(100L);
+        when(repository.estimateRowCount()).thenReturn(-1L);
+        estimator.sampleCountCost();
+
+        // Act
+        long result = estimator.estimate();
+
+        // Assert
+        assertEquals(100L, result);
+        verify(repository, times(1)).count();
+    }
+
+    @Test
+    void sampleCountCost_WhenCountFails_ShouldNotThrow() {
+        // Arrange
+        ReflectionTestUtils.setField(estimator, "sampleEnabled", true);
+        when(repository.count()).thenThrow(new RuntimeException("database unavailable"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> estimator.sampleCountCost());
+    }
+
+    @Test
+    void sampleCountCost_WhenDisabled_ShouldNotCount() {
+        // Act
+        estimator.sampleCountCost();
+
+        // Assert
+        verifyNoInteractions(repository);
+    }
+}
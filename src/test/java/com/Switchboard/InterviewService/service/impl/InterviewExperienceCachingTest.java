@@ -0,0 +1,178 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.config.EarlyRefreshCacheManager;
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.InterviewExperienceSummary;
+import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.ImageDeletionOutboxRepository;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.CompanyStatsService;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.InterviewExperienceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies the read-through cache wiring of InterviewExperienceServiceImpl against an
+ * in-process cache standing in for Redis.
+ */
+@SpringJUnitConfig
+class InterviewExperienceCachingTest {
+
+    @Configuration
+    @EnableCaching
+    @Import(InterviewExperienceServiceImpl.class)
+    static class CachingTestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new EarlyRefreshCacheManager(new ConcurrentMapCacheManager(
+                    AppConstants.CACHE_INTERVIEW_BY_ID, AppConstants.CACHE_COMPANY_FEED),
+                    Map.of(), Duration.ofMinutes(10), 1.0);
+        }
+    }
+
+    @MockitoBean
+    private InterviewExperienceRepository repository;
+
+    @MockitoBean
+    private FileService fileService;
+
+    @MockitoBean
+    private InterviewCountEstimator countEstimator;
+
+    @MockitoBean
+    private InterviewExperienceMapper mapper;
+
+    @MockitoBean(name = "companyFeedVersions")
+    private CompanyFeedVersions companyFeedVersions;
+
+    @MockitoBean
+    private LuceneSearchIndex searchIndex;
+
+    @MockitoBean
+    private CompanyTagIndex companyTagIndex;
+
+    @MockitoBean
+    private CompanyStatsService companyStats;
+
+    @MockitoBean
+    private NdjsonExportWriter exportWriter;
+
+    @MockitoBean
+    private ImageRenditionPipeline renditionPipeline;
+
+    @MockitoBean
+    private ImageDeletionOutboxRepository imageDeletionOutbox;
+
+    @MockitoBean
+    private ImageReferences imageReferences;
+
+    @Autowired
+    private InterviewExperienceService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private UUID testId;
+    private InterviewExperience entity;
+    private InterviewExperienceResponse response;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(AppConstants.CACHE_INTERVIEW_BY_ID).clear();
+        cacheManager.getCache(AppConstants.CACHE_COMPANY_FEED).clear();
+        testId = UUID.randomUUID();
+        entity = InterviewExperience.builder().id(testId).title("Interview at Google").build();
+        response = InterviewExperienceResponse.builder().id(testId).title("Interview at Google").build();
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(mapper.toResponse(any(InterviewExperience.class))).thenReturn(response);
+    }
+
+    @Test
+    void getInterviewById_SecondCall_ShouldBeServedFromCache() {
+        // Act
+        InterviewExperienceResponse first = service.getInterviewById(testId);
+        InterviewExperienceResponse second = service.getInterviewById(testId);
+
+        // Assert
+        assertSame(first, second);
+        verify(repository, times(1)).findById(testId);
+    }
+
+    @Test
+    void deleteInterviewExperience_ShouldEvictCachedEntry() {
+        // Arrange
+        service.getInterviewById(testId);
+
+        // Act
+        service.deleteInterviewExperience(testId);
+        service.getInterviewById(testId);
+
+        // Assert: one read before delete, one inside delete, one after eviction
+        verify(repository, times(3)).findById(testId);
+    }
+
+    @Test
+    void updateInterviewExperience_ShouldEvictCachedEntry() throws IOException {
+        // Arrange
+        service.getInterviewById(testId);
+        InterviewExperienceResponse updated = InterviewExperienceResponse.builder().id(testId).title("Updated").build();
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(updated);
+
+        // Act
+        service.updateInterviewExperience(testId, InterviewExperienceRequest.builder().title("Updated").build(), null);
+        InterviewExperienceResponse result = service.getInterviewById(testId);
+
+        // Assert: one read before update, one inside update, one after eviction
+        assertEquals("Updated", result.getTitle());
+        verify(repository, times(3)).findById(testId);
+    }
+
+    @Test
+    void searchByCompany_ShouldBeCachedUntilCompanyVersionChanges() {
+        // Arrange
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        InterviewExperienceSummary summary = InterviewExperienceSummary.builder().id(testId).companyTag("Google").build();
+        when(repository.findSummariesByCompanyTag(eq("Google"), any()))
+                .thenReturn(new SliceImpl<>(List.of(summary), pageRequest, false));
+        when(companyFeedVersions.current("Google")).thenReturn(1L, 1L, 2L);
+
+        // Act
+        PageResponseDTO first = service.searchByCompany("Google", 0, 10);
+        PageResponseDTO second = service.searchByCompany("Google", 0, 10);
+        PageResponseDTO afterBump = service.searchByCompany("Google", 0, 10);
+
+        // Assert: the second call hits the cache, the version bump forces a fresh read
+        assertSame(first, second);
+        assertNotSame(first, afterBump);
+        verify(repository, times(2)).findSummariesByCompanyTag(eq("Google"), any());
+    }
+}
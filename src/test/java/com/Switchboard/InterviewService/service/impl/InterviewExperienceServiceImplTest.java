@@ -1,30 +1,52 @@
 package com.Switchboard.InterviewService.service.impl;
 
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.BulkDeleteResultDTO;
+import com.Switchboard.InterviewService.dto.CompanyTagSuggestion;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.InterviewExperienceSummary;
+import com.Switchboard.InterviewService.dto.PageCursor;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.dto.SearchResponseDTO;
+import com.Switchboard.InterviewService.dto.InterviewSearchResult;
+import com.Switchboard.InterviewService.dto.InterviewSearchHit;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
 import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.model.ImageDeletionOutbox;
+import com.Switchboard.InterviewService.repository.ImageDeletionOutboxRepository;
 import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.CompanyStatsService;
 import com.Switchboard.InterviewService.service.FileService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
-import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,11 +58,41 @@ class InterviewExperienceServiceImplTest {
     @Mock
     private InterviewExperienceRepository repository;
 
+    @Mock
+    private ImageDeletionOutboxRepository imageDeletionOutbox;
+
+    @Mock
+    private ImageReferences imageReferences;
+
     @Mock
     private FileService fileService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private InterviewCountEstimator countEstimator;
+
+    @Mock
+    private InterviewExperienceMapper mapper;
+
+    @Mock
+    private CompanyFeedVersions companyFeedVersions;
+
+    @Mock
+    private LuceneSearchIndex searchIndex;
+
+    @Mock
+    private CompanyTagIndex companyTagIndex;
+
+    @Mock
+    private CompanyStatsService companyStats;
+
+    @Mock
+    private NdjsonExportWriter exportWriter;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ImageRenditionPipeline renditionPipeline;
 
     @InjectMocks
     private InterviewExperienceServiceImpl service;
@@ -48,6 +100,7 @@ class InterviewExperienceServiceImplTest {
     private InterviewExperienceRequest request;
     private InterviewExperience entity;
     private InterviewExperienceResponse response;
+    private InterviewExperienceSummary summary;
     private UUID testId;
 
     @BeforeEach
@@ -74,6 +127,17 @@ class InterviewExperienceServiceImplTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        summary = InterviewExperienceSummary.builder()
+                .id(testId)
+                .userName("Jane Smith")
+                .title("Software Engineer Interview at Amazon")
+                .excerpt("Detailed interview experience content here...")
+                .companyTag("Amazon")
+                .imageName("https://s3.amazonaws.com/bucket/image.jpg")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
         response = InterviewExperienceResponse.builder()
                 .id(testId)
                 .userName("Jane Smith")
@@ -90,9 +154,9 @@ class InterviewExperienceServiceImplTest {
     @Test
     void createInterviewExperience_WithoutImage_ShouldSaveAndReturnResponse() {
         // Arrange
-        when(modelMapper.map(request, InterviewExperience.class)).thenReturn(entity);
+        when(mapper.toEntity(request)).thenReturn(entity);
         when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(mapper.toResponse(entity)).thenReturn(response);
 
         // Act
         InterviewExperienceResponse result = service.createInterviewExperience(request, null);
@@ -108,9 +172,9 @@ class InterviewExperienceServiceImplTest {
     void createInterviewExperience_WithImage_ShouldSetImageUrlAndSave() {
         // Arrange
         String imageUrl = "https://s3.amazonaws.com/bucket/new-image.jpg";
-        when(modelMapper.map(request, InterviewExperience.class)).thenReturn(entity);
+        when(mapper.toEntity(request)).thenReturn(entity);
         when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(mapper.toResponse(entity)).thenReturn(response);
 
         // Act
         InterviewExperienceResponse result = service.createInterviewExperience(request, imageUrl);
@@ -120,83 +184,162 @@ class InterviewExperienceServiceImplTest {
         verify(repository, times(1)).save(argThat(exp -> 
             exp.getImageName() != null && exp.getImageName().equals(imageUrl)
         ));
+        // The caller already holds the reference, which passes to the new experience
+        verifyNoInteractions(imageReferences);
+    }
+
+    @Test
+    void createInterviewExperience_WithUploadedImageUrl_ShouldRetainBeforeVerifyingAndAttach() {
+        // Arrange
+        String uploadedImageUrl = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.png";
+        request.setUploadedImageUrl(uploadedImageUrl);
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.createInterviewExperience(request, null);
+
+        // Assert
+        InOrder inOrder = inOrder(imageReferences, fileService, repository);
+        inOrder.verify(imageReferences).retain(uploadedImageUrl);
+        inOrder.verify(fileService).verifyUploadedImage(uploadedImageUrl);
+        inOrder.verify(repository).save(argThat(exp -> uploadedImageUrl.equals(exp.getImageName())));
     }
 
     @Test
-    void searchByEmail_ShouldReturnListOfExperiences() {
+    void createInterviewExperience_WhenUploadedImageIsRejected_ShouldNotSave() {
+        // Arrange
+        String uploadedImageUrl = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.png";
+        request.setUploadedImageUrl(uploadedImageUrl);
+        when(mapper.toEntity(request)).thenReturn(entity);
+        doThrow(new IllegalArgumentException("Uploaded image not found")).when(fileService).verifyUploadedImage(uploadedImageUrl);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.createInterviewExperience(request, null));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void createInterviewExperience_InTransaction_ShouldUpdateFeedAndIndexesOnlyAfterCommit() {
+        // Arrange
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            service.createInterviewExperience(request, null);
+
+            // Assert
+            verify(companyStats).recordPost("Amazon", entity.getCreatedAt(), 1);
+            verifyNoInteractions(companyFeedVersions, searchIndex, companyTagIndex);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(companyFeedVersions).bump("Amazon");
+            verify(searchIndex).index(entity);
+            verify(companyTagIndex).increment("Amazon");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void searchByEmail_ShouldReturnPageOfExperiences() {
         // Arrange
         String email = "jane.smith@example.com";
-        List<InterviewExperience> experiences = Arrays.asList(entity);
-        when(repository.findByUserEmailOrderByCreatedAtDesc(email)).thenReturn(experiences);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        when(repository.findSummariesByUserEmail(email, pageRequest))
+                .thenReturn(new SliceImpl<>(Arrays.asList(summary), pageRequest, false));
 
         // Act
-        List<InterviewExperienceResponse> result = service.searchByEmail(email);
+        PageResponseDTO result = service.searchByEmail(email, 0, 10);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(response.getUserEmail(), result.get(0).getUserEmail());
-        verify(repository, times(1)).findByUserEmailOrderByCreatedAtDesc(email);
+        assertEquals(1, result.getContent().size());
+        assertEquals(summary.getUserName(), result.getContent().get(0).getUserName());
+        assertTrue(result.isLastPage());
+        verify(repository, times(1)).findSummariesByUserEmail(email, pageRequest);
     }
 
     @Test
-    void searchByEmail_WithNoResults_ShouldReturnEmptyList() {
+    void searchByEmail_WithNoResults_ShouldReturnEmptyPage() {
         // Arrange
         String email = "nonexistent@example.com";
-        when(repository.findByUserEmailOrderByCreatedAtDesc(email)).thenReturn(Arrays.asList());
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        when(repository.findSummariesByUserEmail(email, pageRequest))
+                .thenReturn(new SliceImpl<>(Arrays.asList(), pageRequest, false));
 
         // Act
-        List<InterviewExperienceResponse> result = service.searchByEmail(email);
+        PageResponseDTO result = service.searchByEmail(email, 0, 10);
 
         // Assert
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(repository, times(1)).findByUserEmailOrderByCreatedAtDesc(email);
+        assertTrue(result.getContent().isEmpty());
+        verify(repository, times(1)).findSummariesByUserEmail(email, pageRequest);
     }
 
     @Test
-    void searchByCompany_ShouldReturnListOfExperiences() {
+    void searchByCompany_ShouldReturnPageOfExperiences() {
         // Arrange
         String company = "Amazon";
-        List<InterviewExperience> experiences = Arrays.asList(entity);
-        when(repository.findByCompanyTagOrderByCreatedAtDesc(company)).thenReturn(experiences);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        PageRequest pageRequest = PageRequest.of(2, 5);
+        when(repository.findSummariesByCompanyTag(company, pageRequest))
+                .thenReturn(new SliceImpl<>(Arrays.asList(summary), pageRequest, true));
 
         // Act
-        List<InterviewExperienceResponse> result = service.searchByCompany(company);
+        PageResponseDTO result = service.searchByCompany(company, 2, 5);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(response.getCompanyTag(), result.get(0).getCompanyTag());
-        verify(repository, times(1)).findByCompanyTagOrderByCreatedAtDesc(company);
+        assertEquals(1, result.getContent().size());
+        assertEquals(summary.getCompanyTag(), result.getContent().get(0).getCompanyTag());
+        assertEquals(2, result.getPageNumber());
+        assertFalse(result.isLastPage());
+        verify(repository, times(1)).findSummariesByCompanyTag(company, pageRequest);
     }
 
     @Test
-    void searchByCompany_WithNoResults_ShouldReturnEmptyList() {
+    void searchByCompany_WithNoResults_ShouldReturnEmptyPage() {
         // Arrange
         String company = "NonExistentCompany";
-        when(repository.findByCompanyTagOrderByCreatedAtDesc(company)).thenReturn(Arrays.asList());
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        when(repository.findSummariesByCompanyTag(company, pageRequest))
+                .thenReturn(new SliceImpl<>(Arrays.asList(), pageRequest, false));
 
         // Act
-        List<InterviewExperienceResponse> result = service.searchByCompany(company);
+        PageResponseDTO result = service.searchByCompany(company, 0, 10);
 
         // Assert
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(repository, times(1)).findByCompanyTagOrderByCreatedAtDesc(company);
+        assertTrue(result.getContent().isEmpty());
+        verify(repository, times(1)).findSummariesByCompanyTag(company, pageRequest);
+    }
+
+    @Test
+    void searchByCompany_WithOversizedPage_ShouldCapPageSize() {
+        // Arrange
+        String company = "Google";
+        PageRequest capped = PageRequest.of(0, 100);
+        when(repository.findSummariesByCompanyTag(company, capped))
+                .thenReturn(new SliceImpl<>(Arrays.asList(), capped, false));
+
+        // Act
+        service.searchByCompany(company, 0, 100000);
+
+        // Assert
+        verify(repository, times(1)).findSummariesByCompanyTag(company, capped);
     }
 
     @Test
     void getAllInterviews_WithAscendingSort_ShouldReturnPagedResponse() {
         // Arrange
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("updatedAt").ascending());
-        List<InterviewExperience> experiences = Arrays.asList(entity);
-        Page<InterviewExperience> page = new PageImpl<>(experiences, pageRequest, 1);
+        List<InterviewExperienceSummary> experiences = Arrays.asList(summary);
+        Page<InterviewExperienceSummary> page = new PageImpl<>(experiences, pageRequest, 1);
         
-        when(repository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(repository.findSummaryPage(any(PageRequest.class))).thenReturn(page);
 
         // Act
         PageResponseDTO result = service.getAllInterviews(0, 10, "updatedAt", "asc");
@@ -209,18 +352,17 @@ class InterviewExperienceServiceImplTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(1, result.getTotalPages());
         assertTrue(result.isLastPage());
-        verify(repository, times(1)).findAll(any(PageRequest.class));
+        verify(repository, times(1)).findSummaryPage(any(PageRequest.class));
     }
 
     @Test
     void getAllInterviews_WithDescendingSort_ShouldReturnPagedResponse() {
         // Arrange
         PageRequest pageRequest = PageRequest.of(1, 20, Sort.by("createdAt").descending());
-        List<InterviewExperience> experiences = Arrays.asList(entity);
-        Page<InterviewExperience> page = new PageImpl<>(experiences, pageRequest, 25);
+        List<InterviewExperienceSummary> experiences = Arrays.asList(summary);
+        Page<InterviewExperienceSummary> page = new PageImpl<>(experiences, pageRequest, 25);
         
-        when(repository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(repository.findSummaryPage(any(PageRequest.class))).thenReturn(page);
 
         // Act
         PageResponseDTO result = service.getAllInterviews(1, 20, "createdAt", "desc");
@@ -230,14 +372,110 @@ class InterviewExperienceServiceImplTest {
         assertEquals(1, result.getContent().size());
         assertEquals(1, result.getPageNumber());
         assertEquals(20, result.getPageSize());
-        verify(repository, times(1)).findAll(any(PageRequest.class));
+        verify(repository, times(1)).findSummaryPage(any(PageRequest.class));
+    }
+
+    @Test
+    void getAllInterviews_ShouldReturnSummariesWithoutMappingEntities() {
+        // Arrange
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("updatedAt").ascending());
+        when(repository.findSummaryPage(pageRequest)).thenReturn(new PageImpl<>(Arrays.asList(summary), pageRequest, 1));
+
+        // Act
+        PageResponseDTO result = service.getAllInterviews(0, 10, "updatedAt", "asc");
+
+        // Assert
+        assertSame(summary, result.getContent().get(0));
+        assertEquals(summary.getExcerpt(), result.getContent().get(0).getExcerpt());
+        verifyNoInteractions(mapper);
+        verify(repository, never()).findAll(any(PageRequest.class));
+    }
+
+    @Test
+    void getInterviewsSlice_ShouldNotCountAndReportOnlyLastPage() {
+        // Arrange
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("updatedAt").ascending());
+        when(repository.findSummarySlice(pageRequest)).thenReturn(new SliceImpl<>(Arrays.asList(summary), pageRequest, true));
+
+        // Act
+        PageResponseDTO result = service.getInterviewsSlice(0, 10, "updatedAt", "asc");
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isLastPage());
+        assertEquals(0, result.getTotalElements());
+        assertFalse(result.isApproximate());
+        verify(repository, never()).findSummaryPage(any(PageRequest.class));
+        verify(repository, never()).count();
+        verify(countEstimator, times(1)).recordCountSkipped("slice");
+    }
+
+    @Test
+    void getInterviewsWithEstimatedTotal_ShouldReturnApproximateTotals() {
+        // Arrange
+        PageRequest pageRequest = PageRequest.of(1, 10, Sort.by("createdAt").descending());
+        when(repository.findSummarySlice(pageRequest)).thenReturn(new SliceImpl<>(Arrays.asList(summary), pageRequest, false));
+        when(countEstimator.estimate()).thenReturn(21L);
+
+        // Act
+        PageResponseDTO result = service.getInterviewsWithEstimatedTotal(1, 10, "createdAt", "desc");
+
+        // Assert
+        assertEquals(21, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        assertTrue(result.isLastPage());
+        assertTrue(result.isApproximate());
+        verify(repository, never()).findSummaryPage(any(PageRequest.class));
+        verify(countEstimator, times(1)).recordCountSkipped("estimate");
+    }
+
+    @Test
+    void getInterviewsByCursor_FirstPageWithMoreRows_ShouldReturnNextCursor() {
+        // Arrange
+        InterviewExperienceSummary older = InterviewExperienceSummary.builder()
+                .id(UUID.randomUUID())
+                .createdAt(summary.getCreatedAt().minusDays(1))
+                .build();
+        when(repository.findFirstSummaryPage(PageRequest.of(0, 2))).thenReturn(Arrays.asList(summary, older));
+
+        // Act
+        PageResponseDTO result = service.getInterviewsByCursor(null, 1);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isLastPage());
+        assertEquals(new PageCursor(summary.getCreatedAt(), testId).encode(), result.getNextCursor());
+        verify(repository, never()).findSummaryPageAfter(any(), any(), any());
+    }
+
+    @Test
+    void getInterviewsByCursor_WithCursorOnLastPage_ShouldSeekAndOmitNextCursor() {
+        // Arrange
+        PageCursor cursor = new PageCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(repository.findSummaryPageAfter(cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, 11))).thenReturn(Arrays.asList(summary));
+
+        // Act
+        PageResponseDTO result = service.getInterviewsByCursor(cursor.encode(), 10);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isLastPage());
+        assertNull(result.getNextCursor());
+        verify(repository, never()).findSummaryPage(any(PageRequest.class));
+    }
+
+    @Test
+    void getInterviewsByCursor_WithMalformedCursor_ShouldThrowIllegalArgument() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.getInterviewsByCursor("not-a-cursor", 10));
+        verifyNoInteractions(repository);
     }
 
     @Test
     void getInterviewById_WhenExists_ShouldReturnResponse() {
         // Arrange
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(mapper.toResponse(entity)).thenReturn(response);
 
         // Act
         InterviewExperienceResponse result = service.getInterviewById(testId);
@@ -276,14 +514,13 @@ class InterviewExperienceServiceImplTest {
         // Assert
         verify(repository, times(1)).findById(testId);
         verify(repository, times(1)).delete(entity);
-        verify(fileService, never()).deleteImage(anyString());
+        verify(imageDeletionOutbox, never()).save(any());
     }
 
     @Test
-    void deleteInterviewExperience_WithImage_ShouldDeleteImageAndEntity() {
+    void deleteInterviewExperience_WithImage_ShouldQueueImageAndDeleteEntity() {
         // Arrange
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        doNothing().when(fileService).deleteImage(entity.getImageName());
         doNothing().when(repository).delete(entity);
 
         // Act
@@ -291,7 +528,8 @@ class InterviewExperienceServiceImplTest {
 
         // Assert
         verify(repository, times(1)).findById(testId);
-        verify(fileService, times(1)).deleteImage(entity.getImageName());
+        verify(imageReferences, times(1)).release(entity.getImageName());
+        verify(imageDeletionOutbox, times(1)).save(argThat(deletion -> deletion.getImageUrl().equals(entity.getImageName())));
         verify(repository, times(1)).delete(entity);
     }
 
@@ -307,7 +545,7 @@ class InterviewExperienceServiceImplTest {
 
         // Assert
         verify(repository, times(1)).findById(testId);
-        verify(fileService, never()).deleteImage(anyString());
+        verify(imageDeletionOutbox, never()).save(any());
         verify(repository, times(1)).delete(entity);
     }
 
@@ -327,18 +565,19 @@ class InterviewExperienceServiceImplTest {
     }
 
     @Test
-    void deleteInterviewExperience_WhenS3DeleteFails_ShouldStillDeleteEntity() {
+    void deleteInterviewExperience_WithImage_ShouldQueueDeletionInsteadOfCallingS3() {
         // Arrange
+        Map<String, String> renditions = Map.of("thumbnail", entity.getImageName() + "_thumbnail.jpg");
+        entity.setImageRenditions(renditions);
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        doThrow(new RuntimeException("S3 delete failed")).when(fileService).deleteImage(anyString());
-        doNothing().when(repository).delete(entity);
 
         // Act
         service.deleteInterviewExperience(testId);
 
         // Assert
-        verify(repository, times(1)).findById(testId);
-        verify(fileService, times(1)).deleteImage(entity.getImageName());
+        verify(imageDeletionOutbox, times(1)).save(argThat(deletion ->
+                deletion.getImageUrl().equals(entity.getImageName()) && renditions.equals(deletion.getRenditions())));
+        verifyNoInteractions(fileService);
         verify(repository, times(1)).delete(entity);
     }
 
@@ -347,7 +586,7 @@ class InterviewExperienceServiceImplTest {
         // Arrange
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
         when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(mapper.toResponse(entity)).thenReturn(response);
 
         // Act
         InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, null);
@@ -356,79 +595,81 @@ class InterviewExperienceServiceImplTest {
         assertNotNull(result);
         verify(repository, times(1)).findById(testId);
         verify(repository, times(1)).save(any(InterviewExperience.class));
-        verify(fileService, never()).uploadImage(anyString(), any());
-        verify(fileService, never()).deleteImage(anyString());
+        verify(fileService, never()).uploadImageAsync(anyString(), any());
+        verify(imageDeletionOutbox, never()).save(any());
     }
 
     @Test
-    void updateInterviewExperience_WithEmptyImage_ShouldNotUploadOrDelete() throws IOException {
+    void updateInterviewExperience_WithNewImage_ShouldQueueOldAndAttachNew() throws IOException {
         // Arrange
-        MockMultipartFile emptyFile = new MockMultipartFile("image", "", "image/jpeg", new byte[0]);
+        String newImageUrl = "https://s3.amazonaws.com/bucket/new-image.jpg";
+        String oldImageUrl = entity.getImageName(); // Get old image URL before the test
+        
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
         when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(mapper.toResponse(entity)).thenReturn(response);
 
         // Act
-        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, emptyFile);
+        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, newImageUrl);
 
         // Assert
         assertNotNull(result);
-        verify(fileService, never()).uploadImage(anyString(), any());
-        verify(fileService, never()).deleteImage(anyString());
+        assertEquals(newImageUrl, entity.getImageName());
+        verify(imageDeletionOutbox, times(1)).save(argThat(deletion -> deletion.getImageUrl().equals(oldImageUrl)));  // Verify old image was queued for deletion
+        verifyNoInteractions(fileService);
+        verify(repository, times(1)).save(any(InterviewExperience.class));
     }
 
     @Test
-    void updateInterviewExperience_WithNewImage_ShouldDeleteOldAndUploadNew() throws IOException {
+    void updateInterviewExperience_WithNewImageButNoOldImage_ShouldOnlyAttachNew() throws IOException {
         // Arrange
-        MockMultipartFile newFile = new MockMultipartFile(
-                "image",
-                "new-image.jpg",
-                "image/jpeg",
-                "new image content".getBytes()
-        );
+        entity.setImageName(null);
         String newImageUrl = "https://s3.amazonaws.com/bucket/new-image.jpg";
-        String oldImageUrl = entity.getImageName(); // Get old image URL before the test
         
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        doNothing().when(fileService).deleteImage(anyString());
-        when(fileService.uploadImage(anyString(), any())).thenReturn(newImageUrl);
         when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(mapper.toResponse(entity)).thenReturn(response);
 
         // Act
-        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, newFile);
+        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, newImageUrl);
 
         // Assert
         assertNotNull(result);
-        verify(fileService, times(1)).deleteImage(oldImageUrl);  // Verify old image was deleted
-        verify(fileService, times(1)).uploadImage(anyString(), any());
-        verify(repository, times(1)).save(any(InterviewExperience.class));
+        assertEquals(newImageUrl, entity.getImageName());
+        verify(imageDeletionOutbox, never()).save(any());
     }
 
     @Test
-    void updateInterviewExperience_WithNewImageButNoOldImage_ShouldOnlyUploadNew() throws IOException {
+    void updateInterviewExperience_WithUploadedImageUrl_ShouldVerifyAttachAndQueueOld() throws IOException {
         // Arrange
-        entity.setImageName(null);
-        MockMultipartFile newFile = new MockMultipartFile(
-                "image",
-                "new-image.jpg",
-                "image/jpeg",
-                "new image content".getBytes()
-        );
-        String newImageUrl = "https://s3.amazonaws.com/bucket/new-image.jpg";
-        
+        String oldImageUrl = entity.getImageName();
+        String uploadedImageUrl = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.png";
+        request.setUploadedImageUrl(uploadedImageUrl);
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        when(fileService.uploadImage(anyString(), any())).thenReturn(newImageUrl);
-        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(repository.save(any(InterviewExperience.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toResponse(entity)).thenReturn(response);
 
         // Act
-        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, newFile);
+        service.updateInterviewExperience(testId, request, null);
 
         // Assert
-        assertNotNull(result);
-        verify(fileService, never()).deleteImage(anyString());
-        verify(fileService, times(1)).uploadImage(anyString(), any());
+        InOrder inOrder = inOrder(imageReferences, fileService);
+        inOrder.verify(imageReferences).retain(uploadedImageUrl);
+        inOrder.verify(fileService).verifyUploadedImage(uploadedImageUrl);
+        verify(imageReferences, times(1)).release(oldImageUrl);
+        verify(imageDeletionOutbox, times(1)).save(argThat(deletion -> deletion.getImageUrl().equals(oldImageUrl)));
+        verify(fileService, never()).uploadImageAsync(anyString(), any());
+        assertEquals(uploadedImageUrl, entity.getImageName());
+    }
+
+    @Test
+    void updateInterviewExperience_WithImageAndUploadedImageUrl_ShouldThrowIllegalArgument() {
+        // Arrange
+        request.setUploadedImageUrl("https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/abc_photo.png");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.updateInterviewExperience(testId, request, "https://s3.amazonaws.com/bucket/new-image.jpg"));
+        verifyNoInteractions(repository, fileService);
     }
 
     @Test
@@ -451,7 +692,7 @@ class InterviewExperienceServiceImplTest {
         // Arrange
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
         when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(mapper.toResponse(entity)).thenReturn(response);
 
         // Act
         service.updateInterviewExperience(testId, request, null);
@@ -465,4 +706,521 @@ class InterviewExperienceServiceImplTest {
             exp.getCompanyTag().equals(request.getCompanyTag())
         ));
     }
+
+    @Test
+    void createInterviewExperience_ShouldBumpCompanyFeedVersion() {
+        // Arrange
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.createInterviewExperience(request, null);
+
+        // Assert
+        verify(companyFeedVersions, times(1)).bump("Amazon");
+    }
+
+    @Test
+    void deleteInterviewExperience_ShouldBumpCompanyFeedVersion() {
+        // Arrange
+        entity.setImageName(null);
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+
+        // Act
+        service.deleteInterviewExperience(testId);
+
+        // Assert
+        verify(companyFeedVersions, times(1)).bump("Amazon");
+    }
+
+    @Test
+    void deleteInterviewExperience_InTransaction_ShouldEvictCachedEntryOnlyAfterCommit() {
+        // Arrange
+        entity.setImageName(null);
+        Cache byId = mock(Cache.class);
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(cacheManager.getCache(AppConstants.CACHE_INTERVIEW_BY_ID)).thenReturn(byId);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            service.deleteInterviewExperience(testId);
+
+            // Assert
+            verify(byId, never()).evict(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(byId, times(1)).evict(testId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void updateInterviewExperience_WhenCompanyChanges_ShouldBumpOldAndNewFeedVersions() throws IOException {
+        // Arrange
+        entity.setCompanyTag("Google");
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.updateInterviewExperience(testId, request, null);
+
+        // Assert
+        verify(companyFeedVersions, times(1)).bump("Amazon");
+        verify(companyFeedVersions, times(1)).bump("Google");
+    }
+
+    @Test
+    void updateInterviewExperience_WhenCompanyUnchanged_ShouldBumpOnce() throws IOException {
+        // Arrange
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.updateInterviewExperience(testId, request, null);
+
+        // Assert
+        verify(companyFeedVersions, times(1)).bump(anyString());
+    }
+
+    @Test
+    void searchInterviews_ShouldMapHitsAndDetectNextPage() {
+        // Arrange
+        InterviewSearchHit hit = mock(InterviewSearchHit.class);
+        InterviewSearchResult result = InterviewSearchResult.builder().id(testId).snippet("<mark>system</mark> design").build();
+        when(repository.searchRanked("system design", null, 2, 0L)).thenReturn(Arrays.asList(hit, hit));
+        when(mapper.toSearchResult(hit)).thenReturn(result);
+
+        // Act
+        SearchResponseDTO response = service.searchInterviews("system design", null, 0, 1);
+
+        // Assert
+        assertEquals(1, response.getResults().size());
+        assertEquals("<mark>system</mark> design", response.getResults().get(0).getSnippet());
+        assertEquals(1, response.getPageSize());
+        assertFalse(response.isLastPage());
+    }
+
+    @Test
+    void searchInterviews_WithCompanyAndOffset_ShouldPassFilterAndOffset() {
+        // Arrange
+        when(repository.searchRanked("system design", "Amazon", 11, 20L)).thenReturn(List.of());
+
+        // Act
+        SearchResponseDTO response = service.searchInterviews("system design", "Amazon", 2, 10);
+
+        // Assert
+        assertTrue(response.getResults().isEmpty());
+        assertTrue(response.isLastPage());
+        verify(repository, times(1)).searchRanked("system design", "Amazon", 11, 20L);
+    }
+
+    @Test
+    void searchInterviews_WithBlankCompany_ShouldSearchAllCompanies() {
+        // Arrange
+        when(repository.searchRanked("graphs", null, 11, 0L)).thenReturn(List.of());
+
+        // Act
+        service.searchInterviews("graphs", " ", 0, 10);
+
+        // Assert
+        verify(repository, times(1)).searchRanked("graphs", null, 11, 0L);
+    }
+
+    @Test
+    void searchInterviews_WithNegativePage_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.searchInterviews("graphs", null, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.searchInterviewsInIndex("graphs", null, -1, 10));
+        verify(repository, never()).searchRanked(any(), any(), anyInt(), anyLong());
+        verify(searchIndex, never()).search(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchInterviews_WithBlankQuery_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.searchInterviews("  ", null, 0, 10));
+        verify(repository, never()).searchRanked(any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void writes_ShouldKeepSearchIndexInSync() throws IOException {
+        // Arrange
+        entity.setImageName(null);
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.createInterviewExperience(request, null);
+        service.updateInterviewExperience(testId, request, null);
+        service.deleteInterviewExperience(testId);
+
+        // Assert
+        verify(searchIndex, times(2)).index(entity);
+        verify(searchIndex, times(1)).remove(testId);
+    }
+
+    @Test
+    void searchInterviewsInIndex_ShouldDelegateWithBoundedPageSize() {
+        // Arrange
+        SearchResponseDTO expected = SearchResponseDTO.builder().results(List.of()).lastPage(true).build();
+        when(searchIndex.search("system design", "Amazon", 0, AppConstants.MAX_PAGE_SIZE)).thenReturn(expected);
+
+        // Act
+        SearchResponseDTO response = service.searchInterviewsInIndex("system design", "Amazon", 0, 5000);
+
+        // Assert
+        assertSame(expected, response);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void searchInterviewsInIndex_WithBlankQuery_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.searchInterviewsInIndex("", null, 0, 10));
+        verify(searchIndex, never()).search(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void writes_ShouldKeepCompanyTagIndexInSync() throws IOException {
+        // Arrange
+        entity.setImageName(null);
+        entity.setCompanyTag("Google");
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.updateInterviewExperience(testId, request, null);
+        service.deleteInterviewExperience(testId);
+
+        // Assert
+        verify(companyTagIndex, times(1)).move("Google", "Amazon");
+        verify(companyTagIndex, times(1)).decrement("Amazon");
+    }
+
+    @Test
+    void createInterviewExperience_ShouldIncrementCompanyTag() {
+        // Arrange
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.createInterviewExperience(request, null);
+
+        // Assert
+        verify(companyTagIndex, times(1)).increment("Amazon");
+    }
+
+    @Test
+    void autocompleteCompanies_ShouldDelegateToIndex() {
+        // Arrange
+        List<CompanyTagSuggestion> suggestions = List.of(new CompanyTagSuggestion("Amazon", 3L));
+        when(companyTagIndex.suggest("am", 5)).thenReturn(suggestions);
+
+        // Act
+        List<CompanyTagSuggestion> result = service.autocompleteCompanies("am", 5);
+
+        // Assert
+        assertSame(suggestions, result);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void createInterviewExperience_ShouldIncrementCompanyStats() {
+        // Arrange
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.createInterviewExperience(request, null);
+
+        // Assert
+        verify(companyStats, times(1)).recordPost("Amazon", entity.getCreatedAt(), 1);
+    }
+
+    @Test
+    void updateInterviewExperience_WhenCompanyChanges_ShouldMoveCompanyStats() throws IOException {
+        // Arrange
+        entity.setCompanyTag("Google");
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.updateInterviewExperience(testId, request, null);
+
+        // Assert
+        verify(companyStats, times(1)).recordPost("Google", entity.getCreatedAt(), -1);
+        verify(companyStats, times(1)).recordPost("Amazon", entity.getCreatedAt(), 1);
+    }
+
+    @Test
+    void updateInterviewExperience_WhenCompanyUnchanged_ShouldNotTouchCompanyStats() throws IOException {
+        // Arrange
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.updateInterviewExperience(testId, request, null);
+
+        // Assert
+        verifyNoInteractions(companyStats);
+    }
+
+    @Test
+    void deleteInterviewExperience_ShouldDecrementCompanyStats() {
+        // Arrange
+        entity.setImageName(null);
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+
+        // Act
+        service.deleteInterviewExperience(testId);
+
+        // Assert
+        verify(companyStats, times(1)).recordPost("Amazon", entity.getCreatedAt(), -1);
+    }
+
+    @Test
+    void getInterviewUpdatedAt_ShouldReadVersionWithoutMapping() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.now();
+        when(repository.findUpdatedAtById(testId)).thenReturn(Optional.of(updatedAt));
+
+        // Act & Assert
+        assertEquals(updatedAt, service.getInterviewUpdatedAt(testId));
+        verify(repository, never()).findById(any());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void getInterviewUpdatedAt_WhenNotFound_ShouldThrowException() {
+        // Arrange
+        when(repository.findUpdatedAtById(testId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> service.getInterviewUpdatedAt(testId));
+        assertEquals("Interview Experience not found", exception.getMessage());
+    }
+
+    @Test
+    void getListVersion_WhenRedisFails_ShouldReturnMinusOne() {
+        // Arrange
+        when(companyFeedVersions.currentGlobal()).thenThrow(new RuntimeException("Redis down"));
+
+        // Act & Assert
+        assertEquals(-1L, service.getListVersion());
+    }
+
+    @Test
+    void getCompanyFeedVersion_ShouldReturnCurrentVersion() {
+        // Arrange
+        when(companyFeedVersions.current("Amazon")).thenReturn(4L);
+
+        // Act & Assert
+        assertEquals(4L, service.getCompanyFeedVersion("Amazon"));
+    }
+
+    @Test
+    void exportInterviews_ShouldStreamWithInclusiveDayRangeAndCloseStream() throws IOException {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<InterviewExperienceResponse> rows = Stream.of(response).onClose(() -> closed.set(true));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(repository.streamForExport("Google", LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0)))
+                .thenReturn(rows);
+        when(exportWriter.write(rows, out)).thenReturn(1L);
+
+        // Act
+        long exported = service.exportInterviews("Google", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), out);
+
+        // Assert
+        assertEquals(1L, exported);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportInterviews_WithoutFilters_ShouldPassNulls() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(repository.streamForExport(null, null, null)).thenReturn(Stream.empty());
+
+        // Act
+        service.exportInterviews(" ", null, null, out);
+
+        // Assert
+        verify(repository, times(1)).streamForExport(null, null, null);
+        verify(exportWriter, times(1)).write(any(), eq(out));
+    }
+
+    @Test
+    void deleteInterviewExperiences_ShouldDeleteInOneStatementAndQueueImages() {
+        // Arrange
+        UUID missingId = UUID.randomUUID();
+        InterviewExperience withoutImage = InterviewExperience.builder()
+                .id(UUID.randomUUID())
+                .companyTag("Amazon")
+                .createdAt(entity.getCreatedAt())
+                .build();
+        Cache byId = mock(Cache.class);
+        when(repository.findAllById(any())).thenReturn(List.of(entity, withoutImage));
+        when(cacheManager.getCache(AppConstants.CACHE_INTERVIEW_BY_ID)).thenReturn(byId);
+
+        // Act
+        BulkDeleteResultDTO result = service.deleteInterviewExperiences(List.of(testId, withoutImage.getId(), missingId));
+
+        // Assert
+        assertEquals(2, result.getDeleted());
+        assertEquals(List.of(missingId), result.getNotFound());
+        assertTrue(result.getFailedImages().isEmpty());
+        verify(repository, times(1)).deleteAllByIdInBatch(argThat(ids -> ((Collection<UUID>) ids).size() == 2));
+        verify(imageDeletionOutbox, times(1)).saveAll(argThat((List<ImageDeletionOutbox> deletions) -> deletions.get(0).getImageUrl().equals(entity.getImageName())));
+        verify(imageReferences, times(1)).release(entity.getImageName());
+        verify(byId, times(1)).evict(testId);
+        verify(byId, times(1)).evict(withoutImage.getId());
+        verify(companyStats, times(1)).recordPost(eq("Amazon"), any(), eq(-2L));
+        verify(companyFeedVersions, times(1)).bump("Amazon");
+    }
+
+    @Test
+    void deleteInterviewExperiences_ShouldNotCallS3DuringRequest() {
+        // Arrange
+        when(repository.findAllById(any())).thenReturn(List.of(entity));
+
+        // Act
+        BulkDeleteResultDTO result = service.deleteInterviewExperiences(List.of(testId));
+
+        // Assert
+        assertEquals(1, result.getDeleted());
+        assertTrue(result.getFailedImages().isEmpty());
+        verify(repository, times(1)).deleteAllByIdInBatch(any());
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void deleteInterviewExperiences_WithNoIds_ShouldThrowIllegalArgument() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.deleteInterviewExperiences(List.of()));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void generateImageRenditions_ShouldSubmitStoredImageToPipeline() {
+        // Act
+        service.generateImageRenditions(response);
+
+        // Assert
+        verify(renditionPipeline, times(1)).submit(testId, response.getImageName(), "Amazon");
+    }
+
+    @Test
+    void updateInterviewExperience_WithNewImage_ShouldReplaceRenditions() throws IOException {
+        // Arrange
+        String oldThumbnail = entity.getImageName() + "_thumbnail.jpg";
+        entity.setImageRenditions(Map.of("thumbnail", oldThumbnail));
+        String newImageUrl = "https://s3.amazonaws.com/bucket/new-image.jpg";
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(repository.save(any(InterviewExperience.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.updateInterviewExperience(testId, request, newImageUrl);
+
+        // Assert
+        assertNull(entity.getImageRenditions());
+        verify(imageDeletionOutbox, times(1)).save(argThat(deletion -> deletion.getRenditions().containsValue(oldThumbnail)));
+        verify(renditionPipeline, times(1)).submit(testId, newImageUrl, "Amazon");
+    }
+
+    @Test
+    void updateInterviewExperience_WithoutNewImage_ShouldKeepRenditions() throws IOException {
+        // Arrange
+        Map<String, String> renditions = Map.of("thumbnail", entity.getImageName() + "_thumbnail.jpg");
+        entity.setImageRenditions(renditions);
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(repository.save(any(InterviewExperience.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.updateInterviewExperience(testId, request, null);
+
+        // Assert
+        assertEquals(renditions, entity.getImageRenditions());
+        verify(imageDeletionOutbox, never()).save(any());
+        verifyNoInteractions(renditionPipeline);
+    }
+
+    @Test
+    void deleteInterviewExperiences_ShouldQueueRenditionsWithImages() {
+        // Arrange
+        String thumbnail = entity.getImageName() + "_thumbnail.jpg";
+        entity.setImageRenditions(Map.of("thumbnail", thumbnail));
+        when(repository.findAllById(any())).thenReturn(List.of(entity));
+
+        // Act
+        BulkDeleteResultDTO result = service.deleteInterviewExperiences(List.of(testId));
+
+        // Assert
+        assertEquals(1, result.getDeleted());
+        verify(imageDeletionOutbox, times(1)).saveAll(argThat((List<ImageDeletionOutbox> deletions) -> {
+            ImageDeletionOutbox deletion = deletions.get(0);
+            return deletion.getImageUrl().equals(entity.getImageName()) && deletion.getRenditions().containsValue(thumbnail);
+        }));
+    }
+
+    @Test
+    void updateInterviewExperience_WithSameImageContent_ShouldKeepImageAndRenditions() throws IOException {
+        // Arrange
+        String imageUrl = entity.getImageName();
+        Map<String, String> renditions = Map.of("thumbnail", imageUrl + "_thumbnail.jpg");
+        entity.setImageRenditions(renditions);
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(repository.save(any(InterviewExperience.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        service.updateInterviewExperience(testId, request, imageUrl);
+
+        // Assert: the caller's reference is dropped, the experience keeps its own
+        assertEquals(renditions, entity.getImageRenditions());
+        verify(imageReferences, times(1)).release(imageUrl);
+        verify(imageDeletionOutbox, never()).save(any());
+        verifyNoInteractions(renditionPipeline);
+    }
+
+    @Test
+    void releaseImage_ShouldQueueDeletionWithoutCallingS3() {
+        // Arrange
+        String imageUrl = "https://s3.amazonaws.com/bucket/unused.jpg";
+
+        // Act
+        service.releaseImage(imageUrl);
+
+        // Assert
+        verify(imageReferences, times(1)).release(imageUrl);
+        verify(imageDeletionOutbox, times(1)).save(argThat(deletion ->
+                deletion.getImageUrl().equals(imageUrl) && deletion.getRenditions() == null));
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void retainImage_ShouldTakeAReference() {
+        // Arrange
+        String imageUrl = "https://s3.amazonaws.com/bucket/upload.jpg";
+
+        // Act
+        service.retainImage(imageUrl);
+
+        // Assert
+        verify(imageReferences, times(1)).retain(imageUrl);
+        verifyNoInteractions(imageDeletionOutbox, fileService);
+    }
 }
@@ -0,0 +1,267 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.SearchResponseDTO;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneSearchIndexTest {
+
+    @Mock
+    private InterviewExperienceRepository repository;
+
+    @TempDir
+    Path indexDir;
+
+    private LuceneSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new LuceneSearchIndex(repository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "indexPath", indexDir.toString());
+        ReflectionTestUtils.setField(index, "refreshInterval", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(index, "rebuildBatchSize", 2);
+        index.open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.destroy();
+    }
+
+    private static InterviewExperience experience(String title, String content, String company) {
+        return InterviewExperience.builder()
+                .id(UUID.randomUUID())
+                .userName("Jane Smith")
+                .userEmail("jane.smith@example.com")
+                .title(title)
+                .content(content)
+                .companyTag(company)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void index_ShouldMakeExperienceSearchableAfterRefresh() throws IOException {
+        // Arrange
+        InterviewExperience experience = experience("System design round", "Designed a URL shortener", "Google");
+
+        // Act
+        index.index(experience);
+        index.refresh();
+        SearchResponseDTO response = index.search("system design", null, 0, 10);
+
+        // Assert
+        assertEquals(1, response.getResults().size());
+        assertEquals(experience.getId(), response.getResults().get(0).getId());
+        assertEquals("Designed a URL shortener", response.getResults().get(0).getSnippet());
+        assertTrue(response.isLastPage());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void index_SameIdTwice_ShouldReplaceDocument() throws IOException {
+        // Arrange
+        InterviewExperience experience = experience("System design round", "Designed a URL shortener", "Google");
+        index.index(experience);
+        experience.setTitle("Behavioral round");
+
+        // Act
+        index.index(experience);
+        index.refresh();
+
+        // Assert
+        assertTrue(index.search("system", null, 0, 10).getResults().isEmpty());
+        assertEquals(1, index.search("behavioral", null, 0, 10).getResults().size());
+    }
+
+    @Test
+    void remove_ShouldDropExperienceFromResults() throws IOException {
+        // Arrange
+        InterviewExperience experience = experience("System design round", "Designed a URL shortener", "Google");
+        index.index(experience);
+
+        // Act
+        index.remove(experience.getId());
+        index.refresh();
+
+        // Assert
+        assertTrue(index.search("system design", null, 0, 10).getResults().isEmpty());
+    }
+
+    @Test
+    void search_WithCompany_ShouldMatchCaseAndWhitespaceInsensitively() throws IOException {
+        // Arrange
+        index.index(experience("System design round", "Rate limiter", "Google"));
+        index.index(experience("System design round", "Chat service", "Amazon"));
+        index.refresh();
+
+        // Act
+        SearchResponseDTO response = index.search("system design", "  google ", 0, 10);
+
+        // Assert
+        assertEquals(1, response.getResults().size());
+        assertEquals("Google", response.getResults().get(0).getCompanyTag());
+    }
+
+    @Test
+    void search_ShouldPageAndRankTitleMatchesFirst() throws IOException {
+        // Arrange
+        index.index(experience("Online assessment", "Graphs question, then a system design discussion", "Google"));
+        index.index(experience("System design round", "Rate limiter", "Google"));
+        index.refresh();
+
+        // Act
+        SearchResponseDTO first = index.search("system design", null, 0, 1);
+        SearchResponseDTO second = index.search("system design", null, 1, 1);
+
+        // Assert
+        assertEquals("System design round", first.getResults().get(0).getTitle());
+        assertFalse(first.isLastPage());
+        assertEquals("Online assessment", second.getResults().get(0).getTitle());
+        assertTrue(second.isLastPage());
+    }
+
+    @Test
+    void search_ShouldEscapeMarkupInTheSnippet() throws IOException {
+        // Arrange
+        index.index(experience("Frontend round", "<script>alert(1)</script> asked about rendering", "Google"));
+        index.refresh();
+
+        // Act
+        SearchResponseDTO response = index.search("rendering", null, 0, 10);
+
+        // Assert
+        assertEquals("&lt;script&gt;alert(1)&lt;/script&gt; asked about rendering", response.getResults().get(0).getSnippet());
+    }
+
+    @Test
+    void search_WithPageOutOfRange_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> index.search("system", null, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search("system", null, Integer.MAX_VALUE / 10, 10));
+    }
+
+    @Test
+    void search_WithInvalidSyntax_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> index.search("title:(unclosed", null, 0, 10));
+    }
+
+    @Test
+    void rebuild_ShouldReplaceIndexWithRepositoryContentsInBatches() throws IOException {
+        // Arrange
+        index.index(experience("Stale entry", "Deleted from the database", "Google"));
+        InterviewExperience kept = experience("System design round", "Rate limiter", "Google");
+        index.index(kept);
+        List<InterviewExperience> firstBatch = List.of(kept, experience("Coding round", "Two pointers", "Amazon"));
+        List<InterviewExperience> secondBatch = List.of(experience("Behavioral round", "Leadership principles", "Amazon"));
+        when(repository.findFirstBatch(PageRequest.of(0, 2))).thenReturn(firstBatch);
+        when(repository.findBatchAfter(firstBatch.get(1).getId(), PageRequest.of(0, 2))).thenReturn(secondBatch);
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertEquals(3.0, index.documentCount());
+        assertTrue(index.search("stale", null, 0, 10).getResults().isEmpty());
+        assertEquals(1, index.search("rate limiter", null, 0, 10).getResults().size());
+        assertEquals(1, index.search("leadership", null, 0, 10).getResults().size());
+        assertTrue(index.sizeInBytes() > 0);
+        verify(repository, times(1)).findBatchAfter(any(), any());
+    }
+
+    @Test
+    void index_DuringRebuild_ShouldSurviveTheStaleSweep() throws IOException {
+        // Arrange
+        InterviewExperience written = experience("Written meanwhile", "Created while the rebuild ran", "Google");
+        when(repository.findFirstBatch(any())).thenAnswer(invocation -> {
+            index.index(written);
+            return List.of();
+        });
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertEquals(1, index.search("meanwhile", null, 0, 10).getResults().size());
+    }
+
+    @Test
+    void remove_DuringRebuild_ShouldNotBeUndoneByTheRebuild() throws IOException {
+        // Arrange
+        InterviewExperience deleted = experience("Deleted meanwhile", "Removed while the rebuild ran", "Google");
+        when(repository.findFirstBatch(any())).thenAnswer(invocation -> {
+            index.remove(deleted.getId());
+            return List.of(deleted);
+        });
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertTrue(index.search("meanwhile", null, 0, 10).getResults().isEmpty());
+    }
+
+    @Test
+    void catchUp_ShouldDropExperiencesDeletedThroughAnotherInstance() throws IOException {
+        // Arrange
+        index.index(experience("Deleted elsewhere", "Removed through another instance", "Google"));
+        index.refresh();
+        when(repository.findFirstBatch(any())).thenReturn(List.of());
+
+        // Act
+        index.catchUp();
+
+        // Assert
+        assertTrue(index.search("elsewhere", null, 0, 10).getResults().isEmpty());
+    }
+
+    @Test
+    void catchUp_WhenDatabaseFails_ShouldKeepServingTheCurrentIndex() throws IOException {
+        // Arrange
+        index.index(experience("System design round", "Rate limiter", "Google"));
+        index.refresh();
+        when(repository.findFirstBatch(any())).thenThrow(new RuntimeException("connection refused"));
+
+        // Act
+        index.catchUp();
+
+        // Assert
+        assertEquals(1, index.search("rate limiter", null, 0, 10).getResults().size());
+    }
+
+    @Test
+    void disabledIndex_ShouldIgnoreWritesAndRejectSearches() {
+        // Arrange
+        LuceneSearchIndex disabled = new LuceneSearchIndex(repository);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> disabled.index(experience("System design round", "Rate limiter", "Google")));
+        assertDoesNotThrow(() -> disabled.remove(UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> disabled.search("system", null, 0, 10));
+        assertFalse(disabled.isEnabled());
+    }
+}
@@ -0,0 +1,89 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonExportWriterTest {
+
+    private ObjectMapper objectMapper;
+    private NdjsonExportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = new NdjsonExportWriter(objectMapper);
+    }
+
+    @Test
+    void write_ShouldEmitOneJsonObjectPerLine() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Stream<InterviewExperienceResponse> rows = IntStream.range(0, 3).mapToObj(this::row);
+
+        // Act
+        long written = writer.write(rows, out);
+
+        // Assert
+        assertEquals(3, written);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode node = objectMapper.readTree(lines[i]);
+            assertEquals("Title " + i, node.get("title").asText());
+            assertEquals("2025-01-01T10:00:00", node.get("createdAt").asText());
+        }
+    }
+
+    @Test
+    void write_WithNoRows_ShouldWriteNothing() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long written = writer.write(Stream.empty(), out);
+
+        // Assert
+        assertEquals(0, written);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void write_ShouldLeaveTargetStreamOpen() throws IOException {
+        // Arrange
+        boolean[] closed = {false};
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        // Act
+        writer.write(Stream.of(row(0)), out);
+
+        // Assert
+        assertFalse(closed[0]);
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    private InterviewExperienceResponse row(int i) {
+        LocalDateTime at = LocalDateTime.of(2025, 1, 1, 10, 0);
+        return new InterviewExperienceResponse(UUID.randomUUID(), "User " + i, "user" + i + "@example.com",
+                "Title " + i, null, "Content " + i, "Google", at, at, null);
+    }
+}
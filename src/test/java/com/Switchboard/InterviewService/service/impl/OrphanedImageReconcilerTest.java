@@ -0,0 +1,244 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.dto.OrphanedImageReportDTO;
+import com.Switchboard.InterviewService.dto.StoredImageDTO;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanedImageReconcilerTest {
+
+    private static final String PREFIX = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/";
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(3));
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private InterviewExperienceRepository experienceRepository;
+
+    @Mock
+    private ImageReferences imageReferences;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrphanedImageReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new OrphanedImageReconciler(fileService, experienceRepository, imageReferences, transactionManager);
+        ReflectionTestUtils.setField(reconciler, "pageSize", 1000);
+        ReflectionTestUtils.setField(reconciler, "lookupChunk", 2);
+        ReflectionTestUtils.setField(reconciler, "gracePeriod", Duration.ofDays(1));
+        ReflectionTestUtils.setField(reconciler, "dryRun", false);
+    }
+
+    private static StoredImageDTO stored(String name, long size, Instant lastModified) {
+        return new StoredImageDTO(PREFIX + name, size, lastModified);
+    }
+
+    @SafeVarargs
+    private void listPages(List<StoredImageDTO>... pages) {
+        doAnswer(invocation -> {
+            Consumer<List<StoredImageDTO>> consumer = invocation.getArgument(2);
+            for (List<StoredImageDTO> page : pages) {
+                consumer.accept(page);
+            }
+            return null;
+        }).when(fileService).listImages(eq(AppConstants.PATH_VARIABLE), eq(1000), any());
+    }
+
+    private void referenced(String... names) {
+        List<String> urls = Arrays.stream(names).map(name -> PREFIX + name).toList();
+        when(experienceRepository.findReferencedImageNames(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> asked = invocation.getArgument(0);
+            return asked.stream().filter(urls::contains).toList();
+        });
+    }
+
+    // Under the lock every image is still unreferenced, except those named here
+    private void referencedUnderLock(String... names) {
+        List<String> urls = Arrays.stream(names).map(name -> PREFIX + name).toList();
+        when(imageReferences.lockUnreferenced(anyCollection())).thenAnswer(invocation -> {
+            Set<String> unreferenced = new LinkedHashSet<>(invocation.<Collection<String>>getArgument(0));
+            urls.forEach(unreferenced::remove);
+            return unreferenced;
+        });
+    }
+
+    @Test
+    void reconcile_ShouldDeleteUnreferencedImagesAndReportReclaimedBytes() {
+        // Arrange
+        listPages(
+                List.of(stored("kept.jpg", 100, OLD), stored("orphan.jpg", 200, OLD)),
+                List.of(stored("orphan.png", 300, OLD)));
+        referenced("kept.jpg");
+        referencedUnderLock();
+        when(fileService.deleteImages(anyCollection())).thenReturn(Map.of());
+
+        // Act
+        OrphanedImageReportDTO report = reconciler.reconcile();
+
+        // Assert
+        assertEquals(3, report.getScanned());
+        assertEquals(2, report.getOrphaned());
+        assertEquals(2, report.getDeleted());
+        assertEquals(500, report.getReclaimedBytes());
+        assertEquals(0, report.getFailed());
+        verify(fileService, times(1)).deleteImages(List.of(PREFIX + "orphan.jpg"));
+        verify(fileService, times(1)).deleteImages(List.of(PREFIX + "orphan.png"));
+    }
+
+    @Test
+    void reconcile_ShouldSkipObjectsInsideGracePeriod() {
+        // Arrange
+        listPages(List.of(stored("fresh.jpg", 100, Instant.now().minus(Duration.ofMinutes(5)))));
+
+        // Act
+        OrphanedImageReportDTO report = reconciler.reconcile();
+
+        // Assert
+        assertEquals(1, report.getScanned());
+        assertEquals(0, report.getOrphaned());
+        verifyNoInteractions(experienceRepository, imageReferences);
+        verify(fileService, never()).deleteImages(any());
+    }
+
+    @Test
+    void reconcile_ShouldKeepRenditionsOfReferencedImages() {
+        // Arrange
+        listPages(List.of(
+                stored("abc.jpg", 100, OLD),
+                stored("abc.jpg_thumbnail.jpg", 10, OLD),
+                stored("abc.jpg_medium.webp", 20, OLD),
+                stored("gone.jpg_thumbnail.png", 30, OLD)));
+        referenced("abc.jpg");
+        referencedUnderLock();
+        when(fileService.deleteImages(anyCollection())).thenReturn(Map.of());
+
+        // Act
+        OrphanedImageReportDTO report = reconciler.reconcile();
+
+        // Assert
+        assertEquals(1, report.getDeleted());
+        assertEquals(30, report.getReclaimedBytes());
+        verify(fileService, times(1)).deleteImages(List.of(PREFIX + "gone.jpg_thumbnail.png"));
+    }
+
+    @Test
+    void reconcile_ShouldLookUpReferencesInBoundedChunks() {
+        // Arrange
+        listPages(List.of(stored("a.jpg", 1, OLD), stored("b.jpg", 1, OLD), stored("c.jpg", 1, OLD)));
+        referenced("a.jpg", "b.jpg", "c.jpg");
+
+        // Act
+        OrphanedImageReportDTO report = reconciler.reconcile();
+
+        // Assert
+        assertEquals(0, report.getOrphaned());
+        verify(experienceRepository, times(2)).findReferencedImageNames(argThat(names -> names.size() <= 2));
+        verify(fileService, never()).deleteImages(any());
+    }
+
+    @Test
+    void reconcile_InDryRun_ShouldCountWithoutDeleting() {
+        // Arrange
+        ReflectionTestUtils.setField(reconciler, "dryRun", true);
+        listPages(List.of(stored("orphan.jpg", 200, OLD)));
+        referenced();
+
+        // Act
+        OrphanedImageReportDTO report = reconciler.reconcile();
+
+        // Assert
+        assertTrue(report.isDryRun());
+        assertEquals(1, report.getOrphaned());
+        assertEquals(0, report.getDeleted());
+        verify(fileService, never()).deleteImages(any());
+        verifyNoInteractions(imageReferences);
+    }
+
+    @Test
+    void reconcile_WhenSomeDeletionsFail_ShouldReportThemAndContinue() {
+        // Arrange
+        listPages(
+                List.of(stored("a.jpg", 100, OLD), stored("b.jpg", 200, OLD)),
+                List.of(stored("c.jpg", 300, OLD)));
+        referenced();
+        referencedUnderLock();
+        when(fileService.deleteImages(List.of(PREFIX + "a.jpg", PREFIX + "b.jpg"))).thenReturn(Map.of(PREFIX + "b.jpg", "AccessDenied"));
+        when(fileService.deleteImages(List.of(PREFIX + "c.jpg"))).thenThrow(new RuntimeException("S3 unavailable"));
+
+        // Act
+        OrphanedImageReportDTO report = reconciler.reconcile();
+
+        // Assert
+        assertEquals(3, report.getOrphaned());
+        assertEquals(1, report.getDeleted());
+        assertEquals(100, report.getReclaimedBytes());
+        assertEquals(2, report.getFailed());
+    }
+
+    @Test
+    void reconcile_ShouldDeleteWhileTheReferenceCountsAreLocked() {
+        // Arrange
+        listPages(List.of(stored("orphan.jpg", 200, OLD), stored("gone.jpg_thumbnail.png", 30, OLD)));
+        referenced();
+        referencedUnderLock();
+        when(fileService.deleteImages(anyCollection())).thenReturn(Map.of());
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        InOrder inOrder = inOrder(transactionManager, imageReferences, fileService);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(imageReferences).lockUnreferenced(Set.of(PREFIX + "orphan.jpg", PREFIX + "gone.jpg"));
+        inOrder.verify(fileService).deleteImages(List.of(PREFIX + "orphan.jpg", PREFIX + "gone.jpg_thumbnail.png"));
+        inOrder.verify(imageReferences).forget(Set.of(PREFIX + "orphan.jpg", PREFIX + "gone.jpg"));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void reconcile_WhenImageIsReferencedAgainBeforeTheLock_ShouldKeepIt() {
+        // Arrange
+        listPages(List.of(stored("reused.jpg", 100, OLD), stored("reused.jpg_thumbnail.jpg", 10, OLD), stored("orphan.jpg", 200, OLD)));
+        referenced();
+        referencedUnderLock("reused.jpg");
+        when(fileService.deleteImages(anyCollection())).thenReturn(Map.of());
+
+        // Act
+        OrphanedImageReportDTO report = reconciler.reconcile();
+
+        // Assert
+        assertEquals(1, report.getOrphaned());
+        assertEquals(1, report.getDeleted());
+        assertEquals(200, report.getReclaimedBytes());
+        verify(fileService, times(1)).deleteImages(List.of(PREFIX + "orphan.jpg"));
+        verify(fileService, never()).deleteImages(argThat(urls -> urls.contains(PREFIX + "reused.jpg")));
+    }
+}